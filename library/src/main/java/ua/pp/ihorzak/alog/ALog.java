@@ -18,6 +18,7 @@ package ua.pp.ihorzak.alog;
 
 import android.app.Application;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -33,9 +34,6 @@ import java.util.Map;
 public final class ALog {
     private ALog() {}
 
-    private static ALogConfiguration configuration = null;
-    private static ALogger logger = null;
-
     /**
      * Initializes {@link ALog} with configuration. In most cases it should be called once in
      * {@link Application#onCreate()} method.
@@ -44,8 +42,131 @@ public final class ALog {
      *                      with default configuration.
      */
     public static void initialize(ALogConfiguration configuration) {
-        ALog.configuration = configuration != null ? configuration : ALogConfiguration.builder().build();
-        logger = ALog.configuration.mIsEnabled ? new ConfigurationALogger(ALog.configuration) : StubALoggerProvider.INSTANCE.mLogger;
+        if (configuration == null) {
+            configuration = ALogConfiguration.builder().build();
+        }
+        ALogState.initialize(configuration, createLogger(configuration));
+    }
+
+    /**
+     * Checks if logging messages with specified logging level are sent with the current
+     * configuration. It is a cheap check, which can be used to skip building of expensive
+     * diagnostic data, for example in loops. Minimal level override for the configured log tag
+     * is taken into account, while class overrides and tag overrides of automatically resolved
+     * log tags aren't, because caller is not known here.
+     *
+     * @param level Logging level. See {@link ALogLevel}.
+     * @return true if logging messages with specified logging level are sent, false otherwise.
+     */
+    public static boolean isLoggable(ALogLevel level) {
+        return (ALogState.get().mLoggableLevelMask & level.mMask) != 0;
+    }
+
+    /**
+     * Overrides minimal logging level of {@link ALogConfiguration} at runtime, for example to turn
+     * verbose logging on without reinitialization. Override is applied to all {@link ALogger}
+     * instances got from {@link ALog}, including previously got ones, until
+     * {@link #initialize(ALogConfiguration)} or {@link #resetRuntimeOverrides()} is called.
+     * Override can't enable logging if it is disabled in {@link ALogConfiguration}. Override
+     * takes precedence over per-tag and per-class minimal level overrides of
+     * {@link ALogConfiguration}, which are ignored while it is set.
+     *
+     * @param minimalLevel Minimal logging level. See {@link ALogLevel}. If null configured minimal
+     *                     logging level is used.
+     */
+    public static void setMinimalLevel(ALogLevel minimalLevel) {
+        getState();
+        ALogState.update(state -> state.withMinimalLevel(minimalLevel));
+    }
+
+    /**
+     * Enables/disables output of logging messages to logcat at runtime. Override is applied to all
+     * {@link ALogger} instances got from {@link ALog}, including previously got ones, until
+     * {@link #initialize(ALogConfiguration)} or {@link #resetRuntimeOverrides()} is called.
+     *
+     * @param isLogcatOutputEnabled true if logging messages should be sent to logcat,
+     *                              false otherwise.
+     */
+    public static void setLogcatOutputEnabled(boolean isLogcatOutputEnabled) {
+        getState();
+        ALogState.update(state -> state.withPrinterEnabled(ALogState.PRINTER_LOGCAT, isLogcatOutputEnabled));
+    }
+
+    /**
+     * Enables/disables output of logging messages to file configured via
+     * {@link ALogConfiguration.Builder#file(ALogFileConfiguration)} at runtime. Override is
+     * applied to all {@link ALogger} instances got from {@link ALog}, including previously got
+     * ones, until {@link #initialize(ALogConfiguration)} or {@link #resetRuntimeOverrides()} is
+     * called.
+     *
+     * @param isFileOutputEnabled true if logging messages should be written to file,
+     *                            false otherwise.
+     */
+    public static void setFileOutputEnabled(boolean isFileOutputEnabled) {
+        getState();
+        ALogState.update(state -> state.withPrinterEnabled(ALogState.PRINTER_FILE, isFileOutputEnabled));
+    }
+
+    /**
+     * Overrides thread prefix option of {@link ALogConfiguration} at runtime. Override is applied
+     * to all {@link ALogger} instances got from {@link ALog}, including previously got ones, until
+     * {@link #initialize(ALogConfiguration)} or {@link #resetRuntimeOverrides()} is called.
+     *
+     * @param isThreadPrefixEnabled true if thread prefix should be added to logging messages,
+     *                              false otherwise.
+     */
+    public static void setThreadPrefixEnabled(boolean isThreadPrefixEnabled) {
+        getState();
+        ALogState.update(state -> state.withPrefixEnabled(ALogState.PREFIX_THREAD, isThreadPrefixEnabled));
+    }
+
+    /**
+     * Overrides class prefix option of {@link ALogConfiguration} at runtime. Override is applied
+     * to all {@link ALogger} instances got from {@link ALog}, including previously got ones, until
+     * {@link #initialize(ALogConfiguration)} or {@link #resetRuntimeOverrides()} is called.
+     *
+     * @param isClassPrefixEnabled true if class prefix should be added to logging messages,
+     *                             false otherwise.
+     */
+    public static void setClassPrefixEnabled(boolean isClassPrefixEnabled) {
+        getState();
+        ALogState.update(state -> state.withPrefixEnabled(ALogState.PREFIX_CLASS, isClassPrefixEnabled));
+    }
+
+    /**
+     * Overrides method prefix option of {@link ALogConfiguration} at runtime. Override is applied
+     * to all {@link ALogger} instances got from {@link ALog}, including previously got ones, until
+     * {@link #initialize(ALogConfiguration)} or {@link #resetRuntimeOverrides()} is called.
+     *
+     * @param isMethodPrefixEnabled true if method prefix should be added to logging messages,
+     *                              false otherwise.
+     */
+    public static void setMethodPrefixEnabled(boolean isMethodPrefixEnabled) {
+        getState();
+        ALogState.update(state -> state.withPrefixEnabled(ALogState.PREFIX_METHOD, isMethodPrefixEnabled));
+    }
+
+    /**
+     * Overrides line location prefix option of {@link ALogConfiguration} at runtime. Override is
+     * applied to all {@link ALogger} instances got from {@link ALog}, including previously got
+     * ones, until {@link #initialize(ALogConfiguration)} or {@link #resetRuntimeOverrides()} is
+     * called.
+     *
+     * @param isLineLocationPrefixEnabled true if line location prefix should be added to logging
+     *                                    messages, false otherwise.
+     */
+    public static void setLineLocationPrefixEnabled(boolean isLineLocationPrefixEnabled) {
+        getState();
+        ALogState.update(state -> state.withPrefixEnabled(ALogState.PREFIX_LINE_LOCATION, isLineLocationPrefixEnabled));
+    }
+
+    /**
+     * Resets all runtime overrides, so {@link ALogConfiguration} passed to
+     * {@link #initialize(ALogConfiguration)} is used as is.
+     */
+    public static void resetRuntimeOverrides() {
+        getState();
+        ALogState.update(ALogState::withoutOverrides);
     }
 
     /**
@@ -55,14 +176,12 @@ public final class ALog {
      * @return {@link ALogger} instance with specified log tag.
      */
     public static ALogger t(String tag) {
-        verifyInitialization();
-        if (configuration == null) {
-            return StubALoggerProvider.INSTANCE.mLogger;
-        }
+        ALogState state = getState();
+        ALogConfiguration configuration = state.mConfiguration;
         if (configuration.mIsEnabled && !Utils.equals(configuration.mTag, tag)) {
-            return new ConfigurationALogger(configuration.copyBuilder().tag(tag).build());
+            return state.mLoggerCache.get(configuration, new ALogLoggerCache.Key(ALogLoggerCache.TYPE_TAG, tag, 0, null, null));
         } else {
-            return logger;
+            return state.mLogger;
         }
     }
 
@@ -75,14 +194,13 @@ public final class ALog {
      *         logging messages.
      */
     public static ALogger st(int stackTraceLineCount) {
-        verifyInitialization();
-        if (configuration == null) {
-            return StubALoggerProvider.INSTANCE.mLogger;
-        }
+        ALogState state = getState();
+        ALogConfiguration configuration = state.mConfiguration;
         if (configuration.mIsEnabled && configuration.mStackTraceLineCount != stackTraceLineCount) {
-            return new ConfigurationALogger(configuration.copyBuilder().stackTraceLineCount(stackTraceLineCount).build());
+            return state.mLoggerCache.get(configuration,
+                    new ALogLoggerCache.Key(ALogLoggerCache.TYPE_STACK_TRACE, null, stackTraceLineCount, null, null));
         } else {
-            return logger;
+            return state.mLogger;
         }
     }
 
@@ -96,14 +214,13 @@ public final class ALog {
      *         logging messages and uses specified log tag.
      */
     public static ALogger tst(String tag, int stackTraceLineCount) {
-        verifyInitialization();
-        if (configuration == null) {
-            return StubALoggerProvider.INSTANCE.mLogger;
-        }
+        ALogState state = getState();
+        ALogConfiguration configuration = state.mConfiguration;
         if (configuration.mIsEnabled && (!Utils.equals(configuration.mTag, tag) || configuration.mStackTraceLineCount != stackTraceLineCount)) {
-            return new ConfigurationALogger(configuration.copyBuilder().tag(tag).stackTraceLineCount(stackTraceLineCount).build());
+            return state.mLoggerCache.get(configuration,
+                    new ALogLoggerCache.Key(ALogLoggerCache.TYPE_TAG_STACK_TRACE, tag, stackTraceLineCount, null, null));
         } else {
-            return logger;
+            return state.mLogger;
         }
     }
 
@@ -116,26 +233,16 @@ public final class ALog {
      *         (prefixes and stack trace lines) with logging messages.
      */
     public static ALogger b() {
-        verifyInitialization();
-        if (configuration == null) {
-            return StubALoggerProvider.INSTANCE.mLogger;
-        }
+        ALogState state = getState();
+        ALogConfiguration configuration = state.mConfiguration;
         if (configuration.mIsEnabled &&
                 (configuration.mIsThreadPrefixEnabled || configuration.mIsClassPrefixEnabled
                         || configuration.mIsMethodPrefixEnabled || configuration.mIsLineLocationPrefixEnabled
                         || configuration.mStackTraceLineCount > 0)
         ) {
-            return new ConfigurationALogger(
-                    configuration.copyBuilder()
-                            .threadPrefixEnabled(false)
-                            .classPrefixEnabled(false)
-                            .methodPrefixEnabled(false)
-                            .lineLocationPrefixEnabled(false)
-                            .stackTraceLineCount(0)
-                            .build()
-            );
+            return state.mLoggerCache.get(configuration, new ALogLoggerCache.Key(ALogLoggerCache.TYPE_BARE, null, 0, null, null));
         } else {
-            return logger;
+            return state.mLogger;
         }
     }
 
@@ -150,10 +257,8 @@ public final class ALog {
      *         (prefixes and stack trace lines) with logging messages and uses specified log tag.
      */
     public static ALogger tb(String tag) {
-        verifyInitialization();
-        if (configuration == null) {
-            return StubALoggerProvider.INSTANCE.mLogger;
-        }
+        ALogState state = getState();
+        ALogConfiguration configuration = state.mConfiguration;
         if (configuration.mIsEnabled &&
                 (!Utils.equals(configuration.mTag, tag) ||
                         (configuration.mIsThreadPrefixEnabled || configuration.mIsClassPrefixEnabled
@@ -162,18 +267,9 @@ public final class ALog {
                 )
 
         ) {
-            return new ConfigurationALogger(
-                    configuration.copyBuilder()
-                            .tag(tag)
-                            .threadPrefixEnabled(false)
-                            .classPrefixEnabled(false)
-                            .methodPrefixEnabled(false)
-                            .lineLocationPrefixEnabled(false)
-                            .stackTraceLineCount(0)
-                            .build()
-            );
+            return state.mLoggerCache.get(configuration, new ALogLoggerCache.Key(ALogLoggerCache.TYPE_TAG_BARE, tag, 0, null, null));
         } else {
-            return logger;
+            return state.mLogger;
         }
     }
 
@@ -187,14 +283,13 @@ public final class ALog {
      *         the help of passed {@link ALogFormatter} instance.
      */
     public static ALogger formatter(Class<?> clazz, ALogFormatter<?> formatter) {
-        verifyInitialization();
-        if (configuration == null) {
-            return StubALoggerProvider.INSTANCE.mLogger;
-        }
+        ALogState state = getState();
+        ALogConfiguration configuration = state.mConfiguration;
         if (configuration.mIsEnabled) {
-            return new ConfigurationALogger(configuration.copyBuilder().formatter(clazz, formatter).build());
+            return state.mLoggerCache.get(configuration,
+                    new ALogLoggerCache.Key(ALogLoggerCache.TYPE_FORMATTER, null, 0, clazz, formatter));
         } else {
-            return logger;
+            return state.mLogger;
         }
     }
 
@@ -208,18 +303,14 @@ public final class ALog {
      */
     @SuppressWarnings({"SpellCheckingInspection", "RedundantSuppression"})
     public static ALogger formatters(Map<Class<?>, ALogFormatter<?>> formatterMap) {
-        verifyInitialization();
-        if (configuration == null) {
-            return StubALoggerProvider.INSTANCE.mLogger;
-        }
+        ALogState state = getState();
+        ALogConfiguration configuration = state.mConfiguration;
         if (configuration.mIsEnabled) {
-            ALogConfiguration.Builder builder = configuration.copyBuilder();
-            for (Map.Entry<Class<?>, ALogFormatter<?>> formatterEntry : formatterMap.entrySet()) {
-                builder.formatter(formatterEntry.getKey(), formatterEntry.getValue());
-            }
-            return new ConfigurationALogger(builder.build());
+            // Passed map can be changed by caller later, so its copy is used as cache key
+            return state.mLoggerCache.get(configuration,
+                    new ALogLoggerCache.Key(ALogLoggerCache.TYPE_FORMATTERS, null, 0, new HashMap<>(formatterMap), null));
         } else {
-            return logger;
+            return state.mLogger;
         }
     }
 
@@ -227,9 +318,8 @@ public final class ALog {
      * Sends empty {@link ALogLevel#VERBOSE} logging message.
      */
     public static void v() {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.VERBOSE) >= 0) {
-            logger.v();
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            getLogger().v();
         }
     }
 
@@ -239,9 +329,8 @@ public final class ALog {
      * @param object Object to log.
      */
     public static void v(Object object) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.VERBOSE) >= 0) {
-            logger.v(object);
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            getLogger().v(object);
         }
     }
 
@@ -252,424 +341,1459 @@ public final class ALog {
      * @param args Arguments for format string in message.
      */
     public static void v(String message, Object... args) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.VERBOSE) >= 0) {
-            logger.v(message, args);
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            getLogger().v(message, args);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#VERBOSE} logging message.
+     * Sends {@link ALogLevel#VERBOSE} logging message. No arguments array is allocated.
      *
-     * @param throwable {@link Throwable} to log.
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
      */
-    public static void v(Throwable throwable) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.VERBOSE) >= 0) {
-            logger.v(throwable);
+    public static void v(String message, Object arg) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            getLogger().v(message, arg);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#VERBOSE} logging message.
+     * Sends {@link ALogLevel#VERBOSE} logging message. Argument is passed without boxing.
      *
-     * @param throwable {@link Throwable} to log.
      * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
-     * @param args Arguments for format string in message.
+     * @param arg Argument for format string in message.
      */
-    public static void v(Throwable throwable, String message, Object... args) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.VERBOSE) >= 0) {
-            logger.v(throwable, message, args);
+    public static void v(String message, boolean arg) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            getLogger().v(message, arg);
         }
     }
 
     /**
-     * Sends empty {@link ALogLevel#DEBUG} logging message.
+     * Sends {@link ALogLevel#VERBOSE} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
      */
-    public static void d() {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.DEBUG) >= 0) {
-            logger.d();
+    public static void v(String message, char arg) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            getLogger().v(message, arg);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#DEBUG} logging message.
+     * Sends {@link ALogLevel#VERBOSE} logging message. Argument is passed without boxing.
      *
-     * @param object Object to log.
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
      */
-    public static void d(Object object) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.DEBUG) >= 0) {
-            logger.d(object);
+    public static void v(String message, byte arg) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            getLogger().v(message, arg);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#DEBUG} logging message.
+     * Sends {@link ALogLevel#VERBOSE} logging message. Argument is passed without boxing.
      *
      * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
-     * @param args Arguments for format string in message.
+     * @param arg Argument for format string in message.
      */
-    public static void d(String message, Object... args) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.DEBUG) >= 0) {
-            logger.d(message, args);
+    public static void v(String message, short arg) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            getLogger().v(message, arg);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#DEBUG} logging message.
+     * Sends {@link ALogLevel#VERBOSE} logging message. Argument is passed without boxing.
      *
-     * @param throwable {@link Throwable} to log.
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
      */
-    public static void d(Throwable throwable) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.DEBUG) >= 0) {
-            logger.d(throwable);
+    public static void v(String message, int arg) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            getLogger().v(message, arg);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#DEBUG} logging message.
+     * Sends {@link ALogLevel#VERBOSE} logging message. Argument is passed without boxing.
      *
-     * @param throwable {@link Throwable} to log.
      * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
-     * @param args Arguments for format string in message.
+     * @param arg Argument for format string in message.
      */
-    public static void d(Throwable throwable, String message, Object... args) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.DEBUG) >= 0) {
-            logger.d(throwable, message, args);
+    public static void v(String message, long arg) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            getLogger().v(message, arg);
         }
     }
 
     /**
-     * Sends empty {@link ALogLevel#INFO} logging message.
+     * Sends {@link ALogLevel#VERBOSE} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
      */
-    public static void i() {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.INFO) >= 0) {
-            logger.i();
+    public static void v(String message, float arg) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            getLogger().v(message, arg);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#INFO} logging message.
+     * Sends {@link ALogLevel#VERBOSE} logging message. Argument is passed without boxing.
      *
-     * @param object Object to log.
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
      */
-    public static void i(Object object) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.INFO) >= 0) {
-            logger.i(object);
+    public static void v(String message, double arg) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            getLogger().v(message, arg);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#INFO} logging message.
+     * Sends {@link ALogLevel#VERBOSE} logging message. No arguments array is allocated.
      *
      * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
-     * @param args Arguments for format string in message.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
      */
-    public static void i(String message, Object... args) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.INFO) >= 0) {
-            logger.i(message, args);
+    public static void v(String message, Object arg1, Object arg2) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            getLogger().v(message, arg1, arg2);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#INFO} logging message.
+     * Sends {@link ALogLevel#VERBOSE} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     */
+    public static void v(String message, Object arg1, Object arg2, Object arg3) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            getLogger().v(message, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#VERBOSE} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     * @param arg4 Fourth argument for format string in message.
+     */
+    public static void v(String message, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            getLogger().v(message, arg1, arg2, arg3, arg4);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#VERBOSE} logging message.
      *
      * @param throwable {@link Throwable} to log.
      */
-    public static void i(Throwable throwable) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.INFO) >= 0) {
-            logger.i(throwable);
+    public static void v(Throwable throwable) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            getLogger().v(throwable);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#INFO} logging message.
+     * Sends {@link ALogLevel#VERBOSE} logging message.
      *
      * @param throwable {@link Throwable} to log.
      * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
      * @param args Arguments for format string in message.
      */
-    public static void i(Throwable throwable, String message, Object... args) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.INFO) >= 0) {
-            logger.i(throwable, message, args);
+    public static void v(Throwable throwable, String message, Object... args) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            getLogger().v(throwable, message, args);
         }
     }
 
     /**
-     * Sends empty {@link ALogLevel#WARNING} logging message.
+     * Sends {@link ALogLevel#VERBOSE} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#VERBOSE} logging messages are not filtered out.
+     *
+     * @param supplier Logging message supplier.
      */
-    public static void w() {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.WARNING) >= 0) {
-            logger.w();
+    public static void v(ALogMessageSupplier supplier) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            getLogger().v(supplier);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#WARNING} logging message.
+     * Sends {@link ALogLevel#VERBOSE} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#VERBOSE} logging messages are not filtered out.
+     *
+     * @param throwable {@link Throwable} to log.
+     * @param supplier Logging message supplier.
+     */
+    public static void v(Throwable throwable, ALogMessageSupplier supplier) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            getLogger().v(throwable, supplier);
+        }
+    }
+
+    /**
+     * Sends empty {@link ALogLevel#DEBUG} logging message.
+     */
+    public static void d() {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            getLogger().d();
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#DEBUG} logging message.
      *
      * @param object Object to log.
      */
-    public static void w(Object object) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.WARNING) >= 0) {
-            logger.w(object);
+    public static void d(Object object) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            getLogger().d(object);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#WARNING} logging message.
+     * Sends {@link ALogLevel#DEBUG} logging message.
      *
      * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
      * @param args Arguments for format string in message.
      */
-    public static void w(String message, Object... args) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.WARNING) >= 0) {
-            logger.w(message, args);
+    public static void d(String message, Object... args) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            getLogger().d(message, args);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#WARNING} logging message.
+     * Sends {@link ALogLevel#DEBUG} logging message. No arguments array is allocated.
      *
-     * @param throwable {@link Throwable} to log.
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
      */
-    public static void w(Throwable throwable) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.WARNING) >= 0) {
-            logger.w(throwable);
+    public static void d(String message, Object arg) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            getLogger().d(message, arg);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#WARNING} logging message.
+     * Sends {@link ALogLevel#DEBUG} logging message. Argument is passed without boxing.
      *
-     * @param throwable {@link Throwable} to log.
      * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
-     * @param args Arguments for format string in message.
+     * @param arg Argument for format string in message.
      */
-    public static void w(Throwable throwable, String message, Object... args) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.WARNING) >= 0) {
-            logger.w(throwable, message, args);
+    public static void d(String message, boolean arg) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            getLogger().d(message, arg);
         }
     }
 
     /**
-     * Sends empty {@link ALogLevel#ERROR} logging message.
+     * Sends {@link ALogLevel#DEBUG} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
      */
-    public static void e() {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.ERROR) >= 0) {
-            logger.e();
+    public static void d(String message, char arg) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            getLogger().d(message, arg);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#ERROR} logging message.
+     * Sends {@link ALogLevel#DEBUG} logging message. Argument is passed without boxing.
      *
-     * @param object Object to log.
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
      */
-    public static void e(Object object) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.ERROR) >= 0) {
-            logger.e(object);
+    public static void d(String message, byte arg) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            getLogger().d(message, arg);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#ERROR} logging message.
+     * Sends {@link ALogLevel#DEBUG} logging message. Argument is passed without boxing.
      *
      * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
-     * @param args Arguments for format string in message.
+     * @param arg Argument for format string in message.
      */
-    public static void e(String message, Object... args) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.ERROR) >= 0) {
-            logger.e(message, args);
+    public static void d(String message, short arg) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            getLogger().d(message, arg);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#ERROR} logging message.
+     * Sends {@link ALogLevel#DEBUG} logging message. Argument is passed without boxing.
      *
-     * @param throwable {@link Throwable} to log.
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
      */
-    public static void e(Throwable throwable) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.ERROR) >= 0) {
-            logger.e(throwable);
+    public static void d(String message, int arg) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            getLogger().d(message, arg);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#ERROR} logging message.
+     * Sends {@link ALogLevel#DEBUG} logging message. Argument is passed without boxing.
      *
-     * @param throwable {@link Throwable} to log.
      * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
-     * @param args Arguments for format string in message.
+     * @param arg Argument for format string in message.
      */
-    public static void e(Throwable throwable, String message, Object... args) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.ERROR) >= 0) {
-            logger.e(throwable, message, args);
+    public static void d(String message, long arg) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            getLogger().d(message, arg);
         }
     }
 
     /**
-     * Sends empty {@link ALogLevel#WTF} logging message.
+     * Sends {@link ALogLevel#DEBUG} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
      */
-    public static void wtf() {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.WTF) >= 0) {
-            logger.wtf();
+    public static void d(String message, float arg) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            getLogger().d(message, arg);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#WTF} logging message.
+     * Sends {@link ALogLevel#DEBUG} logging message. Argument is passed without boxing.
      *
-     * @param object Object to log.
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
      */
-    public static void wtf(Object object) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.WTF) >= 0) {
-            logger.wtf(object);
+    public static void d(String message, double arg) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            getLogger().d(message, arg);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#WTF} logging message.
+     * Sends {@link ALogLevel#DEBUG} logging message. No arguments array is allocated.
      *
      * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
-     * @param args Arguments for format string in message.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
      */
-    public static void wtf(String message, Object... args) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.WTF) >= 0) {
-            logger.wtf(message, args);
+    public static void d(String message, Object arg1, Object arg2) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            getLogger().d(message, arg1, arg2);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#WTF} logging message.
+     * Sends {@link ALogLevel#DEBUG} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     */
+    public static void d(String message, Object arg1, Object arg2, Object arg3) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            getLogger().d(message, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#DEBUG} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     * @param arg4 Fourth argument for format string in message.
+     */
+    public static void d(String message, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            getLogger().d(message, arg1, arg2, arg3, arg4);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#DEBUG} logging message.
      *
      * @param throwable {@link Throwable} to log.
      */
-    public static void wtf(Throwable throwable) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.WTF) >= 0) {
-            logger.wtf(throwable);
+    public static void d(Throwable throwable) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            getLogger().d(throwable);
         }
     }
 
     /**
-     * Sends {@link ALogLevel#WTF} logging message.
+     * Sends {@link ALogLevel#DEBUG} logging message.
      *
      * @param throwable {@link Throwable} to log.
      * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
      * @param args Arguments for format string in message.
      */
-    public static void wtf(Throwable throwable, String message, Object... args) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(ALogLevel.WTF) >= 0) {
-            logger.wtf(throwable, message, args);
+    public static void d(Throwable throwable, String message, Object... args) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            getLogger().d(throwable, message, args);
         }
     }
 
     /**
-     * Formats JSON string and sends logging message with it. Logging message level is set via
-     * {@link ALogConfiguration}.
+     * Sends {@link ALogLevel#DEBUG} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#DEBUG} logging messages are not filtered out.
      *
-     * @param json JSON string.
+     * @param supplier Logging message supplier.
      */
-    public static void json(String json) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(configuration.mJsonLevel) >= 0) {
-            logger.json(json);
+    public static void d(ALogMessageSupplier supplier) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            getLogger().d(supplier);
         }
     }
 
     /**
-     * Formats JSON string and sends logging message with it.
+     * Sends {@link ALogLevel#DEBUG} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#DEBUG} logging messages are not filtered out.
      *
-     * @param level Logging level. See {@link ALogLevel}.
-     * @param json JSON string.
+     * @param throwable {@link Throwable} to log.
+     * @param supplier Logging message supplier.
      */
-    public static void json(ALogLevel level, String json) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(level) >= 0) {
-            logger.json(level, json);
+    public static void d(Throwable throwable, ALogMessageSupplier supplier) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            getLogger().d(throwable, supplier);
         }
     }
 
     /**
-     * Formats XML string and sends logging message with it. Logging message level is set via
-     * {@link ALogConfiguration}.
+     * Sends empty {@link ALogLevel#INFO} logging message.
+     */
+    public static void i() {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            getLogger().i();
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message.
      *
-     * @param xml XML string.
+     * @param object Object to log.
      */
-    public static void xml(String xml) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(configuration.mXmlLevel) >= 0) {
-            logger.xml(xml);
+    public static void i(Object object) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            getLogger().i(object);
         }
     }
 
     /**
-     * Formats XML string and sends logging message with it.
+     * Sends {@link ALogLevel#INFO} logging message.
      *
-     * @param level Logging level. See {@link ALogLevel}.
-     * @param xml XML string.
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param args Arguments for format string in message.
      */
-    public static void xml(ALogLevel level, String xml) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(level) >= 0) {
-            logger.xml(level, xml);
+    public static void i(String message, Object... args) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            getLogger().i(message, args);
         }
     }
 
     /**
-     * Formats bytes as hexadecimal format string and sends logging message with it. Logging
-     * message level is set via {@link ALogConfiguration}.
+     * Sends {@link ALogLevel#INFO} logging message. No arguments array is allocated.
      *
-     * @param bytes Byte array.
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
      */
-    public static void hex(byte[] bytes) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(configuration.mHexLevel) >= 0) {
-            logger.hex(bytes);
+    public static void i(String message, Object arg) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            getLogger().i(message, arg);
         }
     }
 
     /**
-     * Formats bytes as hexadecimal format string and sends logging message with it.
+     * Sends {@link ALogLevel#INFO} logging message. Argument is passed without boxing.
      *
-     * @param level Logging level. See {@link ALogLevel}.
-     * @param bytes Byte array.
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
      */
-    public static void hex(ALogLevel level, byte[] bytes) {
-        verifyInitialization();
-        if (configuration.mIsEnabled && configuration.mMinimalLevel.compareTo(level) >= 0) {
-            logger.hex(level, bytes);
+    public static void i(String message, boolean arg) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            getLogger().i(message, arg);
         }
     }
 
-    private static void verifyInitialization() {
-        if (configuration == null || logger == null) {
-            initialize(null);
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void i(String message, char arg) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            getLogger().i(message, arg);
         }
     }
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void i(String message, byte arg) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            getLogger().i(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void i(String message, short arg) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            getLogger().i(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void i(String message, int arg) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            getLogger().i(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void i(String message, long arg) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            getLogger().i(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void i(String message, float arg) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            getLogger().i(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void i(String message, double arg) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            getLogger().i(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     */
+    public static void i(String message, Object arg1, Object arg2) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            getLogger().i(message, arg1, arg2);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     */
+    public static void i(String message, Object arg1, Object arg2, Object arg3) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            getLogger().i(message, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     * @param arg4 Fourth argument for format string in message.
+     */
+    public static void i(String message, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            getLogger().i(message, arg1, arg2, arg3, arg4);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message.
+     *
+     * @param throwable {@link Throwable} to log.
+     */
+    public static void i(Throwable throwable) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            getLogger().i(throwable);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message.
+     *
+     * @param throwable {@link Throwable} to log.
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param args Arguments for format string in message.
+     */
+    public static void i(Throwable throwable, String message, Object... args) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            getLogger().i(throwable, message, args);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#INFO} logging messages are not filtered out.
+     *
+     * @param supplier Logging message supplier.
+     */
+    public static void i(ALogMessageSupplier supplier) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            getLogger().i(supplier);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#INFO} logging messages are not filtered out.
+     *
+     * @param throwable {@link Throwable} to log.
+     * @param supplier Logging message supplier.
+     */
+    public static void i(Throwable throwable, ALogMessageSupplier supplier) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            getLogger().i(throwable, supplier);
+        }
+    }
+
+    /**
+     * Sends empty {@link ALogLevel#WARNING} logging message.
+     */
+    public static void w() {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            getLogger().w();
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message.
+     *
+     * @param object Object to log.
+     */
+    public static void w(Object object) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            getLogger().w(object);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param args Arguments for format string in message.
+     */
+    public static void w(String message, Object... args) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            getLogger().w(message, args);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void w(String message, Object arg) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            getLogger().w(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void w(String message, boolean arg) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            getLogger().w(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void w(String message, char arg) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            getLogger().w(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void w(String message, byte arg) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            getLogger().w(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void w(String message, short arg) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            getLogger().w(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void w(String message, int arg) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            getLogger().w(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void w(String message, long arg) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            getLogger().w(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void w(String message, float arg) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            getLogger().w(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void w(String message, double arg) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            getLogger().w(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     */
+    public static void w(String message, Object arg1, Object arg2) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            getLogger().w(message, arg1, arg2);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     */
+    public static void w(String message, Object arg1, Object arg2, Object arg3) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            getLogger().w(message, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     * @param arg4 Fourth argument for format string in message.
+     */
+    public static void w(String message, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            getLogger().w(message, arg1, arg2, arg3, arg4);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message.
+     *
+     * @param throwable {@link Throwable} to log.
+     */
+    public static void w(Throwable throwable) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            getLogger().w(throwable);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message.
+     *
+     * @param throwable {@link Throwable} to log.
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param args Arguments for format string in message.
+     */
+    public static void w(Throwable throwable, String message, Object... args) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            getLogger().w(throwable, message, args);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#WARNING} logging messages are not filtered out.
+     *
+     * @param supplier Logging message supplier.
+     */
+    public static void w(ALogMessageSupplier supplier) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            getLogger().w(supplier);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#WARNING} logging messages are not filtered out.
+     *
+     * @param throwable {@link Throwable} to log.
+     * @param supplier Logging message supplier.
+     */
+    public static void w(Throwable throwable, ALogMessageSupplier supplier) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            getLogger().w(throwable, supplier);
+        }
+    }
+
+    /**
+     * Sends empty {@link ALogLevel#ERROR} logging message.
+     */
+    public static void e() {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            getLogger().e();
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message.
+     *
+     * @param object Object to log.
+     */
+    public static void e(Object object) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            getLogger().e(object);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param args Arguments for format string in message.
+     */
+    public static void e(String message, Object... args) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            getLogger().e(message, args);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void e(String message, Object arg) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            getLogger().e(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void e(String message, boolean arg) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            getLogger().e(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void e(String message, char arg) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            getLogger().e(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void e(String message, byte arg) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            getLogger().e(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void e(String message, short arg) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            getLogger().e(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void e(String message, int arg) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            getLogger().e(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void e(String message, long arg) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            getLogger().e(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void e(String message, float arg) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            getLogger().e(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void e(String message, double arg) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            getLogger().e(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     */
+    public static void e(String message, Object arg1, Object arg2) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            getLogger().e(message, arg1, arg2);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     */
+    public static void e(String message, Object arg1, Object arg2, Object arg3) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            getLogger().e(message, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     * @param arg4 Fourth argument for format string in message.
+     */
+    public static void e(String message, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            getLogger().e(message, arg1, arg2, arg3, arg4);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message.
+     *
+     * @param throwable {@link Throwable} to log.
+     */
+    public static void e(Throwable throwable) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            getLogger().e(throwable);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message.
+     *
+     * @param throwable {@link Throwable} to log.
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param args Arguments for format string in message.
+     */
+    public static void e(Throwable throwable, String message, Object... args) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            getLogger().e(throwable, message, args);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#ERROR} logging messages are not filtered out.
+     *
+     * @param supplier Logging message supplier.
+     */
+    public static void e(ALogMessageSupplier supplier) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            getLogger().e(supplier);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#ERROR} logging messages are not filtered out.
+     *
+     * @param throwable {@link Throwable} to log.
+     * @param supplier Logging message supplier.
+     */
+    public static void e(Throwable throwable, ALogMessageSupplier supplier) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            getLogger().e(throwable, supplier);
+        }
+    }
+
+    /**
+     * Sends empty {@link ALogLevel#WTF} logging message.
+     */
+    public static void wtf() {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            getLogger().wtf();
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message.
+     *
+     * @param object Object to log.
+     */
+    public static void wtf(Object object) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            getLogger().wtf(object);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param args Arguments for format string in message.
+     */
+    public static void wtf(String message, Object... args) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            getLogger().wtf(message, args);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void wtf(String message, Object arg) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            getLogger().wtf(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void wtf(String message, boolean arg) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            getLogger().wtf(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void wtf(String message, char arg) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            getLogger().wtf(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void wtf(String message, byte arg) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            getLogger().wtf(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void wtf(String message, short arg) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            getLogger().wtf(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void wtf(String message, int arg) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            getLogger().wtf(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void wtf(String message, long arg) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            getLogger().wtf(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void wtf(String message, float arg) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            getLogger().wtf(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    public static void wtf(String message, double arg) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            getLogger().wtf(message, arg);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     */
+    public static void wtf(String message, Object arg1, Object arg2) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            getLogger().wtf(message, arg1, arg2);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     */
+    public static void wtf(String message, Object arg1, Object arg2, Object arg3) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            getLogger().wtf(message, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     * @param arg4 Fourth argument for format string in message.
+     */
+    public static void wtf(String message, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            getLogger().wtf(message, arg1, arg2, arg3, arg4);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message.
+     *
+     * @param throwable {@link Throwable} to log.
+     */
+    public static void wtf(Throwable throwable) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            getLogger().wtf(throwable);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message.
+     *
+     * @param throwable {@link Throwable} to log.
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param args Arguments for format string in message.
+     */
+    public static void wtf(Throwable throwable, String message, Object... args) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            getLogger().wtf(throwable, message, args);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#WTF} logging messages are not filtered out.
+     *
+     * @param supplier Logging message supplier.
+     */
+    public static void wtf(ALogMessageSupplier supplier) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            getLogger().wtf(supplier);
+        }
+    }
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#WTF} logging messages are not filtered out.
+     *
+     * @param throwable {@link Throwable} to log.
+     * @param supplier Logging message supplier.
+     */
+    public static void wtf(Throwable throwable, ALogMessageSupplier supplier) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            getLogger().wtf(throwable, supplier);
+        }
+    }
+
+    /**
+     * Formats JSON string and sends logging message with it. Logging message level is set via
+     * {@link ALogConfiguration}.
+     *
+     * @param json JSON string.
+     */
+    public static void json(String json) {
+        ALogState state = getState();
+        if (mayBeLoggable(state.mConfiguration.mJsonLevel)) {
+            state.mLogger.json(json);
+        }
+    }
+
+    /**
+     * Formats JSON string and sends logging message with it.
+     *
+     * @param level Logging level. See {@link ALogLevel}.
+     * @param json JSON string.
+     */
+    public static void json(ALogLevel level, String json) {
+        if (mayBeLoggable(level)) {
+            getLogger().json(level, json);
+        }
+    }
+
+    /**
+     * Formats XML string and sends logging message with it. Logging message level is set via
+     * {@link ALogConfiguration}.
+     *
+     * @param xml XML string.
+     */
+    public static void xml(String xml) {
+        ALogState state = getState();
+        if (mayBeLoggable(state.mConfiguration.mXmlLevel)) {
+            state.mLogger.xml(xml);
+        }
+    }
+
+    /**
+     * Formats XML string and sends logging message with it.
+     *
+     * @param level Logging level. See {@link ALogLevel}.
+     * @param xml XML string.
+     */
+    public static void xml(ALogLevel level, String xml) {
+        if (mayBeLoggable(level)) {
+            getLogger().xml(level, xml);
+        }
+    }
+
+    /**
+     * Formats bytes as hexadecimal format string and sends logging message with it. Logging
+     * message level is set via {@link ALogConfiguration}.
+     *
+     * @param bytes Byte array.
+     */
+    public static void hex(byte[] bytes) {
+        ALogState state = getState();
+        if (mayBeLoggable(state.mConfiguration.mHexLevel)) {
+            state.mLogger.hex(bytes);
+        }
+    }
+
+    /**
+     * Formats bytes as hexadecimal format string and sends logging message with it.
+     *
+     * @param level Logging level. See {@link ALogLevel}.
+     * @param bytes Byte array.
+     */
+    public static void hex(ALogLevel level, byte[] bytes) {
+        if (mayBeLoggable(level)) {
+            getLogger().hex(level, bytes);
+        }
+    }
+
+    private static boolean mayBeLoggable(ALogLevel level) {
+        return (ALogState.get().mMaybeLoggableLevelMask & level.mMask) != 0;
+    }
+
+    private static ALogState getState() {
+        ALogState state = ALogState.get();
+        while (state.mLogger == null) {
+            ALogConfiguration configuration = ALogConfiguration.builder().build();
+            ALogState.initialize(state, configuration, createLogger(configuration));
+            state = ALogState.get();
+        }
+        return state;
+    }
+
+    private static ALogger createLogger(ALogConfiguration configuration) {
+        return configuration.mIsEnabled ? new ConfigurationALogger(configuration) : StubALoggerProvider.INSTANCE.mLogger;
+    }
+
+    private static ALogger getLogger() {
+        return getState().mLogger;
+    }
 }
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import java.util.Arrays;
+
+/**
+ * Reusable holder of up to {@link #MAX_COUNT} logging message arguments. Primitive arguments are
+ * stored without boxing, so fixed arity logging methods neither box primitives nor allocate
+ * arguments array. Each thread has its own instance, which is got via {@link #obtain()} and must
+ * be returned via {@link #recycle()} once logging message is built.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+final class ALogArguments {
+    static final int MAX_COUNT = 4;
+
+    static final byte TYPE_OBJECT = 0;
+    static final byte TYPE_BOOLEAN = 1;
+    static final byte TYPE_CHAR = 2;
+    static final byte TYPE_BYTE = 3;
+    static final byte TYPE_SHORT = 4;
+    static final byte TYPE_INT = 5;
+    static final byte TYPE_LONG = 6;
+    static final byte TYPE_FLOAT = 7;
+    static final byte TYPE_DOUBLE = 8;
+
+    private static final ThreadLocal<ALogArguments> THREAD_ARGUMENTS = new ThreadLocal<ALogArguments>() {
+        @Override
+        protected ALogArguments initialValue() {
+            return new ALogArguments();
+        }
+    };
+
+    private final byte[] mTypes;
+    private final long[] mLongValues;
+    private final double[] mDoubleValues;
+    private final Object[] mObjectValues;
+    private int mCount;
+    private boolean mIsInUse;
+
+    private ALogArguments() {
+        mTypes = new byte[MAX_COUNT];
+        mLongValues = new long[MAX_COUNT];
+        mDoubleValues = new double[MAX_COUNT];
+        mObjectValues = new Object[MAX_COUNT];
+    }
+
+    /**
+     * Gets empty arguments holder of the current thread. If holder of the current thread is
+     * already in use (logging method is called while logging message is being built), new
+     * holder is created.
+     *
+     * @return Empty arguments holder.
+     */
+    static ALogArguments obtain() {
+        ALogArguments arguments = THREAD_ARGUMENTS.get();
+        if (arguments.mIsInUse) {
+            arguments = new ALogArguments();
+        }
+        arguments.mIsInUse = true;
+        return arguments;
+    }
+
+    /**
+     * Clears this arguments holder, so it can be got via {@link #obtain()} again.
+     */
+    void recycle() {
+        Arrays.fill(mObjectValues, 0, mCount, null);
+        mCount = 0;
+        mIsInUse = false;
+    }
+
+    /**
+     * Adds object argument.
+     *
+     * @param value Argument.
+     * @return This arguments holder.
+     */
+    ALogArguments add(Object value) {
+        mObjectValues[mCount] = value;
+        mTypes[mCount++] = TYPE_OBJECT;
+        return this;
+    }
+
+    /**
+     * Adds boolean argument without boxing.
+     *
+     * @param value Argument.
+     * @return This arguments holder.
+     */
+    ALogArguments add(boolean value) {
+        mLongValues[mCount] = value ? 1L : 0L;
+        mTypes[mCount++] = TYPE_BOOLEAN;
+        return this;
+    }
+
+    /**
+     * Adds char argument without boxing.
+     *
+     * @param value Argument.
+     * @return This arguments holder.
+     */
+    ALogArguments add(char value) {
+        mLongValues[mCount] = value;
+        mTypes[mCount++] = TYPE_CHAR;
+        return this;
+    }
+
+    /**
+     * Adds byte argument without boxing.
+     *
+     * @param value Argument.
+     * @return This arguments holder.
+     */
+    ALogArguments add(byte value) {
+        mLongValues[mCount] = value;
+        mTypes[mCount++] = TYPE_BYTE;
+        return this;
+    }
+
+    /**
+     * Adds short argument without boxing.
+     *
+     * @param value Argument.
+     * @return This arguments holder.
+     */
+    ALogArguments add(short value) {
+        mLongValues[mCount] = value;
+        mTypes[mCount++] = TYPE_SHORT;
+        return this;
+    }
+
+    /**
+     * Adds int argument without boxing.
+     *
+     * @param value Argument.
+     * @return This arguments holder.
+     */
+    ALogArguments add(int value) {
+        mLongValues[mCount] = value;
+        mTypes[mCount++] = TYPE_INT;
+        return this;
+    }
+
+    /**
+     * Adds long argument without boxing.
+     *
+     * @param value Argument.
+     * @return This arguments holder.
+     */
+    ALogArguments add(long value) {
+        mLongValues[mCount] = value;
+        mTypes[mCount++] = TYPE_LONG;
+        return this;
+    }
+
+    /**
+     * Adds float argument without boxing.
+     *
+     * @param value Argument.
+     * @return This arguments holder.
+     */
+    ALogArguments add(float value) {
+        mDoubleValues[mCount] = value;
+        mTypes[mCount++] = TYPE_FLOAT;
+        return this;
+    }
+
+    /**
+     * Adds double argument without boxing.
+     *
+     * @param value Argument.
+     * @return This arguments holder.
+     */
+    ALogArguments add(double value) {
+        mDoubleValues[mCount] = value;
+        mTypes[mCount++] = TYPE_DOUBLE;
+        return this;
+    }
+
+    /**
+     * Gets count of added arguments.
+     *
+     * @return Count of added arguments.
+     */
+    int size() {
+        return mCount;
+    }
+
+    /**
+     * Gets type of argument.
+     *
+     * @param index Index of argument.
+     * @return One of TYPE_* constants.
+     */
+    byte getType(int index) {
+        return mTypes[index];
+    }
+
+    /**
+     * Gets integral representation of boolean, char, byte, short, int or long argument.
+     *
+     * @param index Index of argument.
+     * @return Integral value of argument.
+     */
+    long getLong(int index) {
+        return mLongValues[index];
+    }
+
+    /**
+     * Gets value of float or double argument.
+     *
+     * @param index Index of argument.
+     * @return Value of argument.
+     */
+    double getDouble(int index) {
+        return mDoubleValues[index];
+    }
+
+    /**
+     * Gets object argument.
+     *
+     * @param index Index of argument.
+     * @return Argument.
+     */
+    Object getObject(int index) {
+        return mObjectValues[index];
+    }
+
+    /**
+     * Gets type of boxed argument.
+     *
+     * @param value Argument.
+     * @return One of TYPE_* constants.
+     */
+    static byte getType(Object value) {
+        if (value instanceof Integer) {
+            return TYPE_INT;
+        } else if (value instanceof Long) {
+            return TYPE_LONG;
+        } else if (value instanceof Double) {
+            return TYPE_DOUBLE;
+        } else if (value instanceof Boolean) {
+            return TYPE_BOOLEAN;
+        } else if (value instanceof Character) {
+            return TYPE_CHAR;
+        } else if (value instanceof Float) {
+            return TYPE_FLOAT;
+        } else if (value instanceof Short) {
+            return TYPE_SHORT;
+        } else if (value instanceof Byte) {
+            return TYPE_BYTE;
+        }
+        return TYPE_OBJECT;
+    }
+
+    /**
+     * Gets integral representation of boxed argument.
+     *
+     * @param value Argument.
+     * @param type Argument type got via {@link #getType(Object)}.
+     * @return Integral value of boolean, char, byte, short, int or long argument, 0 otherwise.
+     */
+    static long toLong(Object value, byte type) {
+        switch (type) {
+            case TYPE_BOOLEAN:
+                return (Boolean) value ? 1L : 0L;
+            case TYPE_CHAR:
+                return (Character) value;
+            case TYPE_BYTE:
+            case TYPE_SHORT:
+            case TYPE_INT:
+            case TYPE_LONG:
+                return ((Number) value).longValue();
+            default:
+                return 0L;
+        }
+    }
+
+    /**
+     * Gets floating point representation of boxed argument.
+     *
+     * @param value Argument.
+     * @param type Argument type got via {@link #getType(Object)}.
+     * @return Value of float or double argument, 0 otherwise.
+     */
+    static double toDouble(Object value, byte type) {
+        return type == TYPE_FLOAT || type == TYPE_DOUBLE ? ((Number) value).doubleValue() : 0.0;
+    }
+
+    /**
+     * Gets arguments as boxed values array, which can be passed to
+     * {@link String#format(String, Object...)}.
+     *
+     * @return Arguments array.
+     */
+    Object[] toArray() {
+        Object[] array = new Object[mCount];
+        for (int i = 0; i < mCount; ++i) {
+            long longValue = mLongValues[i];
+            switch (mTypes[i]) {
+                case TYPE_BOOLEAN:
+                    array[i] = longValue != 0L;
+                    break;
+                case TYPE_CHAR:
+                    array[i] = (char) longValue;
+                    break;
+                case TYPE_BYTE:
+                    array[i] = (byte) longValue;
+                    break;
+                case TYPE_SHORT:
+                    array[i] = (short) longValue;
+                    break;
+                case TYPE_INT:
+                    array[i] = (int) longValue;
+                    break;
+                case TYPE_LONG:
+                    array[i] = longValue;
+                    break;
+                case TYPE_FLOAT:
+                    array[i] = (float) mDoubleValues[i];
+                    break;
+                case TYPE_DOUBLE:
+                    array[i] = mDoubleValues[i];
+                    break;
+                default:
+                    array[i] = mObjectValues[i];
+                    break;
+            }
+        }
+        return array;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves logging method caller (call site) from stack trace. Derived call site data (simple
+ * class name, method name and line location) is cached per call site, so repeated logging
+ * from the same call site does not allocate strings to build logging message prefix.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+final class ALogCallerResolver {
+    private static final String ALOG_PACKAGE_NAME = "ua.pp.ihorzak.alog";
+    private static final int MAX_CACHE_SIZE = 1024;
+
+    private static final ConcurrentHashMap<StackTraceElement, Caller> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Logging method call site data.
+     */
+    static final class Caller {
+        final String mSimpleClassName;
+        final String mMethodName;
+        final String mLineLocation;
+
+        private Caller(String simpleClassName, String methodName, String lineLocation) {
+            mSimpleClassName = simpleClassName;
+            mMethodName = methodName;
+            mLineLocation = lineLocation;
+        }
+    }
+
+    private ALogCallerResolver() {
+    }
+
+    /**
+     * Captures stack trace of the current thread.
+     *
+     * @return Stack trace elements of the current thread.
+     */
+    static StackTraceElement[] captureStackTrace() {
+        // Throwable stack trace does not contain frames of Thread.getStackTrace() implementation
+        // and does not require thread state checks performed for arbitrary thread
+        return new Throwable().getStackTrace();
+    }
+
+    /**
+     * Finds index of the first stack trace element after ALog stack trace elements which does not
+     * belong to skipped packages.
+     *
+     * @param elements Stack trace elements.
+     * @param skipPackageNames Names of packages which classes should be skipped in addition to
+     *                         ALog classes.
+     * @return Index of logging method caller stack trace element or -1 if it is not found.
+     */
+    static int findCallerIndex(StackTraceElement[] elements, String[] skipPackageNames) {
+        boolean isALogStackTracePassed = false;
+        for (int i = 0; i < elements.length; ++i) {
+            String className = elements[i].getClassName();
+            if (isPackageClass(className, ALOG_PACKAGE_NAME)) {
+                isALogStackTracePassed = true;
+            } else if (isALogStackTracePassed && !isSkipped(className, skipPackageNames)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if class belongs directly to specified package (not to its subpackage) without
+     * allocation of package name substring.
+     *
+     * @param className Fully qualified class name.
+     * @param packageName Package name.
+     * @return true if class belongs to specified package, false otherwise.
+     */
+    static boolean isPackageClass(String className, String packageName) {
+        int packageNameLength = packageName.length();
+        return className.length() > packageNameLength
+                && className.charAt(packageNameLength) == '.'
+                && className.startsWith(packageName)
+                && className.indexOf('.', packageNameLength + 1) == -1;
+    }
+
+    private static boolean isSkipped(String className, String[] skipPackageNames) {
+        for (String skipPackageName : skipPackageNames) {
+            if (isPackageClass(className, skipPackageName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets cached call site data or creates and caches it. Call site data is not cached if caller
+     * stack trace element has no file name and line location is taken from outer element, since
+     * it depends on the whole call path then.
+     *
+     * @param elements Stack trace elements.
+     * @param callerIndex Index of logging method caller stack trace element.
+     * @return Logging method call site data.
+     */
+    static Caller getCaller(StackTraceElement[] elements, int callerIndex) {
+        StackTraceElement element = elements[callerIndex];
+        Caller caller = CACHE.get(element);
+        if (caller == null) {
+            String fileName = element.getFileName();
+            int lineNumber = element.getLineNumber();
+            boolean isCacheable = fileName != null;
+            for (int i = callerIndex + 1; fileName == null && i < elements.length; ++i) {
+                fileName = elements[i].getFileName();
+                lineNumber = elements[i].getLineNumber();
+            }
+            caller = new Caller(
+                    Utils.getSimpleClassName(element.getClassName()),
+                    element.getMethodName(),
+                    "(" + fileName + ':' + lineNumber + ')'
+            );
+            if (isCacheable) {
+                if (CACHE.size() >= MAX_CACHE_SIZE) {
+                    CACHE.clear();
+                }
+                CACHE.put(element, caller);
+            }
+        }
+        return caller;
+    }
+}
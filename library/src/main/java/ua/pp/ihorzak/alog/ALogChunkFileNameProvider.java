@@ -25,7 +25,10 @@ package ua.pp.ihorzak.alog;
  */
 public interface ALogChunkFileNameProvider {
     /**
-     * Retrieves the name for the chunk file with provided index (zero based).
+     * Retrieves the name for the chunk file with provided index (zero based). Chunk files are
+     * written to ring of chunk slots, so chunk file index does not reflect chronological order
+     * of chunk files. Use {@link ALogChunkFiles#list(String, int, ALogChunkFileNameProvider)}
+     * to get chunk files in chronological order.
      *
      * @param chunkIndex The index (zero based) of chunk file to provide name.
      * @return The name for chunk file with provided index.
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Provides access to chunk files written by chunked {@link ALog} file output. Chunk files are
+ * written to ring of chunk slots: once the last slot is filled writing continues from the first
+ * slot, overwriting the oldest chunk file. Index of the slot which is currently written is stored
+ * in {@link #INDEX_FILE_NAME} file inside chunk files directory, so chunk file rotation does not
+ * require renaming of other chunk files.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class ALogChunkFiles {
+    /**
+     * Name of file inside chunk files directory which stores index of chunk slot which is
+     * currently written.
+     */
+    public static final String INDEX_FILE_NAME = ".alog_chunk_index";
+
+    private static final int MAX_INDEX_FILE_SIZE = 16;
+
+    private ALogChunkFiles() {
+    }
+
+    /**
+     * Lists existing chunk files in chronological order: from the oldest to the newest one.
+     * Parameters must be the same as passed to
+     * {@link ALogFileConfiguration#chunked(String, long, int, ALogChunkFileNameProvider)} call.
+     *
+     * @param filesDirectoryPath Logging output files directory.
+     * @param chunkCount Chunk file count limit. Must be positive number.
+     * @param nameProvider Chunk file name provider.
+     * @return List of existing chunk files from the oldest to the newest one.
+     */
+    public static List<File> list(String filesDirectoryPath,
+                                  int chunkCount,
+                                  ALogChunkFileNameProvider nameProvider) {
+        if (chunkCount <= 0) {
+            throw new IllegalArgumentException("Chunk count must be positive number");
+        }
+        File directoryFile = new File(filesDirectoryPath);
+        int currentChunk = readCurrentChunk(directoryFile);
+        if (currentChunk < 0 || currentChunk >= chunkCount) {
+            currentChunk = chunkCount - 1;
+        }
+        List<File> files = new ArrayList<>(chunkCount);
+        for (int i = 1; i <= chunkCount; ++i) {
+            File file = new File(directoryFile, nameProvider.getName((currentChunk + i) % chunkCount));
+            if (file.isFile()) {
+                files.add(file);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Reads index of chunk slot which is currently written.
+     *
+     * @param directoryFile Chunk files directory.
+     * @return Index of chunk slot which is currently written or -1 if it is unknown.
+     */
+    static int readCurrentChunk(File directoryFile) {
+        File indexFile = new File(directoryFile, INDEX_FILE_NAME);
+        if (!indexFile.isFile()) {
+            return -1;
+        }
+        byte[] buffer = new byte[MAX_INDEX_FILE_SIZE];
+        int length = 0;
+        try (FileInputStream inputStream = new FileInputStream(indexFile)) {
+            int read;
+            while (length < buffer.length && (read = inputStream.read(buffer, length, buffer.length - length)) > 0) {
+                length += read;
+            }
+        } catch (IOException exception) {
+            return -1;
+        }
+        int currentChunk = 0;
+        for (int i = 0; i < length; ++i) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9 || currentChunk > (Integer.MAX_VALUE - digit) / 10) {
+                return -1;
+            }
+            currentChunk = currentChunk * 10 + digit;
+        }
+        return length > 0 ? currentChunk : -1;
+    }
+
+    /**
+     * Writes index of chunk slot which is currently written.
+     *
+     * @param directoryFile Chunk files directory.
+     * @param currentChunk Index of chunk slot which is currently written.
+     * @throws IOException If index file cannot be written.
+     */
+    static void writeCurrentChunk(File directoryFile, int currentChunk) throws IOException {
+        try (FileOutputStream outputStream = new FileOutputStream(new File(directoryFile, INDEX_FILE_NAME), false)) {
+            outputStream.write(Integer.toString(currentChunk).getBytes("US-ASCII"));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+/**
+ * Represents units in which chunk size limit of chunked {@link ALog} file output is measured.
+ * Values should be passed to
+ * {@link ALogFileConfiguration.Builder#chunkSizeUnit(ALogChunkSizeUnit)}.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public enum ALogChunkSizeUnit {
+    /**
+     * Chunk size is measured in chars of written logging messages. Size of chunk file on disk
+     * can exceed chunk size limit in case logging messages contain non-ASCII chars.
+     */
+    CHARS,
+    /**
+     * Chunk size is measured in bytes of UTF-8 encoded logging messages, so size of chunk file
+     * on disk never exceeds chunk size limit.
+     */
+    BYTES
+}
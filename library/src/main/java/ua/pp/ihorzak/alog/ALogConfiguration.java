@@ -16,10 +16,13 @@
 
 package ua.pp.ihorzak.alog;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Represents {@link ALog} configuration which can be used to configure {@link ALog} if passed to
@@ -43,6 +46,7 @@ public final class ALogConfiguration {
     private static final ALogLevel DEFAULT_JSON_LEVEL = ALogLevel.INFO;
     private static final ALogLevel DEFAULT_XML_LEVEL = ALogLevel.INFO;
     private static final ALogLevel DEFAULT_HEX_LEVEL = ALogLevel.INFO;
+    private static final ALogMessageFormat DEFAULT_MESSAGE_FORMAT = ALogMessageFormat.FORMAT_STRING;
     private static final String DEFAULT_TAG = null;
     private static final boolean DEFAULT_IS_THREAD_PREFIX_ENABLED = true;
     private static final boolean DEFAULT_IS_CLASS_PREFIX_ENABLED = false;
@@ -50,21 +54,32 @@ public final class ALogConfiguration {
     private static final boolean DEFAULT_IS_LINE_LOCATION_PREFIX_ENABLED = true;
     private static final int DEFAULT_STACK_TRACE_LINE_COUNT = 0;
     private static final int DEFAULT_JSON_INDENT_SPACE_COUNT = 2;
+    private static final int DEFAULT_JSON_MAX_LENGTH = 0;
     private static final int DEFAULT_XML_INDENT_SPACE_COUNT = 2;
+    private static final int DEFAULT_HEX_MAX_BYTE_COUNT = 0;
     private static final boolean DEFAULT_IS_ARRAY_FORMATTER_ENABLED = true;
     private static final boolean DEFAULT_IS_COLLECTION_FORMATTER_ENABLED = true;
     private static final boolean DEFAULT_IS_ITERABLE_FORMATTER_ENABLED = true;
     private static final boolean DEFAULT_IS_MAP_FORMATTER_ENABLED = true;
+    private static final int DEFAULT_FORMATTER_MAX_ELEMENT_COUNT = 1000;
+    private static final int DEFAULT_FORMATTER_MAX_DEPTH = 16;
+    private static final int DEFAULT_FORMATTER_MAX_LENGTH = 64 * 1024;
+
+    static final int DEFAULT_LOGGABLE_LEVEL_MASK = getLoggableLevelMask(DEFAULT_IS_ENABLED, DEFAULT_MINIMAL_LEVEL);
 
     private final ALogPrinter mFilePrinter;
 
     final boolean mIsEnabled;
 
     final ALogLevel mMinimalLevel;
+    final int mLoggableLevelMask;
     final ALogLevel mJsonLevel;
     final ALogLevel mXmlLevel;
     final ALogLevel mHexLevel;
 
+    final ALogMessageFormat mMessageFormat;
+    final ALogLevelOverrides mLevelOverrides;
+
     final String mTag;
 
     final boolean mIsThreadPrefixEnabled;
@@ -74,58 +89,78 @@ public final class ALogConfiguration {
 
     final int mStackTraceLineCount;
 
+    final String[] mSkipPackageNames;
+
     final int mJsonIndentSpaceCount;
+    final int mJsonMaxLength;
     final int mXmlIndentSpaceCount;
+    final int mHexMaxByteCount;
 
-    final Collection<ALogPrinter> mPrinters;
+    final ALogPrinter[] mPrinters;
 
-    final ALogFormatterDelegate<Object> mObjectFormatterDelegate;
+    final ObjectALogFormatterDelegate mObjectFormatterDelegate;
 
     final ALogFormatter<Object> mArrayFormatter;
     final ALogFormatter<Collection<?>> mCollectionFormatter;
     final ALogFormatter<Iterable<?>> mIterableFormatter;
     final ALogFormatter<Map<?, ?>> mMapFormatter;
+    final int mFormatterMaxElementCount;
+    final int mFormatterMaxDepth;
+    final int mFormatterMaxLength;
     final Map<Class<?>, ALogFormatter<?>> mFormatterMap;
+    final ALogFormatterResolver mFormatterResolver;
 
     private ALogConfiguration(boolean isEnabled,
                               ALogLevel minimalLevel,
                               ALogLevel jsonLevel,
                               ALogLevel xmlLevel,
                               ALogLevel hexLevel,
+                              ALogMessageFormat messageFormat,
+                              ALogLevelOverrides levelOverrides,
                               String tag,
                               boolean isThreadPrefixEnabled,
                               boolean isClassPrefixEnabled,
                               boolean isMethodPrefixEnabled,
                               boolean isLineLocationPrefixEnabled,
                               int stackTraceLineCount,
+                              String[] skipPackageNames,
                               int jsonIndentSpaceCount,
+                              int jsonMaxLength,
                               int xmlIndentSpaceCount,
+                              int hexMaxByteCount,
                               ALogPrinter filePrinter,
                               boolean isArrayFormatterEnabled,
                               boolean isCollectionFormatterEnabled,
                               boolean isIterableFormatterEnabled,
                               boolean isMapFormatterEnabled,
+                              int formatterMaxElementCount,
+                              int formatterMaxDepth,
+                              int formatterMaxLength,
                               Map<Class<?>, ALogFormatter<?>> formatterMap) {
         mIsEnabled = isEnabled;
         mMinimalLevel = minimalLevel;
+        mLoggableLevelMask = getLoggableLevelMask(isEnabled, minimalLevel);
         mJsonLevel = jsonLevel;
         mXmlLevel = xmlLevel;
         mHexLevel = hexLevel;
+        mMessageFormat = messageFormat;
+        mLevelOverrides = levelOverrides;
         mTag = tag;
         mIsThreadPrefixEnabled = isThreadPrefixEnabled;
         mIsClassPrefixEnabled = isClassPrefixEnabled;
         mIsMethodPrefixEnabled = isMethodPrefixEnabled;
         mIsLineLocationPrefixEnabled = isLineLocationPrefixEnabled;
         mStackTraceLineCount = stackTraceLineCount;
+        mSkipPackageNames = skipPackageNames;
         mJsonIndentSpaceCount = jsonIndentSpaceCount;
+        mJsonMaxLength = jsonMaxLength;
         mXmlIndentSpaceCount = xmlIndentSpaceCount;
+        mHexMaxByteCount = hexMaxByteCount;
         mFilePrinter = filePrinter;
-        LinkedList<ALogPrinter> printerList = new LinkedList<>();
-        printerList.add(new AndroidLogALogPrinter());
-        if (mFilePrinter != null) {
-            printerList.add(mFilePrinter);
-        }
-        mPrinters = printerList;
+        // Printer indices correspond to ALogState PRINTER_* constants
+        mPrinters = mFilePrinter != null
+                ? new ALogPrinter[] {new AndroidLogALogPrinter(), mFilePrinter}
+                : new ALogPrinter[] {new AndroidLogALogPrinter()};
         mObjectFormatterDelegate = new ObjectALogFormatterDelegate(this);
         mArrayFormatter = isArrayFormatterEnabled
                 ? new ArrayALogFormatter(this)
@@ -139,13 +174,39 @@ public final class ALogConfiguration {
         mMapFormatter = isMapFormatterEnabled
                 ? new MapALogFormatter(this)
                 : null;
+        mFormatterMaxElementCount = formatterMaxElementCount;
+        mFormatterMaxDepth = formatterMaxDepth;
+        mFormatterMaxLength = formatterMaxLength;
         mFormatterMap = formatterMap;
+        mFormatterResolver = new ALogFormatterResolver(this, formatterMap);
     }
 
     Builder copyBuilder() {
         return new Builder(this);
     }
 
+    /**
+     * Checks if logging messages with specified logging level are sent with this configuration.
+     *
+     * @param level Logging level. See {@link ALogLevel}.
+     * @return true if logging messages with specified logging level are sent, false otherwise.
+     */
+    boolean isLoggable(ALogLevel level) {
+        return (mLoggableLevelMask & level.mMask) != 0;
+    }
+
+    private static int getLoggableLevelMask(boolean isEnabled, ALogLevel minimalLevel) {
+        int loggableLevelMask = 0;
+        if (isEnabled) {
+            for (ALogLevel level : ALogLevel.values()) {
+                if (minimalLevel.compareTo(level) >= 0) {
+                    loggableLevelMask |= level.mMask;
+                }
+            }
+        }
+        return loggableLevelMask;
+    }
+
     /**
      * Builder to create configured {@link ALogConfiguration} instance.
      */
@@ -156,19 +217,28 @@ public final class ALogConfiguration {
         private ALogLevel mJsonLevel;
         private ALogLevel mXmlLevel;
         private ALogLevel mHexLevel;
+        private ALogMessageFormat mMessageFormat;
+        private final Map<String, ALogLevel> mTagLevels;
+        private final Map<String, ALogLevel> mClassLevels;
         private String mTag;
         private boolean mIsThreadPrefixEnabled;
         private boolean mIsClassPrefixEnabled;
         private boolean mIsMethodPrefixEnabled;
         private boolean mIsLineLocationPrefixEnabled;
         private int mStackTraceLineCount;
+        private final Set<String> mSkipPackageNames;
         private int mJsonIndentSpaceCount;
+        private int mJsonMaxLength;
         private int mXmlIndentSpaceCount;
+        private int mHexMaxByteCount;
         private ALogPrinter mFilePrinter;
         private boolean mIsArrayFormatterEnabled;
         private boolean mIsCollectionFormatterEnabled;
         private boolean mIsIterableFormatterEnabled;
         private boolean mIsMapFormatterEnabled;
+        private int mFormatterMaxElementCount;
+        private int mFormatterMaxDepth;
+        private int mFormatterMaxLength;
         private final Map<Class<?>, ALogFormatter<?>> mFormatterMap;
 
         private Builder() {
@@ -177,19 +247,28 @@ public final class ALogConfiguration {
             mJsonLevel = DEFAULT_JSON_LEVEL;
             mXmlLevel = DEFAULT_XML_LEVEL;
             mHexLevel = DEFAULT_HEX_LEVEL;
+            mMessageFormat = DEFAULT_MESSAGE_FORMAT;
+            mTagLevels = new LinkedHashMap<>();
+            mClassLevels = new LinkedHashMap<>();
             mTag = DEFAULT_TAG;
             mIsThreadPrefixEnabled = DEFAULT_IS_THREAD_PREFIX_ENABLED;
             mIsClassPrefixEnabled = DEFAULT_IS_CLASS_PREFIX_ENABLED;
             mIsMethodPrefixEnabled = DEFAULT_IS_METHOD_PREFIX_ENABLED;
             mIsLineLocationPrefixEnabled = DEFAULT_IS_LINE_LOCATION_PREFIX_ENABLED;
             mStackTraceLineCount = DEFAULT_STACK_TRACE_LINE_COUNT;
+            mSkipPackageNames = new LinkedHashSet<>();
             mJsonIndentSpaceCount = DEFAULT_JSON_INDENT_SPACE_COUNT;
+            mJsonMaxLength = DEFAULT_JSON_MAX_LENGTH;
             mXmlIndentSpaceCount = DEFAULT_XML_INDENT_SPACE_COUNT;
+            mHexMaxByteCount = DEFAULT_HEX_MAX_BYTE_COUNT;
             mFilePrinter = null;
             mIsArrayFormatterEnabled = DEFAULT_IS_ARRAY_FORMATTER_ENABLED;
             mIsCollectionFormatterEnabled = DEFAULT_IS_COLLECTION_FORMATTER_ENABLED;
             mIsIterableFormatterEnabled = DEFAULT_IS_ITERABLE_FORMATTER_ENABLED;
             mIsMapFormatterEnabled = DEFAULT_IS_MAP_FORMATTER_ENABLED;
+            mFormatterMaxElementCount = DEFAULT_FORMATTER_MAX_ELEMENT_COUNT;
+            mFormatterMaxDepth = DEFAULT_FORMATTER_MAX_DEPTH;
+            mFormatterMaxLength = DEFAULT_FORMATTER_MAX_LENGTH;
             mFormatterMap = new HashMap<>();
         }
 
@@ -199,19 +278,33 @@ public final class ALogConfiguration {
             mJsonLevel = configuration.mJsonLevel;
             mXmlLevel = configuration.mXmlLevel;
             mHexLevel = configuration.mHexLevel;
+            mMessageFormat = configuration.mMessageFormat;
+            if (configuration.mLevelOverrides != null) {
+                mTagLevels = new LinkedHashMap<>(configuration.mLevelOverrides.mTagLevels);
+                mClassLevels = new LinkedHashMap<>(configuration.mLevelOverrides.mClassLevels);
+            } else {
+                mTagLevels = new LinkedHashMap<>();
+                mClassLevels = new LinkedHashMap<>();
+            }
             mTag = configuration.mTag;
             mIsThreadPrefixEnabled = configuration.mIsThreadPrefixEnabled;
             mIsClassPrefixEnabled = configuration.mIsClassPrefixEnabled;
             mIsMethodPrefixEnabled = configuration.mIsMethodPrefixEnabled;
             mIsLineLocationPrefixEnabled = configuration.mIsLineLocationPrefixEnabled;
             mStackTraceLineCount = configuration.mStackTraceLineCount;
+            mSkipPackageNames = new LinkedHashSet<>(Arrays.asList(configuration.mSkipPackageNames));
             mJsonIndentSpaceCount = configuration.mJsonIndentSpaceCount;
+            mJsonMaxLength = configuration.mJsonMaxLength;
             mXmlIndentSpaceCount = configuration.mXmlIndentSpaceCount;
+            mHexMaxByteCount = configuration.mHexMaxByteCount;
             mFilePrinter = configuration.mFilePrinter;
             mIsArrayFormatterEnabled = configuration.mArrayFormatter != null;
             mIsCollectionFormatterEnabled = configuration.mCollectionFormatter != null;
             mIsIterableFormatterEnabled = configuration.mIterableFormatter != null;
             mIsMapFormatterEnabled = configuration.mMapFormatter != null;
+            mFormatterMaxElementCount = configuration.mFormatterMaxElementCount;
+            mFormatterMaxDepth = configuration.mFormatterMaxDepth;
+            mFormatterMaxLength = configuration.mFormatterMaxLength;
             mFormatterMap = new HashMap<>(configuration.mFormatterMap);
         }
 
@@ -285,6 +378,78 @@ public final class ALogConfiguration {
             return this;
         }
 
+        /**
+         * Sets the way how logging messages are combined with their arguments. If not called by
+         * default logging messages are treated as format strings
+         * ({@link ALogMessageFormat#FORMAT_STRING}).
+         *
+         * @param messageFormat Logging message format. See {@link ALogMessageFormat}.
+         * @return This builder instance.
+         * @throws IllegalArgumentException If passed logging message format is null.
+         */
+        public Builder messageFormat(ALogMessageFormat messageFormat) {
+            if (messageFormat == null) {
+                throw new IllegalArgumentException("Message format must not be null");
+            }
+            mMessageFormat = messageFormat;
+            return this;
+        }
+
+        /**
+         * Overrides minimal logging level for logging messages with specified log tag. For
+         * example, it allows to enable {@link ALogLevel#VERBOSE} logging messages of one
+         * component without enabling them for the whole application. Tag override takes
+         * precedence over class prefix overrides and minimal logging level. Level overrides are
+         * ignored while minimal logging level is overridden via
+         * {@link ALog#setMinimalLevel(ALogLevel)}.
+         *
+         * @param tag Log tag. Must not be null or empty.
+         * @param minimalLevel Minimal logging level for passed log tag. See {@link ALogLevel}.
+         *                     Must not be null.
+         * @return This builder instance.
+         * @throws IllegalArgumentException If passed tag is null or empty or passed level is
+         *                                  null.
+         */
+        public Builder tagMinimalLevel(String tag, ALogLevel minimalLevel) {
+            if (tag == null || tag.length() == 0) {
+                throw new IllegalArgumentException("Tag must not be null or empty");
+            }
+            if (minimalLevel == null) {
+                throw new IllegalArgumentException("Minimal level must not be null");
+            }
+            mTagLevels.put(tag, minimalLevel);
+            return this;
+        }
+
+        /**
+         * Overrides minimal logging level for logging messages sent from classes which fully
+         * qualified names start with specified prefix. Prefix matches whole package or class
+         * name, so "com.example.net" matches "com.example.net.Client" and
+         * "com.example.net.Client$Callback", but not "com.example.network.Client". If several
+         * prefixes match caller class the longest one is used. Caller class is not known in
+         * advance, so {@link ALog#isLoggable(ALogLevel)} doesn't take class overrides into
+         * account. Level overrides are ignored while minimal logging level is overridden via
+         * {@link ALog#setMinimalLevel(ALogLevel)}.
+         *
+         * @param classNamePrefix Package name or fully qualified class name. Must not be null or
+         *                        empty.
+         * @param minimalLevel Minimal logging level for passed class name prefix. See
+         *                     {@link ALogLevel}. Must not be null.
+         * @return This builder instance.
+         * @throws IllegalArgumentException If passed class name prefix is null or empty or passed
+         *                                  level is null.
+         */
+        public Builder classMinimalLevel(String classNamePrefix, ALogLevel minimalLevel) {
+            if (classNamePrefix == null || classNamePrefix.length() == 0) {
+                throw new IllegalArgumentException("Class name prefix must not be null or empty");
+            }
+            if (minimalLevel == null) {
+                throw new IllegalArgumentException("Minimal level must not be null");
+            }
+            mClassLevels.put(classNamePrefix, minimalLevel);
+            return this;
+        }
+
         /**
          * Sets default tag for log messages. Later messages can be logged with different tag
          * by using {@link ALogger} instance got from {@link ALog#t(String)} or
@@ -363,6 +528,25 @@ public final class ALogConfiguration {
             return this;
         }
 
+        /**
+         * Adds package which classes should be skipped during logging method call location
+         * detection in addition to {@link ALog} classes. It allows to get proper call location
+         * (tag, class, method and line location prefixes and stack trace lines) in case logging
+         * is performed via custom wrapper classes. Only classes which belong directly to
+         * specified package are skipped, classes of its subpackages are not skipped.
+         *
+         * @param packageName Name of package which classes should be skipped. Must not be null
+         *                    or empty.
+         * @return This builder instance.
+         */
+        public Builder skipPackage(String packageName) {
+            if (packageName == null || packageName.length() == 0) {
+                throw new IllegalArgumentException("Skip package name must not be null or empty");
+            }
+            mSkipPackageNames.add(packageName);
+            return this;
+        }
+
         /**
          * Sets the count of indent space count for {@link ALog#json(ALogLevel, String)} and
          * {@link ALog#json(String)} log messages.
@@ -376,6 +560,21 @@ public final class ALogConfiguration {
             return this;
         }
 
+        /**
+         * Sets max length of reindented JSON in {@link ALog#json(ALogLevel, String)} and
+         * {@link ALog#json(String)} log messages. Longer JSON is cut and the rest of it is neither
+         * formatted nor validated, so logging of huge JSON takes bounded time. If not called
+         * length of reindented JSON is not limited.
+         *
+         * @param jsonMaxLength Max count of characters of reindented JSON or 0 if it should not be
+         *                      limited.
+         * @return This builder instance.
+         */
+        public Builder jsonMaxLength(int jsonMaxLength) {
+            mJsonMaxLength = Math.max(jsonMaxLength, 0);
+            return this;
+        }
+
         /**
          * Sets the count of indent space count for {@link ALog#xml(ALogLevel, String)} and
          * {@link ALog#xml(String)} log messages.
@@ -389,6 +588,19 @@ public final class ALogConfiguration {
             return this;
         }
 
+        /**
+         * Sets max count of bytes dumped by {@link ALog#hex(ALogLevel, byte[])} and
+         * {@link ALog#hex(byte[])} calls. The rest of bytes is replaced with
+         * "... N bytes omitted" marker. If not called count of dumped bytes is not limited.
+         *
+         * @param hexMaxByteCount Max count of dumped bytes or 0 if it should not be limited.
+         * @return This builder instance.
+         */
+        public Builder hexMaxByteCount(int hexMaxByteCount) {
+            mHexMaxByteCount = Math.max(hexMaxByteCount, 0);
+            return this;
+        }
+
         /**
          * Sets file configuration to print logging messages to storage. Logging to file is
          * additional to the standard Android logging. Output using the single file configuration
@@ -399,7 +611,7 @@ public final class ALogConfiguration {
          * @return This builder instance.
          */
         public Builder file(ALogFileConfiguration fileConfiguration) {
-            mFilePrinter = new FileALogPrinter(fileConfiguration.mWriter);
+            mFilePrinter = new FileALogPrinter(fileConfiguration);
             return this;
         }
 
@@ -455,9 +667,53 @@ public final class ALogConfiguration {
             return this;
         }
 
+        /**
+         * Sets the maximal count of elements of arrays, collections, iterables and maps which are
+         * formatted by built-in formatters. The rest of elements is replaced with elision marker
+         * like "... (999000 more)". If not called by default 1000 elements are formatted.
+         *
+         * @param formatterMaxElementCount Maximal count of formatted elements. Values less than 1
+         *                                 are treated as 1.
+         * @return This builder instance.
+         */
+        public Builder formatterMaxElementCount(int formatterMaxElementCount) {
+            mFormatterMaxElementCount = Math.max(formatterMaxElementCount, 1);
+            return this;
+        }
+
+        /**
+         * Sets the maximal nesting depth of arrays, collections, iterables and maps which are
+         * formatted by built-in formatters. Contents of deeper nested ones are replaced with "...".
+         * If not called by default nesting depth is limited to 16.
+         *
+         * @param formatterMaxDepth Maximal nesting depth. Values less than 1 are treated as 1.
+         * @return This builder instance.
+         */
+        public Builder formatterMaxDepth(int formatterMaxDepth) {
+            mFormatterMaxDepth = Math.max(formatterMaxDepth, 1);
+            return this;
+        }
+
+        /**
+         * Sets the maximal length of single logging message argument logging string. Built-in
+         * formatters stop formatting of elements when this length is reached, longer logging
+         * strings of other formatters are truncated. If not called by default logging string
+         * length is limited to 65536 characters.
+         *
+         * @param formatterMaxLength Maximal length of argument logging string. Values less than 1
+         *                           are treated as 1.
+         * @return This builder instance.
+         */
+        public Builder formatterMaxLength(int formatterMaxLength) {
+            mFormatterMaxLength = Math.max(formatterMaxLength, 1);
+            return this;
+        }
+
         /**
          * Adds custom class instances logging formatter. Custom formatters are prohibited for
          * primitive classes, primitive class wrappers, arrays, collections, iterables and maps.
+         * Formatter is also used for subclasses of passed class or implementations of passed
+         * interface unless more specific formatter is added for them.
          *
          * @param clazz Class instances of which should be formatted with passed logging formatter.
          * @param formatter Custom logging formatter.
@@ -484,11 +740,14 @@ public final class ALogConfiguration {
          */
         public ALogConfiguration build() {
             return new ALogConfiguration(mIsEnabled, mMinimalLevel, mJsonLevel, mXmlLevel, mHexLevel,
-                    mTag, mIsThreadPrefixEnabled, mIsClassPrefixEnabled, mIsMethodPrefixEnabled,
-                    mIsLineLocationPrefixEnabled, mStackTraceLineCount, mJsonIndentSpaceCount,
-                    mXmlIndentSpaceCount, mFilePrinter, mIsArrayFormatterEnabled,
-                    mIsCollectionFormatterEnabled, mIsIterableFormatterEnabled,
-                    mIsMapFormatterEnabled, mFormatterMap);
+                    mMessageFormat, ALogLevelOverrides.create(mTagLevels, mClassLevels), mTag,
+                    mIsThreadPrefixEnabled, mIsClassPrefixEnabled, mIsMethodPrefixEnabled,
+                    mIsLineLocationPrefixEnabled, mStackTraceLineCount,
+                    mSkipPackageNames.toArray(new String[0]), mJsonIndentSpaceCount,
+                    mJsonMaxLength, mXmlIndentSpaceCount, mHexMaxByteCount, mFilePrinter,
+                    mIsArrayFormatterEnabled, mIsCollectionFormatterEnabled, mIsIterableFormatterEnabled,
+                    mIsMapFormatterEnabled, mFormatterMaxElementCount, mFormatterMaxDepth,
+                    mFormatterMaxLength, mFormatterMap);
         }
     }
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free multi-producer/single-consumer ring buffer of pre-allocated reusable logging
+ * events. Producers copy logging message data into claimed event slot, so no allocations are
+ * performed per logging message in the steady state. Each slot has its own sequence number which
+ * shows whether slot is free for producers or published for consumer. Besides consumer, producers
+ * are allowed to drop the oldest published events to free space.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+final class ALogEventRingBuffer {
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int INITIAL_MESSAGE_CAPACITY = 256;
+    private static final int MAX_RETAINED_MESSAGE_CAPACITY = 16 * 1024;
+
+    /**
+     * Reusable logging event slot.
+     */
+    static final class Event {
+        ALogLevel mLevel;
+        String mTag;
+        long mTimestamp;
+        StringBuilder mMessage;
+
+        private Event() {
+            mMessage = new StringBuilder(INITIAL_MESSAGE_CAPACITY);
+        }
+    }
+
+    private final Event[] mEvents;
+    private final AtomicLongArray mSequences;
+    private final int mMask;
+    private final AtomicLong mTail;
+    private final AtomicLong mHead;
+
+    private long mTakenPosition;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity Minimal count of events which can be stored in this ring buffer. Real
+     *                 capacity is rounded up to the nearest power of two. Must be positive number.
+     */
+    ALogEventRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Ring buffer capacity must be positive number");
+        }
+        int realCapacity = 1;
+        while (realCapacity < capacity && realCapacity < MAX_CAPACITY) {
+            realCapacity <<= 1;
+        }
+        mEvents = new Event[realCapacity];
+        mSequences = new AtomicLongArray(realCapacity);
+        for (int i = 0; i < realCapacity; ++i) {
+            mEvents[i] = new Event();
+            mSequences.set(i, i);
+        }
+        mMask = realCapacity - 1;
+        mTail = new AtomicLong(0L);
+        mHead = new AtomicLong(0L);
+        mTakenPosition = -1L;
+    }
+
+    /**
+     * Gets real capacity of this ring buffer.
+     *
+     * @return Count of events which can be stored in this ring buffer.
+     */
+    int getCapacity() {
+        return mEvents.length;
+    }
+
+    /**
+     * Tries to publish logging event. Can be called from any thread.
+     *
+     * @param level Logging level. See {@link ALogLevel}.
+     * @param tag Log tag.
+     * @param message Logging message. Its content is copied, so it can be reused by caller after
+     *                this method returns.
+     * @param timestamp Logging event time in milliseconds.
+     * @return true if event was published, false if ring buffer is full.
+     */
+    boolean offer(ALogLevel level, CharSequence tag, CharSequence message, long timestamp) {
+        long position = mTail.get();
+        while (true) {
+            int index = (int) position & mMask;
+            long difference = mSequences.get(index) - position;
+            if (difference == 0L) {
+                if (mTail.compareAndSet(position, position + 1L)) {
+                    Event event = mEvents[index];
+                    event.mLevel = level;
+                    event.mTag = tag != null ? tag.toString() : null;
+                    event.mTimestamp = timestamp;
+                    event.mMessage.setLength(0);
+                    event.mMessage.append(message);
+                    mSequences.set(index, position + 1L);
+                    return true;
+                }
+                position = mTail.get();
+            } else if (difference < 0L) {
+                return false;
+            } else {
+                position = mTail.get();
+            }
+        }
+    }
+
+    /**
+     * Takes the oldest published event. Must be called only from the consumer thread. Returned
+     * event slot stays owned by consumer until {@link #release()} is called.
+     *
+     * @return The oldest published event or null if ring buffer is empty.
+     */
+    Event take() {
+        long position = claimHead();
+        if (position < 0L) {
+            return null;
+        }
+        mTakenPosition = position;
+        return mEvents[(int) position & mMask];
+    }
+
+    /**
+     * Releases event slot previously got from {@link #take()}, so it can be reused by producers.
+     * Must be called only from the consumer thread.
+     */
+    void release() {
+        free(mTakenPosition);
+    }
+
+    /**
+     * Drops the oldest published event to free space for the new one. Can be called from any
+     * thread.
+     *
+     * @return true if event was dropped, false if there is no published event to drop.
+     */
+    boolean discardOldest() {
+        long position = claimHead();
+        if (position < 0L) {
+            return false;
+        }
+        free(position);
+        return true;
+    }
+
+    /**
+     * Checks if there are no published events.
+     *
+     * @return true if there are no published events, false otherwise.
+     */
+    boolean isEmpty() {
+        long position = mHead.get();
+        return mSequences.get((int) position & mMask) != position + 1L;
+    }
+
+    private long claimHead() {
+        long position = mHead.get();
+        while (true) {
+            int index = (int) position & mMask;
+            long difference = mSequences.get(index) - (position + 1L);
+            if (difference == 0L) {
+                if (mHead.compareAndSet(position, position + 1L)) {
+                    return position;
+                }
+            } else if (difference < 0L) {
+                return -1L;
+            }
+            position = mHead.get();
+        }
+    }
+
+    private void free(long position) {
+        int index = (int) position & mMask;
+        Event event = mEvents[index];
+        if (event.mMessage.capacity() > MAX_RETAINED_MESSAGE_CAPACITY) {
+            event.mMessage = new StringBuilder(INITIAL_MESSAGE_CAPACITY);
+        }
+        event.mTag = null;
+        mSequences.set(index, position + mMask + 1L);
+    }
+}
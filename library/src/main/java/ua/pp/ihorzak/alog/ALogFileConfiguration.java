@@ -17,15 +17,51 @@
 package ua.pp.ihorzak.alog;
 
 /**
- * Represents configuration for {@link ALog} file output.
+ * Represents configuration for {@link ALog} file output. Instances can be created via
+ * {@link #single(String, boolean)} and
+ * {@link #chunked(String, long, int, ALogChunkFileNameProvider)} calls or via {@link Builder}
+ * which can be obtained via {@link #builder()} call.
  *
  * @author Ihor Zakhozhyi <ihorzak@gmail.com>
  */
 public final class ALogFileConfiguration {
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    private static final boolean DEFAULT_IS_BATCHING_ENABLED = false;
+    private static final long DEFAULT_FLUSH_INTERVAL = 0L;
+    private static final int DEFAULT_FLUSH_SIZE_THRESHOLD = 32 * 1024;
+    private static final ALogLevel DEFAULT_IMMEDIATE_FLUSH_LEVEL = ALogLevel.ERROR;
+
     final ALogFileWriter mWriter;
+    final int mQueueCapacity;
+    final ALogFileOverflowPolicy mOverflowPolicy;
+    final boolean mIsBatchingEnabled;
+    final long mFlushInterval;
+    final int mFlushSizeThreshold;
+    final ALogLevel mImmediateFlushLevel;
 
-    private ALogFileConfiguration(ALogFileWriter writer) {
+    ALogFileConfiguration(ALogFileWriter writer,
+                          int queueCapacity,
+                          ALogFileOverflowPolicy overflowPolicy,
+                          boolean isBatchingEnabled,
+                          long flushInterval,
+                          int flushSizeThreshold,
+                          ALogLevel immediateFlushLevel) {
         mWriter = writer;
+        mQueueCapacity = queueCapacity;
+        mOverflowPolicy = overflowPolicy;
+        mIsBatchingEnabled = isBatchingEnabled;
+        mFlushInterval = flushInterval;
+        mFlushSizeThreshold = flushSizeThreshold;
+        mImmediateFlushLevel = immediateFlushLevel;
+    }
+
+    /**
+     * Creates {@link Builder} instance, which is used to configure {@link ALogFileConfiguration}.
+     *
+     * @return {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
     }
 
     /**
@@ -39,7 +75,7 @@ public final class ALogFileConfiguration {
      * @return {@link ALogFileConfiguration} to perform logging output to the single file.
      */
     public static ALogFileConfiguration single(String filePath, boolean append) {
-        return new ALogFileConfiguration(new SingleALogFileWriter(filePath, append));
+        return builder().single(filePath, append).build();
     }
 
     /**
@@ -47,7 +83,9 @@ public final class ALogFileConfiguration {
      * files with file count and file size limits. In case file size limit exceeds new file (chunk)
      * is created. In case file size limit exceeds the most old file is deleted.
      * In case specified chunk files directory contains files they will be deleted.
-     * If logging message exceeds chunk size limit it will be ignored.
+     * If logging message exceeds chunk size limit it will be ignored. Chunk files can be listed
+     * in chronological order via
+     * {@link ALogChunkFiles#list(String, int, ALogChunkFileNameProvider)} call.
      * Created instance must be passed to
      * {@link ALogConfiguration.Builder#file(ALogFileConfiguration)}.
      *
@@ -62,13 +100,262 @@ public final class ALogFileConfiguration {
                                                 long chunkSizeLimit,
                                                 int chunkCount,
                                                 ALogChunkFileNameProvider nameProvider) {
-        return new ALogFileConfiguration(
-                new ChunkedALogFileWriter(
-                        filesDirectoryPath,
-                        chunkSizeLimit,
-                        chunkCount,
-                        nameProvider
-                )
-        );
+        return builder().chunked(filesDirectoryPath, chunkSizeLimit, chunkCount, nameProvider).build();
+    }
+
+    /**
+     * Builder to create configured {@link ALogFileConfiguration} instance. Output file(s) must be
+     * set via {@link #single(String, boolean)} or
+     * {@link #chunked(String, long, int, ALogChunkFileNameProvider)} call before
+     * {@link #build()} call.
+     */
+    @SuppressWarnings({"WeakerAccess", "unused", "UnusedReturnValue"})
+    public static class Builder {
+        private boolean mIsChunked;
+        private String mFilePath;
+        private boolean mAppend;
+        private String mFilesDirectoryPath;
+        private long mChunkSizeLimit;
+        private int mChunkCount;
+        private ALogChunkFileNameProvider mNameProvider;
+        private ALogChunkSizeUnit mChunkSizeUnit;
+        private boolean mIsResumeEnabled;
+        private int mQueueCapacity;
+        private ALogFileOverflowPolicy mOverflowPolicy;
+        private boolean mIsBatchingEnabled;
+        private long mFlushInterval;
+        private int mFlushSizeThreshold;
+        private ALogLevel mImmediateFlushLevel;
+        private ALogFileOutputMode mOutputMode;
+
+        private Builder() {
+            mIsChunked = false;
+            mFilePath = null;
+            mAppend = false;
+            mFilesDirectoryPath = null;
+            mChunkSizeLimit = 0L;
+            mChunkCount = 0;
+            mNameProvider = null;
+            mChunkSizeUnit = ALogChunkSizeUnit.CHARS;
+            mIsResumeEnabled = false;
+            mQueueCapacity = DEFAULT_QUEUE_CAPACITY;
+            mOverflowPolicy = ALogFileOverflowPolicy.block();
+            mIsBatchingEnabled = DEFAULT_IS_BATCHING_ENABLED;
+            mFlushInterval = DEFAULT_FLUSH_INTERVAL;
+            mFlushSizeThreshold = DEFAULT_FLUSH_SIZE_THRESHOLD;
+            mImmediateFlushLevel = DEFAULT_IMMEDIATE_FLUSH_LEVEL;
+            mOutputMode = ALogFileOutputMode.STREAM;
+        }
+
+        /**
+         * Sets logging output to the single file. Repeated call to this method or call to
+         * {@link #chunked(String, long, int, ALogChunkFileNameProvider)} overrides previously
+         * set output file(s).
+         *
+         * @param filePath Logging output file path.
+         * @param append Flag which indicates behavior in case output file already exists: true if
+         *               its content should be appended, false if its content should be
+         *               overwritten.
+         * @return This builder instance.
+         */
+        public Builder single(String filePath, boolean append) {
+            mIsChunked = false;
+            mFilePath = filePath;
+            mAppend = append;
+            return this;
+        }
+
+        /**
+         * Sets logging output to the multiple (chunk) files with file count and file size limits.
+         * In case file size limit exceeds new file (chunk) is created. In case file size limit
+         * exceeds the most old file is deleted. In case specified chunk files directory contains
+         * files they will be deleted. If logging message exceeds chunk size limit it will be
+         * ignored. Repeated call to this method or call to {@link #single(String, boolean)}
+         * overrides previously set output file(s).
+         *
+         * @param filesDirectoryPath Logging output files directory.
+         * @param chunkSizeLimit Chunk file size limit (in chars by default, see
+         *                       {@link #chunkSizeUnit(ALogChunkSizeUnit)}). Must be positive
+         *                       number.
+         * @param chunkCount Chunk file count limit. Must be positive number.
+         * @param nameProvider Chunk file name provider.
+         * @return This builder instance.
+         */
+        public Builder chunked(String filesDirectoryPath,
+                               long chunkSizeLimit,
+                               int chunkCount,
+                               ALogChunkFileNameProvider nameProvider) {
+            mIsChunked = true;
+            mFilesDirectoryPath = filesDirectoryPath;
+            mChunkSizeLimit = chunkSizeLimit;
+            mChunkCount = chunkCount;
+            mNameProvider = nameProvider;
+            return this;
+        }
+
+        /**
+         * Sets units in which chunk size limit passed to
+         * {@link #chunked(String, long, int, ALogChunkFileNameProvider)} is measured. If not
+         * called by default {@link ALogChunkSizeUnit#CHARS} unit is used.
+         *
+         * @param chunkSizeUnit Chunk size limit unit. See {@link ALogChunkSizeUnit}.
+         * @return This builder instance.
+         */
+        public Builder chunkSizeUnit(ALogChunkSizeUnit chunkSizeUnit) {
+            if (chunkSizeUnit == null) {
+                throw new IllegalArgumentException("Chunk size unit must not be null");
+            }
+            mChunkSizeUnit = chunkSizeUnit;
+            return this;
+        }
+
+        /**
+         * Enables/disables resume of chunked output. If resume is enabled existing chunk files
+         * set via {@link #chunked(String, long, int, ALogChunkFileNameProvider)} call are kept
+         * and writing is continued to the newest existing chunk file. If resume is disabled
+         * existing chunk files are deleted. In case chunk size limit is measured in chars size
+         * of resumed chunk file is estimated by its size in bytes. If not called by default resume
+         * is disabled.
+         *
+         * @param isResumeEnabled true if chunked output should be resumed, false otherwise.
+         * @return This builder instance.
+         */
+        public Builder resumeEnabled(boolean isResumeEnabled) {
+            mIsResumeEnabled = isResumeEnabled;
+            return this;
+        }
+
+        /**
+         * Sets the capacity of logging messages queue which are waiting to be written to file.
+         * Real capacity is rounded up to the nearest power of two. If not called by default
+         * queue capacity is set to 1024.
+         *
+         * @param queueCapacity Logging messages queue capacity. Must be positive number.
+         * @return This builder instance.
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            if (queueCapacity <= 0) {
+                throw new IllegalArgumentException("Queue capacity must be positive number");
+            }
+            mQueueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets behavior in case logging messages queue is full. If not called by default
+         * {@link ALogFileOverflowPolicy#block()} policy is used.
+         *
+         * @param overflowPolicy Logging messages queue overflow policy.
+         *                       See {@link ALogFileOverflowPolicy}.
+         * @return This builder instance.
+         */
+        public Builder overflowPolicy(ALogFileOverflowPolicy overflowPolicy) {
+            if (overflowPolicy == null) {
+                throw new IllegalArgumentException("Overflow policy must not be null");
+            }
+            mOverflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * Enables/disables batched writes. If batched writes are disabled each logging message is
+         * flushed to file right after it is written. If batched writes are enabled logging
+         * messages are collected in the file buffer, which is flushed once all queued logging
+         * messages are written and flush interval is elapsed since the oldest not flushed logging
+         * message, once flush size threshold is exceeded or once logging message with
+         * immediate flush level is written. If not called by default batched writes are disabled.
+         *
+         * @param isBatchingEnabled true if batched writes should be enabled, false otherwise.
+         * @return This builder instance.
+         */
+        public Builder batchingEnabled(boolean isBatchingEnabled) {
+            mIsBatchingEnabled = isBatchingEnabled;
+            return this;
+        }
+
+        /**
+         * Sets the maximal time for which written logging messages can stay not flushed to file
+         * in case batched writes are enabled. If set to 0 logging messages are flushed once all
+         * queued logging messages are written. If not called by default flush interval is set
+         * to 0.
+         *
+         * @param flushInterval Flush interval in milliseconds.
+         * @return This builder instance.
+         */
+        public Builder flushInterval(long flushInterval) {
+            mFlushInterval = Math.max(flushInterval, 0L);
+            return this;
+        }
+
+        /**
+         * Sets the size of not flushed logging messages (in chars) starting from which they are
+         * flushed to file in case batched writes are enabled. If not called by default flush size
+         * threshold is set to 32768.
+         *
+         * @param flushSizeThreshold Flush size threshold (in chars).
+         * @return This builder instance.
+         */
+        public Builder flushSizeThreshold(int flushSizeThreshold) {
+            mFlushSizeThreshold = Math.max(flushSizeThreshold, 0);
+            return this;
+        }
+
+        /**
+         * Sets minimal logging level of logging messages which are flushed to file right after
+         * they are written in case batched writes are enabled. If not called by default immediate
+         * flush level is set to {@link ALogLevel#ERROR}.
+         *
+         * @param immediateFlushLevel Minimal logging level of immediately flushed logging
+         *                            messages or null if logging messages should not be flushed
+         *                            immediately. See {@link ALogLevel}.
+         * @return This builder instance.
+         */
+        public Builder immediateFlushLevel(ALogLevel immediateFlushLevel) {
+            mImmediateFlushLevel = immediateFlushLevel;
+            return this;
+        }
+
+        /**
+         * Sets the way how logging messages are written to file. If not called by default
+         * {@link ALogFileOutputMode#STREAM} mode is used.
+         *
+         * @param outputMode Logging output file mode. See {@link ALogFileOutputMode}.
+         * @return This builder instance.
+         */
+        public Builder outputMode(ALogFileOutputMode outputMode) {
+            if (outputMode == null) {
+                throw new IllegalArgumentException("Output mode must not be null");
+            }
+            mOutputMode = outputMode;
+            return this;
+        }
+
+        /**
+         * Builds new {@link ALogFileConfiguration} instance with set to this builder instance
+         * parameters.
+         *
+         * @return New {@link ALogFileConfiguration} instance.
+         * @throws IllegalStateException If output file(s) was not set.
+         */
+        public ALogFileConfiguration build() {
+            ALogFileWriter writer;
+            if (mIsChunked) {
+                writer = new ChunkedALogFileWriter(
+                        mFilesDirectoryPath,
+                        mChunkSizeLimit,
+                        mChunkSizeUnit,
+                        mChunkCount,
+                        mNameProvider,
+                        mOutputMode,
+                        mIsResumeEnabled
+                );
+            } else if (mFilePath != null) {
+                writer = new SingleALogFileWriter(mFilePath, mAppend, mOutputMode);
+            } else {
+                throw new IllegalStateException("Output file(s) must be set before build");
+            }
+            return new ALogFileConfiguration(writer, mQueueCapacity, mOverflowPolicy,
+                    mIsBatchingEnabled, mFlushInterval, mFlushSizeThreshold, mImmediateFlushLevel);
+        }
     }
 }
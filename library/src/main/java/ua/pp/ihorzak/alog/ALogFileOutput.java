@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Represents reusable logging output file handle. The same instance can be used to write to
+ * several files one by one: each {@link #open(File, boolean)} call must be followed by
+ * {@link #close()} call before the next file is opened.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+interface ALogFileOutput {
+    /**
+     * Opens specified file for writing.
+     *
+     * @param file Logging output file.
+     * @param append Flag which indicates behavior in case output file already exists: true if
+     *               its content should be appended, false if its content should be overwritten.
+     * @return Size (in bytes) of file content after which messages are written.
+     * @throws IOException If file cannot be opened.
+     */
+    long open(File file, boolean append) throws IOException;
+
+    /**
+     * Writes specified message to file buffer.
+     *
+     * @param message Message to be written.
+     * @throws IOException If file cannot be written.
+     */
+    void write(CharSequence message) throws IOException;
+
+    /**
+     * Flushes file buffer to file.
+     *
+     * @throws IOException If file cannot be written.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Flushes file buffer to file and closes file. Does nothing if file is not opened.
+     *
+     * @throws IOException If file cannot be written or closed.
+     */
+    void close() throws IOException;
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+/**
+ * Represents the way how {@link ALog} file output writes logging messages to file. Values
+ * should be passed to {@link ALogFileConfiguration.Builder#outputMode(ALogFileOutputMode)}.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public enum ALogFileOutputMode {
+    /**
+     * Logging messages are encoded to UTF-8 and written via buffered
+     * {@link java.io.OutputStreamWriter}.
+     */
+    STREAM {
+        @Override
+        ALogFileOutput createOutput(long maxFileSize) {
+            return new StreamALogFileOutput();
+        }
+    },
+    /**
+     * Logging messages are encoded to UTF-8 directly into reusable direct
+     * {@link java.nio.ByteBuffer} and written via {@link java.nio.channels.FileChannel}. No
+     * intermediate char and byte arrays are allocated per logging message.
+     */
+    CHANNEL {
+        @Override
+        ALogFileOutput createOutput(long maxFileSize) {
+            return new ChannelALogFileOutput();
+        }
+    },
+    /**
+     * Each chunk file is pre-allocated with its maximal size and mapped into memory via
+     * {@link java.nio.MappedByteBuffer}. Logging messages are encoded to UTF-8 directly into the
+     * mapping, so no write system calls are performed per logging message and written data is
+     * persisted by the page cache even if the process crashes. Content end is kept in a small
+     * trailer at the end of the mapping, so a chunk file left open by a crashed process is resumed
+     * without scanning its padding. Unused tail of chunk file is truncated once the next chunk
+     * file is opened. Supported only for chunked output with
+     * chunk size limit which does not exceed 2 GB of encoded content.
+     */
+    MEMORY_MAPPED {
+        @Override
+        ALogFileOutput createOutput(long maxFileSize) {
+            if (maxFileSize <= 0L) {
+                throw new IllegalArgumentException("Memory mapped output mode is supported only for chunked output");
+            }
+            if (maxFileSize > Integer.MAX_VALUE - MappedALogFileOutput.TRAILER_SIZE) {
+                throw new IllegalArgumentException("Chunk size limit is too big for memory mapped output mode");
+            }
+            return new MappedALogFileOutput((int) maxFileSize);
+        }
+    };
+
+    /**
+     * Creates new not opened output file handle.
+     *
+     * @param maxFileSize Maximal size of each output file (in bytes) or 0 if it is not limited.
+     * @return New {@link ALogFileOutput} instance.
+     * @throws IllegalArgumentException If this mode does not support specified maximal size.
+     */
+    abstract ALogFileOutput createOutput(long maxFileSize);
+}
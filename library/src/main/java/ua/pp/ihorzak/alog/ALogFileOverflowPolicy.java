@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+/**
+ * Represents behavior of {@link ALog} file output in case its logging messages queue is full
+ * (logging messages are produced faster than they can be written to file). Instances should be
+ * passed to {@link ALogFileConfiguration.Builder#overflowPolicy(ALogFileOverflowPolicy)}.
+ * Count of dropped logging messages is written to file as separate logging message once the queue
+ * is drained.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class ALogFileOverflowPolicy {
+    /**
+     * Type of overflow policy.
+     */
+    enum Type {
+        BLOCK,
+        DROP_NEWEST,
+        DROP_OLDEST,
+        SAMPLE
+    }
+
+    private static final ALogFileOverflowPolicy BLOCK = new ALogFileOverflowPolicy(Type.BLOCK, 1, ALogLevel.WTF);
+    private static final ALogFileOverflowPolicy DROP_NEWEST = new ALogFileOverflowPolicy(Type.DROP_NEWEST, 1, ALogLevel.WTF);
+    private static final ALogFileOverflowPolicy DROP_OLDEST = new ALogFileOverflowPolicy(Type.DROP_OLDEST, 1, ALogLevel.WTF);
+
+    /**
+     * Gets policy which blocks logging method caller until there is free space in the queue.
+     * No logging messages are lost with this policy.
+     *
+     * @return Policy which blocks logging method caller.
+     */
+    public static ALogFileOverflowPolicy block() {
+        return BLOCK;
+    }
+
+    /**
+     * Gets policy which drops logging message which is currently logged if the queue is full.
+     *
+     * @return Policy which drops the newest logging message.
+     */
+    public static ALogFileOverflowPolicy dropNewest() {
+        return DROP_NEWEST;
+    }
+
+    /**
+     * Gets policy which drops the oldest logging message from the queue to free space for
+     * logging message which is currently logged. At most one logging message is dropped per
+     * logging method call, if freed space cannot be reused yet (the writer thread is still
+     * writing previous logging message), logging method caller waits for it.
+     *
+     * @return Policy which drops the oldest logging message.
+     */
+    public static ALogFileOverflowPolicy dropOldest() {
+        return DROP_OLDEST;
+    }
+
+    /**
+     * Creates policy which keeps only one of each sampleRate logging messages with logging level
+     * lower than specified one while the queue is full. Kept logging messages and logging messages
+     * with specified or higher logging level block logging method caller until there is free
+     * space in the queue.
+     *
+     * @param sampleRate Count of logging messages from which only one is kept. Must be positive
+     *                   number.
+     * @param level Logging level starting from which logging messages are never dropped.
+     *              See {@link ALogLevel}.
+     * @return Policy which samples logging messages with logging level lower than specified one.
+     */
+    public static ALogFileOverflowPolicy sample(int sampleRate, ALogLevel level) {
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("Sample rate must be positive number");
+        }
+        if (level == null) {
+            throw new IllegalArgumentException("Sample level must not be null");
+        }
+        return new ALogFileOverflowPolicy(Type.SAMPLE, sampleRate, level);
+    }
+
+    final Type mType;
+    final int mSampleRate;
+    final ALogLevel mSampleLevel;
+
+    private ALogFileOverflowPolicy(Type type, int sampleRate, ALogLevel sampleLevel) {
+        mType = type;
+        mSampleRate = sampleRate;
+        mSampleLevel = sampleLevel;
+    }
+}
@@ -16,10 +16,11 @@
 
 package ua.pp.ihorzak.alog;
 
-import java.io.FileNotFoundException;
+import java.io.IOException;
 
 /**
- * Interface to write logging messages output to file.
+ * Interface to write logging messages output to file. Written messages can be buffered, they are
+ * guaranteed to reach the file only after {@link #flush()} call.
  *
  * @author Ihor Zakhozhyi <ihorzak@gmail.com>
  */
@@ -28,7 +29,14 @@ interface ALogFileWriter {
      * Writes specified message to logging file.
      *
      * @param message Message to be written.
-     * @throws FileNotFoundException If file to write to doesn't exist and cannot be created.
+     * @throws IOException If file to write to cannot be opened or written.
      */
-    void write(CharSequence message) throws FileNotFoundException;
+    void write(CharSequence message) throws IOException;
+
+    /**
+     * Flushes buffered messages to logging file.
+     *
+     * @throws IOException If file cannot be written.
+     */
+    void flush() throws IOException;
 }
@@ -0,0 +1,590 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled logging message format. Each distinct format is parsed once and cached, so logging
+ * messages are built by direct appends without {@link java.util.Formatter} usage. Supported
+ * format specifiers are "%s", "%b", "%c", "%d", "%x", "%X", "%f", "%%" and "%n" with optional
+ * explicit argument index, width, precision and "-" or "0" flags. Formats with any other format
+ * specifiers, as well as arguments which do not match their format specifiers, are formatted with
+ * {@link Utils#formatMessageWithArguments(String, Object[], ALogConfiguration)}, so output and
+ * format errors are the same as {@link String#format(String, Object...)} ones.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+final class ALogFormatTemplate {
+    static final int MAX_CACHE_SIZE = 256;
+    static final int MAX_CACHED_FORMAT_LENGTH = 1024;
+
+    private static final int FLAG_LEFT_JUSTIFY = 1;
+    private static final int FLAG_ZERO_PAD = 1 << 1;
+
+    private static final int NO_ARGUMENT = -1;
+    private static final int DEFAULT_FLOAT_PRECISION = 6;
+
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+    private static final char[] LOWER_HEX_CHARS = new char[] {
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'
+    };
+    private static final char[] UPPER_HEX_CHARS = new char[] {
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'
+    };
+
+    private static final ConcurrentHashMap<String, ALogFormatTemplate> CACHE = new ConcurrentHashMap<>();
+
+    private static volatile LocaleSymbols defaultLocaleSymbols;
+
+    private final String mFormat;
+    private final boolean mIsSupported;
+    private final int mSpecifierCount;
+    private final int[] mLiteralStarts;
+    private final int[] mLiteralEnds;
+    private final char[] mConversions;
+    private final int[] mFlags;
+    private final int[] mWidths;
+    private final int[] mPrecisions;
+    private final int[] mArgumentIndexes;
+
+    private ALogFormatTemplate(String format) {
+        mFormat = format;
+        int maxSpecifierCount = 0;
+        for (int i = 0; i < format.length(); ++i) {
+            if (format.charAt(i) == '%') {
+                ++maxSpecifierCount;
+            }
+        }
+        mLiteralStarts = new int[maxSpecifierCount + 1];
+        mLiteralEnds = new int[maxSpecifierCount + 1];
+        mConversions = new char[maxSpecifierCount];
+        mFlags = new int[maxSpecifierCount];
+        mWidths = new int[maxSpecifierCount];
+        mPrecisions = new int[maxSpecifierCount];
+        mArgumentIndexes = new int[maxSpecifierCount];
+        int specifierCount = parse();
+        mIsSupported = specifierCount >= 0;
+        mSpecifierCount = Math.max(specifierCount, 0);
+    }
+
+    /**
+     * Gets compiled template of passed logging message format. Templates of formats which are
+     * not longer than {@link #MAX_CACHED_FORMAT_LENGTH} are cached. Cache is cleared once it
+     * contains {@link #MAX_CACHE_SIZE} templates.
+     *
+     * @param format Logging message format.
+     * @return Compiled template.
+     */
+    static ALogFormatTemplate get(String format) {
+        if (format.length() > MAX_CACHED_FORMAT_LENGTH) {
+            return new ALogFormatTemplate(format);
+        }
+        ALogFormatTemplate template = CACHE.get(format);
+        if (template == null) {
+            template = new ALogFormatTemplate(format);
+            if (CACHE.size() >= MAX_CACHE_SIZE) {
+                CACHE.clear();
+            }
+            CACHE.put(format, template);
+        }
+        return template;
+    }
+
+    /**
+     * Appends logging message format formatted with passed arguments to passed builder.
+     *
+     * @param builder Builder to append formatted logging message to.
+     * @param message Logging message format.
+     * @param arguments Logging message arguments.
+     * @param configuration {@link ALog} configuration.
+     */
+    static void appendFormatted(StringBuilder builder,
+                                String message,
+                                Object[] arguments,
+                                ALogConfiguration configuration) {
+        if (arguments == null || arguments.length == 0) {
+            builder.append(message);
+            return;
+        }
+        int start = builder.length();
+        if (!get(message).appendTo(builder, arguments, null, configuration)) {
+            builder.setLength(start);
+            builder.append(Utils.formatMessageWithArguments(message, arguments, configuration));
+        }
+    }
+
+    /**
+     * Appends logging message format formatted with passed arguments to passed builder.
+     *
+     * @param builder Builder to append formatted logging message to.
+     * @param message Logging message format.
+     * @param arguments Logging message arguments.
+     * @param configuration {@link ALog} configuration.
+     */
+    static void appendFormatted(StringBuilder builder,
+                                String message,
+                                ALogArguments arguments,
+                                ALogConfiguration configuration) {
+        int start = builder.length();
+        if (!get(message).appendTo(builder, null, arguments, configuration)) {
+            builder.setLength(start);
+            builder.append(Utils.formatMessageWithArguments(message, arguments.toArray(), configuration));
+        }
+    }
+
+    /**
+     * Checks if this template can be formatted without {@link java.util.Formatter}.
+     *
+     * @return true if format contains only supported format specifiers, false otherwise.
+     */
+    boolean isSupported() {
+        return mIsSupported;
+    }
+
+    private int parse() {
+        String format = mFormat;
+        int length = format.length();
+        int count = 0;
+        int ordinaryIndex = 0;
+        int literalStart = 0;
+        int i = 0;
+        while (i < length) {
+            if (format.charAt(i) != '%') {
+                ++i;
+                continue;
+            }
+            mLiteralStarts[count] = literalStart;
+            mLiteralEnds[count] = i;
+            int position = i + 1;
+            int argumentIndex = NO_ARGUMENT;
+            int digitsEnd = skipDigits(format, position);
+            if (digitsEnd > position && digitsEnd < length && format.charAt(digitsEnd) == '$') {
+                argumentIndex = parseNumber(format, position, digitsEnd) - 1;
+                if (argumentIndex < 0) {
+                    return -1;
+                }
+                position = digitsEnd + 1;
+            }
+            int flags = 0;
+            while (position < length) {
+                char c = format.charAt(position);
+                int flag;
+                if (c == '-') {
+                    flag = FLAG_LEFT_JUSTIFY;
+                } else if (c == '0') {
+                    flag = FLAG_ZERO_PAD;
+                } else if (c == '#' || c == '+' || c == ' ' || c == ',' || c == '(' || c == '<') {
+                    return -1;
+                } else {
+                    break;
+                }
+                if ((flags & flag) != 0) {
+                    return -1;
+                }
+                flags |= flag;
+                ++position;
+            }
+            int width = -1;
+            digitsEnd = skipDigits(format, position);
+            if (digitsEnd > position) {
+                width = parseNumber(format, position, digitsEnd);
+                if (width < 0) {
+                    return -1;
+                }
+                position = digitsEnd;
+            }
+            int precision = -1;
+            if (position < length && format.charAt(position) == '.') {
+                digitsEnd = skipDigits(format, position + 1);
+                if (digitsEnd == position + 1) {
+                    return -1;
+                }
+                precision = parseNumber(format, position + 1, digitsEnd);
+                if (precision < 0) {
+                    return -1;
+                }
+                position = digitsEnd;
+            }
+            if (position >= length) {
+                return -1;
+            }
+            char conversion = format.charAt(position);
+            if (!isSupported(conversion, flags, width, precision, argumentIndex)) {
+                return -1;
+            }
+            if (conversion != '%' && conversion != 'n' && argumentIndex == NO_ARGUMENT) {
+                argumentIndex = ordinaryIndex++;
+            }
+            mConversions[count] = conversion;
+            mFlags[count] = flags;
+            mWidths[count] = width;
+            mPrecisions[count] = precision;
+            mArgumentIndexes[count] = argumentIndex;
+            ++count;
+            i = position + 1;
+            literalStart = i;
+        }
+        mLiteralStarts[count] = literalStart;
+        mLiteralEnds[count] = length;
+        return count;
+    }
+
+    private static boolean isSupported(char conversion, int flags, int width, int precision, int argumentIndex) {
+        boolean isLeftJustified = (flags & FLAG_LEFT_JUSTIFY) != 0;
+        boolean isZeroPadded = (flags & FLAG_ZERO_PAD) != 0;
+        if ((isLeftJustified || isZeroPadded) && width == -1 || isLeftJustified && isZeroPadded) {
+            return false;
+        }
+        switch (conversion) {
+            case '%':
+            case 'n':
+                return flags == 0 && width == -1 && precision == -1 && argumentIndex == NO_ARGUMENT;
+            case 's':
+            case 'b':
+                return !isZeroPadded;
+            case 'c':
+                return !isZeroPadded && precision == -1;
+            case 'd':
+            case 'x':
+            case 'X':
+                return precision == -1;
+            case 'f':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static int skipDigits(String format, int position) {
+        while (position < format.length() && format.charAt(position) >= '0' && format.charAt(position) <= '9') {
+            ++position;
+        }
+        return position;
+    }
+
+    private static int parseNumber(String format, int start, int end) {
+        long number = 0L;
+        for (int i = start; i < end; ++i) {
+            number = number * 10L + (format.charAt(i) - '0');
+            if (number > Integer.MAX_VALUE) {
+                return -1;
+            }
+        }
+        return (int) number;
+    }
+
+    private boolean appendTo(StringBuilder builder,
+                             Object[] objectArguments,
+                             ALogArguments arguments,
+                             ALogConfiguration configuration) {
+        if (!mIsSupported) {
+            return false;
+        }
+        int argumentCount = arguments != null ? arguments.size() : objectArguments.length;
+        for (int i = 0; i < mSpecifierCount; ++i) {
+            builder.append(mFormat, mLiteralStarts[i], mLiteralEnds[i]);
+            char conversion = mConversions[i];
+            if (conversion == '%') {
+                builder.append('%');
+            } else if (conversion == 'n') {
+                builder.append(LINE_SEPARATOR);
+            } else {
+                int argumentIndex = mArgumentIndexes[i];
+                if (argumentIndex >= argumentCount) {
+                    return false;
+                }
+                boolean isAppended;
+                if (arguments != null && arguments.getType(argumentIndex) != ALogArguments.TYPE_OBJECT) {
+                    isAppended = appendArgument(builder, i, arguments.getType(argumentIndex),
+                            arguments.getLong(argumentIndex), arguments.getDouble(argumentIndex),
+                            arguments.getObject(argumentIndex), configuration);
+                } else {
+                    // Boxed primitives passed as objects are formatted according to their type
+                    Object argument = arguments != null
+                            ? arguments.getObject(argumentIndex)
+                            : objectArguments[argumentIndex];
+                    byte type = ALogArguments.getType(argument);
+                    isAppended = appendArgument(builder, i, type, ALogArguments.toLong(argument, type),
+                            ALogArguments.toDouble(argument, type), argument, configuration);
+                }
+                if (!isAppended) {
+                    return false;
+                }
+            }
+        }
+        builder.append(mFormat, mLiteralStarts[mSpecifierCount], mLiteralEnds[mSpecifierCount]);
+        return true;
+    }
+
+    private boolean appendArgument(StringBuilder builder,
+                                   int specifier,
+                                   byte type,
+                                   long longValue,
+                                   double doubleValue,
+                                   Object objectValue,
+                                   ALogConfiguration configuration) {
+        int flags = mFlags[specifier];
+        int width = mWidths[specifier];
+        int precision = mPrecisions[specifier];
+        int start = builder.length();
+        switch (mConversions[specifier]) {
+            case 's':
+                appendString(builder, type, longValue, doubleValue, objectValue, configuration);
+                if (precision != -1 && builder.length() - start > precision) {
+                    builder.setLength(start + precision);
+                }
+                break;
+            case 'b':
+                if (type == ALogArguments.TYPE_BOOLEAN) {
+                    builder.append(longValue != 0L);
+                } else {
+                    builder.append(type != ALogArguments.TYPE_OBJECT || objectValue != null);
+                }
+                if (precision != -1 && builder.length() - start > precision) {
+                    builder.setLength(start + precision);
+                }
+                break;
+            case 'c':
+                if (type != ALogArguments.TYPE_CHAR) {
+                    return false;
+                }
+                builder.append((char) longValue);
+                break;
+            case 'd':
+                if (!isIntegral(type) || !getDefaultLocaleSymbols().mHasAsciiDigits) {
+                    return false;
+                }
+                builder.append(longValue);
+                break;
+            case 'x':
+            case 'X':
+                if (!isIntegral(type)) {
+                    return false;
+                }
+                appendHex(builder, toUnsigned(longValue, type), mConversions[specifier] == 'X');
+                break;
+            case 'f':
+                if (type != ALogArguments.TYPE_FLOAT && type != ALogArguments.TYPE_DOUBLE
+                        || Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)
+                        || !getDefaultLocaleSymbols().mHasAsciiDigits
+                        || !getDefaultLocaleSymbols().mHasDotSeparator) {
+                    return false;
+                }
+                appendDecimal(builder, doubleValue, precision != -1 ? precision : DEFAULT_FLOAT_PRECISION);
+                break;
+            default:
+                return false;
+        }
+        int padding = width - (builder.length() - start);
+        if (padding > 0) {
+            if ((flags & FLAG_LEFT_JUSTIFY) != 0) {
+                for (int i = 0; i < padding; ++i) {
+                    builder.append(' ');
+                }
+            } else if ((flags & FLAG_ZERO_PAD) != 0) {
+                int signLength = builder.length() > start && builder.charAt(start) == '-' ? 1 : 0;
+                insertPadding(builder, start + signLength, padding, '0');
+            } else {
+                insertPadding(builder, start, padding, ' ');
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Appends passed argument in the same way as "%s" format specifier without width and
+     * precision does.
+     *
+     * @param builder Builder to append argument to.
+     * @param type Argument type. One of ALogArguments.TYPE_* constants.
+     * @param longValue Value of boolean, char, byte, short, int or long argument.
+     * @param doubleValue Value of float or double argument.
+     * @param objectValue Value of object argument.
+     * @param configuration {@link ALog} configuration.
+     */
+    static void appendString(StringBuilder builder,
+                             byte type,
+                             long longValue,
+                             double doubleValue,
+                             Object objectValue,
+                             ALogConfiguration configuration) {
+        switch (type) {
+            case ALogArguments.TYPE_BOOLEAN:
+                builder.append(longValue != 0L);
+                break;
+            case ALogArguments.TYPE_CHAR:
+                builder.append((char) longValue);
+                break;
+            case ALogArguments.TYPE_BYTE:
+            case ALogArguments.TYPE_SHORT:
+            case ALogArguments.TYPE_INT:
+            case ALogArguments.TYPE_LONG:
+                builder.append(longValue);
+                break;
+            case ALogArguments.TYPE_FLOAT:
+                builder.append((float) doubleValue);
+                break;
+            case ALogArguments.TYPE_DOUBLE:
+                builder.append(doubleValue);
+                break;
+            default:
+                if (objectValue == null) {
+                    builder.append("null");
+                } else {
+                    Utils.appendArgument(builder, objectValue, configuration);
+                }
+                break;
+        }
+    }
+
+    private static boolean isIntegral(byte type) {
+        return type == ALogArguments.TYPE_BYTE
+                || type == ALogArguments.TYPE_SHORT
+                || type == ALogArguments.TYPE_INT
+                || type == ALogArguments.TYPE_LONG;
+    }
+
+    private static long toUnsigned(long value, byte type) {
+        switch (type) {
+            case ALogArguments.TYPE_BYTE:
+                return value & 0xFFL;
+            case ALogArguments.TYPE_SHORT:
+                return value & 0xFFFFL;
+            case ALogArguments.TYPE_INT:
+                return value & 0xFFFFFFFFL;
+            default:
+                return value;
+        }
+    }
+
+    private static void appendHex(StringBuilder builder, long value, boolean isUpperCase) {
+        char[] hexChars = isUpperCase ? UPPER_HEX_CHARS : LOWER_HEX_CHARS;
+        int shift = Math.max(0, (63 - Long.numberOfLeadingZeros(value)) / 4 * 4);
+        for (; shift >= 0; shift -= 4) {
+            builder.append(hexChars[(int) (value >>> shift) & 0x0F]);
+        }
+    }
+
+    /**
+     * Appends decimal representation of passed value rounded half up to passed count of
+     * fraction digits. As {@link java.util.Formatter} does, rounding is applied to the shortest
+     * decimal representation of value returned by {@link Double#toString(double)}.
+     */
+    private static void appendDecimal(StringBuilder builder, double value, int precision) {
+        String string = Double.toString(value);
+        int length = string.length();
+        int exponentStart = string.indexOf('E');
+        int mantissaEnd = exponentStart != -1 ? exponentStart : length;
+        int position = 0;
+        if (string.charAt(0) == '-') {
+            builder.append('-');
+            position = 1;
+        }
+        char[] digits = new char[mantissaEnd - position + 1];
+        int digitCount = 0;
+        int pointPosition = -1;
+        for (int i = position; i < mantissaEnd; ++i) {
+            char c = string.charAt(i);
+            if (c == '.') {
+                pointPosition = digitCount;
+            } else {
+                digits[1 + digitCount++] = c;
+            }
+        }
+        if (pointPosition == -1) {
+            pointPosition = digitCount;
+        }
+        if (exponentStart != -1) {
+            pointPosition += Integer.parseInt(string.substring(exponentStart + 1));
+        }
+        // digits[0] is reserved for the carry of rounding, so it is '0' or '1'.
+        digits[0] = '0';
+        ++pointPosition;
+        ++digitCount;
+        int keptCount = pointPosition + precision;
+        if (keptCount < digitCount) {
+            if (keptCount < 0) {
+                keptCount = 0;
+            } else if (digits[keptCount] >= '5') {
+                int i = keptCount - 1;
+                while (digits[i] == '9') {
+                    digits[i--] = '0';
+                }
+                ++digits[i];
+            }
+            digitCount = keptCount;
+        }
+        int integerStart = 0;
+        while (integerStart < pointPosition - 1 && (integerStart >= digitCount || digits[integerStart] == '0')) {
+            ++integerStart;
+        }
+        if (pointPosition <= 0) {
+            builder.append('0');
+        } else {
+            for (int i = integerStart; i < pointPosition; ++i) {
+                builder.append(i < digitCount ? digits[i] : '0');
+            }
+        }
+        if (precision > 0) {
+            builder.append('.');
+            for (int i = pointPosition; i < pointPosition + precision; ++i) {
+                builder.append(i >= 0 && i < digitCount ? digits[i] : '0');
+            }
+        }
+    }
+
+    private static void insertPadding(StringBuilder builder, int position, int count, char c) {
+        int oldLength = builder.length();
+        builder.setLength(oldLength + count);
+        for (int i = oldLength - 1; i >= position; --i) {
+            builder.setCharAt(i + count, builder.charAt(i));
+        }
+        for (int i = position; i < position + count; ++i) {
+            builder.setCharAt(i, c);
+        }
+    }
+
+    private static LocaleSymbols getDefaultLocaleSymbols() {
+        Locale locale = Locale.getDefault();
+        LocaleSymbols localeSymbols = defaultLocaleSymbols;
+        if (localeSymbols == null || localeSymbols.mLocale != locale) {
+            localeSymbols = new LocaleSymbols(locale);
+            defaultLocaleSymbols = localeSymbols;
+        }
+        return localeSymbols;
+    }
+
+    /**
+     * Caches whether decimal numbers are formatted with ASCII digits and '.' decimal separator in
+     * some locale, as {@link java.util.Formatter} uses locale specific symbols.
+     */
+    private static final class LocaleSymbols {
+        final Locale mLocale;
+        final boolean mHasAsciiDigits;
+        final boolean mHasDotSeparator;
+
+        LocaleSymbols(Locale locale) {
+            mLocale = locale;
+            DecimalFormatSymbols symbols = new DecimalFormatSymbols(locale);
+            mHasAsciiDigits = symbols.getZeroDigit() == '0';
+            mHasDotSeparator = symbols.getDecimalSeparator() == '.';
+        }
+    }
+}
@@ -24,7 +24,8 @@ import java.util.Map;
  * Should be used to configure {@link ALog} via
  * {@link ALogConfiguration.Builder#formatter(Class, ALogFormatter)},
  * {@link ALog#formatter(Class, ALogFormatter)} and
- * {@link ALog#formatters(Map)}.
+ * {@link ALog#formatters(Map)}. Formatters created from {@link ALogFormatterAppendingDelegate} and
+ * built-in formatters append logging strings directly to shared string builder.
  *
  * @param <T> Class of instances which can be transformed to logging string using this class
  *            instances.
@@ -59,6 +60,21 @@ public abstract class ALogFormatter<T> {
         return new ComplexDelegateALogFormatter<>(delegate);
     }
 
+    /**
+     * Factory method to create new {@link ALogFormatter} instances which append logging strings
+     * to shared string builder without creation of intermediate strings.
+     *
+     * @param delegate {@link ALogFormatterAppendingDelegate} instance to append logging strings of
+     *                 objects.
+     * @param <T> Class of instances which can be transformed to logging string using created
+     *            {@link ALogFormatter} instances.
+     * @return {@link ALogFormatter} instance to be used for transforming specified class instances
+     *         to logging strings.
+     */
+    public static <T> ALogFormatter<T> createAppending(ALogFormatterAppendingDelegate<T> delegate) {
+        return new AppendingDelegateALogFormatter<>(delegate);
+    }
+
     /**
      * Default constructor available only in package.
      */
@@ -86,4 +102,35 @@ public abstract class ALogFormatter<T> {
      * @return Logging string that represents passed object.
      */
     abstract String toLoggingString(T object, ALogFormatterDelegate<Object> objectFormatterDelegate);
+
+    /**
+     * Appends logging string of passed object to passed builder.
+     *
+     * @param builder String builder to which logging string should be appended.
+     * @param object Object to be transformed into logging string.
+     * @param objectFormatterDelegate Formatter delegate to be used to append this object contained
+     *                                instances logging strings.
+     */
+    @SuppressWarnings("unchecked")
+    void appendTo(StringBuilder builder,
+                  Object object,
+                  ObjectALogFormatterDelegate objectFormatterDelegate) {
+        appendLoggingString(builder, (T) object, objectFormatterDelegate);
+    }
+
+    /**
+     * Appends logging string of passed object to passed builder. By default appends string
+     * returned by {@link #toLoggingString(Object, ALogFormatterDelegate)}, formatters which are
+     * able to write directly to builder override this method.
+     *
+     * @param builder String builder to which logging string should be appended.
+     * @param object Object to be transformed into logging string.
+     * @param objectFormatterDelegate Formatter delegate to be used to append this object contained
+     *                                instances logging strings.
+     */
+    void appendLoggingString(StringBuilder builder,
+                             T object,
+                             ObjectALogFormatterDelegate objectFormatterDelegate) {
+        builder.append(toLoggingString(object, objectFormatterDelegate));
+    }
 }
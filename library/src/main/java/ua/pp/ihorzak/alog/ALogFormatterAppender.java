@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+/**
+ * Appends logging strings of objects to shared string builder. Instances of this class are
+ * provided to {@link ALogFormatterAppendingDelegate} to append logging strings of target object
+ * contained objects without creation of intermediate strings.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public interface ALogFormatterAppender {
+    /**
+     * Appends logging string of passed object to passed builder.
+     *
+     * @param builder String builder to which logging string should be appended.
+     * @param object Object to be transformed into logging string.
+     */
+    void appendLoggingString(StringBuilder builder, Object object);
+}
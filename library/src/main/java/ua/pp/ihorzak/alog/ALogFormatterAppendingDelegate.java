@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+/**
+ * {@link ALogFormatter} delegate that is responsible for custom specified class instances
+ * transformation to string for logging. This class differs from
+ * {@link ALogFormatterComplexDelegate} by appending of logging string to shared string builder
+ * instead of returning it, so nested objects are formatted without creation and copying of
+ * intermediate strings. Should be used for {@link ALogFormatter} creation via
+ * {@link ALogFormatter#createAppending(ALogFormatterAppendingDelegate)}.
+ *
+ * @param <T> Class of instances which can be transformed to logging string using this class
+ *            instances.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public interface ALogFormatterAppendingDelegate<T> {
+    /**
+     * Appends logging string of passed object to passed builder.
+     *
+     * @param builder String builder to which logging string should be appended.
+     * @param object Object to be transformed into logging string.
+     * @param objectFormatterAppender Formatter appender to be used to append logging strings of
+     *                                this object contained instances.
+     */
+    void appendLoggingString(StringBuilder builder,
+                             T object,
+                             ALogFormatterAppender objectFormatterAppender);
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import java.util.ArrayList;
+
+/**
+ * Bounds work of built-in array, collection, iterable and map formatters. Each thread has its own
+ * instance which keeps containers being formatted on the current thread, so nesting depth is
+ * limited and self-referencing containers are detected by identity instead of overflowing the
+ * stack. Count of formatted elements and length of logging string of the outermost container are
+ * limited too, the rest of elements is replaced with elision marker.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+final class ALogFormatterGuard {
+    static final String CYCLE_MARKER = "<cycle>";
+    static final String DEPTH_MARKER = "...";
+
+    private static final ThreadLocal<ALogFormatterGuard> THREAD_GUARDS = new ThreadLocal<ALogFormatterGuard>() {
+        @Override
+        protected ALogFormatterGuard initialValue() {
+            return new ALogFormatterGuard();
+        }
+    };
+
+    /**
+     * Container being formatted.
+     */
+    private static final class Frame {
+        Object mContainer;
+        StringBuilder mBuilder;
+        int mMaxElementCount;
+        int mLengthLimit;
+    }
+
+    private final ArrayList<Frame> mFrames;
+    private int mDepth;
+
+    private ALogFormatterGuard() {
+        mFrames = new ArrayList<>();
+    }
+
+    /**
+     * Gets guard of the current thread.
+     *
+     * @return Guard of the current thread.
+     */
+    static ALogFormatterGuard get() {
+        return THREAD_GUARDS.get();
+    }
+
+    /**
+     * Checks if passed container is already being formatted on the current thread, so formatting
+     * of it again would never end.
+     *
+     * @param container Array, collection, iterable or map.
+     * @return true if passed container is already being formatted, false otherwise.
+     */
+    boolean isCycle(Object container) {
+        for (int i = 0; i < mDepth; ++i) {
+            if (mFrames.get(i).mContainer == container) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Starts formatting of container elements. If this method returns true {@link #exit()} must
+     * be called once elements are formatted.
+     *
+     * @param builder String builder to which container logging string is appended.
+     * @param container Array, collection, iterable or map.
+     * @param configuration {@link ALogConfiguration} instance which limits should be applied.
+     * @return true if container elements can be formatted, false if maximal nesting depth is
+     *         reached.
+     */
+    boolean enter(StringBuilder builder, Object container, ALogConfiguration configuration) {
+        if (mDepth >= configuration.mFormatterMaxDepth) {
+            return false;
+        }
+        Frame parent = null;
+        for (int i = mDepth - 1; parent == null && i >= 0; --i) {
+            if (mFrames.get(i).mBuilder == builder) {
+                parent = mFrames.get(i);
+            }
+        }
+        if (mDepth == mFrames.size()) {
+            mFrames.add(new Frame());
+        }
+        Frame frame = mFrames.get(mDepth++);
+        frame.mContainer = container;
+        frame.mBuilder = builder;
+        frame.mMaxElementCount = configuration.mFormatterMaxElementCount;
+        frame.mLengthLimit = parent != null
+                ? parent.mLengthLimit
+                : (int) Math.min((long) builder.length() + configuration.mFormatterMaxLength,
+                                 Integer.MAX_VALUE);
+        return true;
+    }
+
+    /**
+     * Checks if element with passed index of the container being formatted can be appended.
+     *
+     * @param builder String builder to which container logging string is appended.
+     * @param index Index of element.
+     * @return true if element can be appended, false if maximal element count or logging string
+     *         length is reached.
+     */
+    boolean canAppend(StringBuilder builder, int index) {
+        Frame frame = mFrames.get(mDepth - 1);
+        return index < frame.mMaxElementCount && builder.length() < frame.mLengthLimit;
+    }
+
+    /**
+     * Finishes formatting of container elements started by successful
+     * {@link #enter(StringBuilder, Object, ALogConfiguration)} call.
+     */
+    void exit() {
+        Frame frame = mFrames.get(--mDepth);
+        frame.mContainer = null;
+        frame.mBuilder = null;
+    }
+
+    /**
+     * Appends elision marker for elements which were not appended.
+     *
+     * @param builder String builder to which container logging string is appended.
+     * @param appendedCount Count of appended elements.
+     * @param remainingCount Count of elements which were not appended or -1 if it is unknown.
+     */
+    static void appendElision(StringBuilder builder, int appendedCount, int remainingCount) {
+        if (remainingCount != 0) {
+            if (appendedCount > 0) {
+                builder.append(", ");
+            }
+            builder.append("... (");
+            if (remainingCount > 0) {
+                builder.append(remainingCount).append(' ');
+            }
+            builder.append("more)");
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves {@link ALogFormatter} to be used for logging message argument of some runtime class.
+ * Resolution result is cached per runtime class, so all type checks and registered formatters
+ * lookups are performed only once for each class. Custom formatter registered for some class is
+ * also used for its subclasses and, if registered for interface, for its implementations. If
+ * several registered formatters are applicable the most specific one is used: superclass
+ * registrations are preferred to interface ones, the nearest superclass is preferred to the
+ * farther ones and subinterface is preferred to its superinterfaces.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+final class ALogFormatterResolver {
+    private static final int MAX_CACHE_SIZE = 1024;
+
+    /**
+     * Formatter used for arguments without built-in or custom formatter.
+     */
+    static final ALogFormatter<Object> TO_STRING_FORMATTER = new ALogFormatter<Object>() {
+        @Override
+        String toLoggingString(Object object, ALogFormatterDelegate<Object> objectFormatterDelegate) {
+            return object.toString();
+        }
+
+        @Override
+        void appendLoggingString(StringBuilder builder,
+                                 Object object,
+                                 ObjectALogFormatterDelegate objectFormatterDelegate) {
+            builder.append(object.toString());
+        }
+    };
+
+    private final ALogConfiguration mConfiguration;
+    private final Map<Class<?>, ALogFormatter<?>> mFormatterMap;
+    private final ConcurrentHashMap<Class<?>, ALogFormatter<?>> mCache;
+
+    /**
+     * Constructor.
+     *
+     * @param configuration {@link ALogConfiguration} instance which built-in formatters should be
+     *                      used.
+     * @param formatterMap Custom formatters registered for classes and interfaces.
+     */
+    ALogFormatterResolver(ALogConfiguration configuration,
+                          Map<Class<?>, ALogFormatter<?>> formatterMap) {
+        mConfiguration = configuration;
+        mFormatterMap = new HashMap<>(formatterMap);
+        mCache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets formatter for instances of passed class.
+     *
+     * @param clazz Runtime class of logging message argument.
+     * @return Built-in or custom formatter for passed class, {@link #TO_STRING_FORMATTER} if
+     *         there is no such formatter.
+     */
+    ALogFormatter<?> resolve(Class<?> clazz) {
+        ALogFormatter<?> formatter = mCache.get(clazz);
+        if (formatter == null) {
+            formatter = resolveUncached(clazz);
+            if (mCache.size() >= MAX_CACHE_SIZE) {
+                mCache.clear();
+            }
+            mCache.put(clazz, formatter);
+        }
+        return formatter;
+    }
+
+    private ALogFormatter<?> resolveUncached(Class<?> clazz) {
+        ALogFormatter<?> formatter = null;
+        if (mConfiguration.mArrayFormatter != null && clazz.isArray()) {
+            formatter = mConfiguration.mArrayFormatter;
+        } else if (mConfiguration.mCollectionFormatter != null
+                && Collection.class.isAssignableFrom(clazz)) {
+            formatter = mConfiguration.mCollectionFormatter;
+        } else if (mConfiguration.mIterableFormatter != null
+                && Iterable.class.isAssignableFrom(clazz)) {
+            formatter = mConfiguration.mIterableFormatter;
+        } else if (mConfiguration.mMapFormatter != null && Map.class.isAssignableFrom(clazz)) {
+            formatter = mConfiguration.mMapFormatter;
+        }
+        if (formatter == null) {
+            formatter = findRegisteredFormatter(clazz);
+        }
+        return formatter != null ? formatter : TO_STRING_FORMATTER;
+    }
+
+    private ALogFormatter<?> findRegisteredFormatter(Class<?> clazz) {
+        if (mFormatterMap.isEmpty()) {
+            return null;
+        }
+        // Classes (nearest first) go before interfaces, interfaces are visited in breadth-first
+        // order, so among unrelated interfaces the nearest one wins. Object is the least
+        // specific type and is checked after all interfaces
+        List<Class<?>> types = new ArrayList<>();
+        for (Class<?> type = clazz; type != null && type != Object.class;
+                type = type.getSuperclass()) {
+            types.add(type);
+        }
+        int classCount = types.size();
+        for (int i = 0; i < types.size(); ++i) {
+            for (Class<?> interfaceType : types.get(i).getInterfaces()) {
+                if (!types.contains(interfaceType)) {
+                    types.add(interfaceType);
+                }
+            }
+        }
+        for (int i = 0; i < classCount; ++i) {
+            ALogFormatter<?> formatter = mFormatterMap.get(types.get(i));
+            if (formatter != null) {
+                return formatter;
+            }
+        }
+        Class<?> mostSpecificType = null;
+        for (int i = classCount; i < types.size(); ++i) {
+            Class<?> type = types.get(i);
+            if (mFormatterMap.containsKey(type)
+                    && (mostSpecificType == null || mostSpecificType.isAssignableFrom(type))) {
+                mostSpecificType = type;
+            }
+        }
+        if (mostSpecificType == null) {
+            mostSpecificType = Object.class;
+        }
+        return mFormatterMap.get(mostSpecificType);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+/**
+ * Classic hexadecimal dump of byte array: each row contains offset of its first byte, up to
+ * {@link #BYTES_PER_ROW} bytes in hexadecimal representation and their ASCII representation.
+ * Dump is generated in chunks of up to {@link #ROWS_PER_CHUNK} rows, so each chunk can be printed
+ * as separate logging message without building the whole dump in memory. Count of dumped bytes can
+ * be limited, omitted bytes are replaced with marker.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+final class ALogHexDump {
+    static final int BYTES_PER_ROW = 16;
+    static final int ROWS_PER_CHUNK = 16;
+
+    private static final int BYTES_PER_CHUNK = BYTES_PER_ROW * ROWS_PER_CHUNK;
+    private static final int OFFSET_DIGIT_COUNT = 8;
+    private static final char NON_PRINTABLE_CHAR = '.';
+    private static final char[] HEX_CHARS = new char[] {
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'
+    };
+
+    private final byte[] mBytes;
+    private final int mByteCount;
+    private int mOffset;
+
+    /**
+     * Constructor.
+     *
+     * @param bytes Bytes to be dumped.
+     * @param maxByteCount Max count of dumped bytes or 0 if count is not limited.
+     */
+    ALogHexDump(byte[] bytes, int maxByteCount) {
+        mBytes = bytes;
+        mByteCount = maxByteCount > 0 ? Math.min(bytes.length, maxByteCount) : bytes.length;
+    }
+
+    /**
+     * Checks if no chunk has been appended yet.
+     *
+     * @return true if no chunk has been appended yet, false otherwise.
+     */
+    boolean isAtStart() {
+        return mOffset == 0;
+    }
+
+    /**
+     * Appends next chunk of rows separated with line breaks to passed builder. Marker of omitted
+     * bytes is appended after the last row.
+     *
+     * @param builder Builder to append chunk to.
+     * @return true if there are more rows to be appended, false if dump is finished.
+     */
+    boolean appendChunk(StringBuilder builder) {
+        int chunkEnd = (int) Math.min((long) mOffset + BYTES_PER_CHUNK, mByteCount);
+        while (mOffset < chunkEnd) {
+            int rowEnd = Math.min(mOffset + BYTES_PER_ROW, chunkEnd);
+            appendRow(builder, mOffset, rowEnd);
+            mOffset = rowEnd;
+            if (mOffset < chunkEnd) {
+                builder.append('\n');
+            }
+        }
+        if (mOffset < mByteCount) {
+            return true;
+        }
+        if (mByteCount < mBytes.length) {
+            builder.append('\n')
+                    .append("... ")
+                    .append(mBytes.length - mByteCount)
+                    .append(" bytes omitted");
+        }
+        return false;
+    }
+
+    private void appendRow(StringBuilder builder, int start, int end) {
+        for (int shift = (OFFSET_DIGIT_COUNT - 1) * 4; shift >= 0; shift -= 4) {
+            builder.append(HEX_CHARS[(start >>> shift) & 0x0F]);
+        }
+        builder.append(' ');
+        for (int i = 0; i < BYTES_PER_ROW; ++i) {
+            builder.append(' ');
+            if (i == BYTES_PER_ROW / 2) {
+                builder.append(' ');
+            }
+            if (start + i < end) {
+                int value = mBytes[start + i] & 0xFF;
+                builder.append(HEX_CHARS[value >>> 4]).append(HEX_CHARS[value & 0x0F]);
+            } else {
+                builder.append(' ').append(' ');
+            }
+        }
+        builder.append(' ').append(' ').append('|');
+        for (int i = start; i < end; ++i) {
+            char character = (char) (mBytes[i] & 0xFF);
+            builder.append(character >= ' ' && character < 0x7F ? character : NON_PRINTABLE_CHAR);
+        }
+        builder.append('|');
+    }
+}
@@ -0,0 +1,415 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import org.json.JSONException;
+
+/**
+ * Single pass JSON validator and pretty-printer. Unlike {@link org.json.JSONObject} and
+ * {@link org.json.JSONArray} it does not build object tree and intermediate string, reindented
+ * JSON is appended directly to passed builder. Layout of output matches layout of
+ * {@link org.json.JSONObject#toString(int)}, while strings and numbers are copied as they are.
+ * Containers are tracked with explicit stack instead of recursion, so deeply nested JSON does not
+ * overflow the thread stack. Like {@link org.json.JSONObject} and {@link org.json.JSONArray} it
+ * accepts single-quoted strings, unquoted names and values, trailing commas and missing array
+ * elements, which are printed as standard JSON. Unlike them it does not keep names of parsed
+ * objects, so duplicate names are not rejected and are printed as they are.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+final class ALogJsonReindenter {
+    static final String TRUNCATION_MARKER = "\n... (truncated)";
+
+    private static final int INITIAL_STACK_SIZE = 16;
+    private static final String UNQUOTED_DELIMITERS = ",:]}/\\\"[{;=#";
+    private static final String[] LITERALS = {"true", "false", "null"};
+
+    private final StringBuilder mBuilder;
+    private final String mJson;
+    private final int mStart;
+    private final int mEnd;
+    private final int mIndentSpaceCount;
+    /**
+     * Max length of builder. Output is cut once builder is longer than this limit.
+     */
+    private final int mLengthLimit;
+
+    private int mPosition;
+    private boolean[] mObjectStack;
+    private int mDepth;
+
+    private ALogJsonReindenter(StringBuilder builder,
+                               String json,
+                               int start,
+                               int end,
+                               int indentSpaceCount,
+                               int maxLength) {
+        mBuilder = builder;
+        mJson = json;
+        mStart = start;
+        mEnd = end;
+        mIndentSpaceCount = indentSpaceCount;
+        mLengthLimit = maxLength > 0 && maxLength < Integer.MAX_VALUE - builder.length()
+                ? builder.length() + maxLength
+                : Integer.MAX_VALUE;
+        mPosition = start;
+        mObjectStack = new boolean[INITIAL_STACK_SIZE];
+    }
+
+    /**
+     * Validates JSON and appends its reindented representation to builder. If builder is grown by
+     * more than passed max length, output is cut and {@link #TRUNCATION_MARKER} is appended, the
+     * rest of JSON is not validated then. In case of invalid JSON builder may contain partial
+     * output, so caller is responsible for its rollback.
+     *
+     * @param builder Builder to append reindented JSON to.
+     * @param json String which contains JSON object or array.
+     * @param start Index of the first character of JSON in passed string.
+     * @param end Index after the last character of JSON in passed string.
+     * @param indentSpaceCount Count of spaces per nesting level.
+     * @param maxLength Max count of appended characters or 0 if count is not limited.
+     * @throws JSONException If JSON is invalid. Message contains position of error.
+     */
+    static void append(StringBuilder builder,
+                       String json,
+                       int start,
+                       int end,
+                       int indentSpaceCount,
+                       int maxLength) throws JSONException {
+        new ALogJsonReindenter(builder, json, start, end, indentSpaceCount, maxLength).append();
+    }
+
+    private void append() throws JSONException {
+        boolean isValueExpected = true;
+        while (true) {
+            if (mBuilder.length() > mLengthLimit) {
+                mBuilder.setLength(mLengthLimit);
+                mBuilder.append(TRUNCATION_MARKER);
+                return;
+            }
+            if (isValueExpected) {
+                char character = nextClean();
+                switch (character) {
+                    case '{':
+                        mBuilder.append('{');
+                        if (peekClean() == '}') {
+                            ++mPosition;
+                            mBuilder.append('}');
+                        } else {
+                            push(true);
+                            appendNewLine();
+                            appendName();
+                            continue;
+                        }
+                        break;
+                    case '[':
+                        mBuilder.append('[');
+                        if (peekClean() == ']') {
+                            ++mPosition;
+                            mBuilder.append(']');
+                        } else {
+                            push(false);
+                            appendNewLine();
+                            continue;
+                        }
+                        break;
+                    case '"':
+                    case '\'':
+                        appendString(character);
+                        break;
+                    default:
+                        if (isUnquotedEnd(character)) {
+                            throw syntaxError("Unexpected character '" + character + "'");
+                        }
+                        appendUnquoted(false);
+                        break;
+                }
+                isValueExpected = false;
+            } else if (mDepth == 0) {
+                if (peekClean() != 0) {
+                    ++mPosition;
+                    throw syntaxError("Unexpected character after JSON end");
+                }
+                return;
+            } else {
+                boolean isObject = mObjectStack[mDepth - 1];
+                char character = nextClean();
+                if (character == ',') {
+                    char nextCharacter = peekClean();
+                    if (nextCharacter == (isObject ? '}' : ']')) {
+                        // Trailing comma is ignored
+                        continue;
+                    }
+                    mBuilder.append(',');
+                    appendNewLine();
+                    if (isObject) {
+                        appendName();
+                    } else if (nextCharacter == ',') {
+                        // Missing array element is null
+                        mBuilder.append("null");
+                        continue;
+                    }
+                    isValueExpected = true;
+                } else if (character == (isObject ? '}' : ']')) {
+                    --mDepth;
+                    appendNewLine();
+                    mBuilder.append(character);
+                } else {
+                    throw syntaxError(isObject ? "Unterminated object" : "Unterminated array");
+                }
+            }
+        }
+    }
+
+    private void appendName() throws JSONException {
+        char character = nextClean();
+        if (character == '"' || character == '\'') {
+            if (!appendString(character)) {
+                return;
+            }
+        } else if (isUnquotedEnd(character)) {
+            throw syntaxError("Expected name");
+        } else {
+            appendUnquoted(true);
+        }
+        if (nextClean() != ':') {
+            throw syntaxError("Expected ':' after name");
+        }
+        mBuilder.append(": ");
+    }
+
+    /**
+     * Appends string which opening quote is already consumed. String is always appended in double
+     * quotes.
+     *
+     * @param quote Opening quote, either double or single one.
+     * @return true if the whole string is appended, false if output is cut because of max length.
+     * @throws JSONException If string is invalid or unterminated.
+     */
+    private boolean appendString(char quote) throws JSONException {
+        String json = mJson;
+        StringBuilder builder = mBuilder;
+        int lengthLimit = mLengthLimit;
+        builder.append('"');
+        while (mPosition < mEnd && builder.length() <= lengthLimit) {
+            char character = json.charAt(mPosition++);
+            if (character == quote) {
+                builder.append('"');
+                return true;
+            }
+            if (character == '\\') {
+                if (mPosition == mEnd) {
+                    break;
+                }
+                char escaped = json.charAt(mPosition++);
+                switch (escaped) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                    case 'b':
+                    case 'f':
+                    case 'n':
+                    case 'r':
+                    case 't':
+                        builder.append('\\').append(escaped);
+                        break;
+                    case '\'':
+                        builder.append('\'');
+                        break;
+                    case 'u':
+                        if (mPosition + 4 > mEnd) {
+                            throw syntaxError("Unterminated escape sequence");
+                        }
+                        for (int i = mPosition; i < mPosition + 4; ++i) {
+                            if (Character.digit(json.charAt(i), 16) < 0) {
+                                throw syntaxError("Invalid escape sequence");
+                            }
+                        }
+                        builder.append('\\').append(json, mPosition - 1, mPosition + 4);
+                        mPosition += 4;
+                        break;
+                    default:
+                        throw syntaxError("Invalid escape sequence");
+                }
+            } else if (character == '"') {
+                // Double quote inside of single-quoted string
+                builder.append("\\\"");
+            } else if (character < ' ') {
+                // Raw control characters would break layout, so they are escaped like
+                // JSONObject does
+                builder.append("\\u00");
+                builder.append(Character.forDigit(character >> 4, 16));
+                builder.append(Character.forDigit(character & 0xF, 16));
+            } else {
+                builder.append(character);
+            }
+        }
+        if (builder.length() <= lengthLimit) {
+            throw syntaxError("Unterminated string");
+        }
+        return false;
+    }
+
+    /**
+     * Appends unquoted name or value which first character is already consumed. Like
+     * {@link org.json.JSONTokener} it reads up to the next delimiter, so it may contain inner
+     * spaces. Numbers and case insensitive true, false and null literals are appended as they are
+     * if value is expected, anything else is appended as string.
+     *
+     * @param isName true if name is expected, false if value is expected.
+     */
+    private void appendUnquoted(boolean isName) {
+        String json = mJson;
+        int tokenStart = mPosition - 1;
+        int tokenEnd = mPosition;
+        while (tokenEnd < mEnd && !isUnquotedEnd(json.charAt(tokenEnd))) {
+            ++tokenEnd;
+        }
+        mPosition = tokenEnd;
+        while (json.charAt(tokenEnd - 1) == ' ') {
+            --tokenEnd;
+        }
+        if (!isName) {
+            if (isNumber(tokenStart, tokenEnd)) {
+                mBuilder.append(json, tokenStart, tokenEnd);
+                return;
+            }
+            for (String literal : LITERALS) {
+                if (tokenEnd - tokenStart == literal.length()
+                        && json.regionMatches(true, tokenStart, literal, 0, literal.length())) {
+                    mBuilder.append(literal);
+                    return;
+                }
+            }
+        }
+        mBuilder.append('"').append(json, tokenStart, tokenEnd).append('"');
+    }
+
+    private void appendNewLine() {
+        mBuilder.append('\n');
+        for (int i = mDepth * mIndentSpaceCount; i > 0; --i) {
+            mBuilder.append(' ');
+        }
+    }
+
+    private void push(boolean isObject) {
+        if (mDepth == mObjectStack.length) {
+            boolean[] objectStack = new boolean[mDepth * 2];
+            System.arraycopy(mObjectStack, 0, objectStack, 0, mDepth);
+            mObjectStack = objectStack;
+        }
+        mObjectStack[mDepth++] = isObject;
+    }
+
+    /**
+     * Gets next non-whitespace character and moves position after it.
+     *
+     * @return Next non-whitespace character.
+     * @throws JSONException If end of JSON is reached.
+     */
+    private char nextClean() throws JSONException {
+        char character = peekClean();
+        if (character == 0) {
+            throw syntaxError("End of input");
+        }
+        ++mPosition;
+        return character;
+    }
+
+    /**
+     * Skips whitespaces and gets next character without moving position after it.
+     *
+     * @return Next non-whitespace character or 0 if end of JSON is reached.
+     */
+    private char peekClean() {
+        while (mPosition < mEnd) {
+            char character = mJson.charAt(mPosition);
+            if (character != ' ' && character != '\t' && character != '\n' && character != '\r') {
+                return character;
+            }
+            ++mPosition;
+        }
+        return 0;
+    }
+
+    /**
+     * Checks if range of JSON string is a number in JSON notation.
+     *
+     * @param start Index of the first character of range.
+     * @param end Index after the last character of range.
+     * @return true if range is a number, false otherwise.
+     */
+    private boolean isNumber(int start, int end) {
+        String json = mJson;
+        int position = start;
+        if (json.charAt(position) == '-') {
+            ++position;
+        }
+        if (position == end || !isDigit(json.charAt(position))) {
+            return false;
+        }
+        if (json.charAt(position++) != '0') {
+            position = skipDigits(position, end);
+        }
+        if (position < end && json.charAt(position) == '.') {
+            int fractionStart = ++position;
+            position = skipDigits(position, end);
+            if (position == fractionStart) {
+                return false;
+            }
+        }
+        if (position < end && (json.charAt(position) == 'e' || json.charAt(position) == 'E')) {
+            ++position;
+            if (position < end && (json.charAt(position) == '+' || json.charAt(position) == '-')) {
+                ++position;
+            }
+            int exponentStart = position;
+            position = skipDigits(position, end);
+            if (position == exponentStart) {
+                return false;
+            }
+        }
+        return position == end;
+    }
+
+    private int skipDigits(int position, int end) {
+        while (position < end && isDigit(mJson.charAt(position))) {
+            ++position;
+        }
+        return position;
+    }
+
+    private JSONException syntaxError(String message) {
+        return new JSONException(message + " at character " + (mPosition - mStart) + " of "
+                + mJson.substring(mStart, mEnd));
+    }
+
+    /**
+     * Checks if character ends unquoted name or value. Delimiters are the same as ones of
+     * {@link org.json.JSONTokener}.
+     *
+     * @param character Character to check.
+     * @return true if character ends unquoted name or value, false otherwise.
+     */
+    private static boolean isUnquotedEnd(char character) {
+        return character < ' ' || UNQUOTED_DELIMITERS.indexOf(character) >= 0;
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+}
@@ -123,6 +123,12 @@ public enum ALogLevel {
     private static final char LABEL_DEBUG = 'D';
     private static final char LABEL_VERBOSE = 'V';
 
+    /**
+     * Single bit mask of this logging level, which is used to check if logging level is enabled
+     * with the help of {@link ALogConfiguration} loggable levels mask.
+     */
+    final int mMask = 1 << ordinal();
+
     /**
      * Gets corresponding single letter label.
      *
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-tag and per-class-prefix minimal logging level overrides. Tag overrides are looked up in
+ * hash map. Class prefix overrides are matched against caller class name once per class, resolved
+ * level is cached, so repeated lookups for the same class are constant-time too. Tag override
+ * takes precedence over class prefix override, the longest matching class prefix wins.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+final class ALogLevelOverrides {
+    private static final int MAX_CACHE_SIZE = 1024;
+    private static final Object NO_OVERRIDE = new Object();
+
+    final Map<String, ALogLevel> mTagLevels;
+    final Map<String, ALogLevel> mClassLevels;
+    /**
+     * Union of masks of all logging levels enabled by overrides.
+     */
+    final int mLevelMask;
+
+    private final String[] mClassPrefixes;
+    private final ALogLevel[] mClassPrefixLevels;
+    private final ConcurrentHashMap<String, Object> mClassCache;
+
+    /**
+     * Constructor.
+     *
+     * @param tagLevels Minimal logging levels of tags.
+     * @param classLevels Minimal logging levels of class name prefixes.
+     */
+    ALogLevelOverrides(Map<String, ALogLevel> tagLevels, Map<String, ALogLevel> classLevels) {
+        mTagLevels = new HashMap<>(tagLevels);
+        mClassLevels = new LinkedHashMap<>(classLevels);
+        mClassPrefixes = classLevels.keySet().toArray(new String[0]);
+        // The longest prefixes go first, so the first matching prefix is the most specific one
+        Arrays.sort(mClassPrefixes, (prefix1, prefix2) -> prefix2.length() - prefix1.length());
+        mClassPrefixLevels = new ALogLevel[mClassPrefixes.length];
+        for (int i = 0; i < mClassPrefixes.length; ++i) {
+            mClassPrefixLevels[i] = classLevels.get(mClassPrefixes[i]);
+        }
+        mClassCache = new ConcurrentHashMap<>();
+        int levelMask = 0;
+        for (ALogLevel level : ALogLevel.values()) {
+            if (isEnabledByAny(mTagLevels, level) || isEnabledByAny(mClassLevels, level)) {
+                levelMask |= level.mMask;
+            }
+        }
+        mLevelMask = levelMask;
+    }
+
+    /**
+     * Creates overrides or returns null if there are no overrides.
+     *
+     * @param tagLevels Minimal logging levels of tags.
+     * @param classLevels Minimal logging levels of class name prefixes.
+     * @return Overrides or null if both maps are empty.
+     */
+    static ALogLevelOverrides create(Map<String, ALogLevel> tagLevels,
+                                     Map<String, ALogLevel> classLevels) {
+        return tagLevels.isEmpty() && classLevels.isEmpty()
+                ? null
+                : new ALogLevelOverrides(tagLevels, classLevels);
+    }
+
+    /**
+     * Gets minimal logging level of tag.
+     *
+     * @param tag Log tag.
+     * @return Minimal logging level of tag or null if there is no override for it.
+     */
+    ALogLevel getTagLevel(String tag) {
+        return tag != null ? mTagLevels.get(tag) : null;
+    }
+
+    /**
+     * Checks if caller class is needed to resolve overrides of logging messages with passed tag.
+     *
+     * @param tag Configured log tag or null if tag is resolved from caller class.
+     * @return true if caller class is needed, false otherwise.
+     */
+    boolean needsCaller(String tag) {
+        return mClassPrefixes.length > 0 || tag == null && !mTagLevels.isEmpty();
+    }
+
+    /**
+     * Resolves minimal logging level for logging message.
+     *
+     * @param tag Log tag.
+     * @param className Fully qualified caller class name or null if caller is unknown.
+     * @return Minimal logging level or null if there is no override for passed tag and class.
+     */
+    ALogLevel resolve(String tag, String className) {
+        ALogLevel level = getTagLevel(tag);
+        if (level == null && className != null && mClassPrefixes.length > 0) {
+            Object cachedLevel = mClassCache.get(className);
+            if (cachedLevel == null) {
+                cachedLevel = NO_OVERRIDE;
+                for (int i = 0; cachedLevel == NO_OVERRIDE && i < mClassPrefixes.length; ++i) {
+                    if (isClassPrefix(className, mClassPrefixes[i])) {
+                        cachedLevel = mClassPrefixLevels[i];
+                    }
+                }
+                if (mClassCache.size() >= MAX_CACHE_SIZE) {
+                    mClassCache.clear();
+                }
+                mClassCache.put(className, cachedLevel);
+            }
+            level = cachedLevel != NO_OVERRIDE ? (ALogLevel) cachedLevel : null;
+        }
+        return level;
+    }
+
+    private static boolean isClassPrefix(String className, String prefix) {
+        int prefixLength = prefix.length();
+        if (!className.startsWith(prefix)) {
+            return false;
+        }
+        if (className.length() == prefixLength) {
+            return true;
+        }
+        char lastPrefixChar = prefix.charAt(prefixLength - 1);
+        if (lastPrefixChar == '.' || lastPrefixChar == '$') {
+            return true;
+        }
+        char separator = className.charAt(prefixLength);
+        return separator == '.' || separator == '$';
+    }
+
+    private static boolean isEnabledByAny(Map<String, ALogLevel> levels, ALogLevel level) {
+        for (ALogLevel minimalLevel : levels.values()) {
+            if (minimalLevel.compareTo(level) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
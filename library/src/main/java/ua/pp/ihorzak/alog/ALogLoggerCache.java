@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of {@link ALogger} instances derived from {@link ALog} configuration by
+ * {@link ALog#t(String)}, {@link ALog#st(int)}, {@link ALog#tst(String, int)}, {@link ALog#b()},
+ * {@link ALog#tb(String)}, {@link ALog#formatter(Class, ALogFormatter)} and
+ * {@link ALog#formatters(Map)}, so configuration copy and logger creation are performed
+ * only once for each set of overridden parameters. New cache is created on each {@link ALog}
+ * initialization, so derived loggers of previous configuration are not used anymore.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+final class ALogLoggerCache {
+    static final int TYPE_TAG = 0;
+    static final int TYPE_STACK_TRACE = 1;
+    static final int TYPE_TAG_STACK_TRACE = 2;
+    static final int TYPE_BARE = 3;
+    static final int TYPE_TAG_BARE = 4;
+    static final int TYPE_FORMATTER = 5;
+    static final int TYPE_FORMATTERS = 6;
+
+    private static final int MAX_CACHE_SIZE = 64;
+
+    /**
+     * Overridden parameters of derived logger.
+     */
+    static final class Key {
+        private final int mType;
+        private final String mTag;
+        private final int mStackTraceLineCount;
+        private final Object mFormatterKey;
+        private final Object mFormatter;
+
+        /**
+         * Constructor.
+         *
+         * @param type Type of derived logger. One of TYPE_* constants.
+         * @param tag Overridden log tag.
+         * @param stackTraceLineCount Overridden count of stack trace lines.
+         * @param formatterKey Class of custom formatter or map of custom formatters.
+         * @param formatter Custom formatter.
+         */
+        Key(int type, String tag, int stackTraceLineCount, Object formatterKey, Object formatter) {
+            mType = type;
+            mTag = tag;
+            mStackTraceLineCount = stackTraceLineCount;
+            mFormatterKey = formatterKey;
+            mFormatter = formatter;
+        }
+
+        /**
+         * Creates configuration of derived logger.
+         *
+         * @param configuration Configuration from which derived logger configuration is created.
+         * @return Configuration of derived logger.
+         */
+        @SuppressWarnings("unchecked")
+        ALogConfiguration derive(ALogConfiguration configuration) {
+            ALogConfiguration.Builder builder = configuration.copyBuilder();
+            switch (mType) {
+                case TYPE_TAG:
+                    builder.tag(mTag);
+                    break;
+                case TYPE_STACK_TRACE:
+                    builder.stackTraceLineCount(mStackTraceLineCount);
+                    break;
+                case TYPE_TAG_STACK_TRACE:
+                    builder.tag(mTag)
+                           .stackTraceLineCount(mStackTraceLineCount);
+                    break;
+                case TYPE_TAG_BARE:
+                    builder.tag(mTag);
+                    // Fall through
+                case TYPE_BARE:
+                    builder.threadPrefixEnabled(false)
+                           .classPrefixEnabled(false)
+                           .methodPrefixEnabled(false)
+                           .lineLocationPrefixEnabled(false)
+                           .stackTraceLineCount(0);
+                    break;
+                case TYPE_FORMATTER:
+                    builder.formatter((Class<?>) mFormatterKey, (ALogFormatter<?>) mFormatter);
+                    break;
+                case TYPE_FORMATTERS:
+                    for (Map.Entry<Class<?>, ALogFormatter<?>> formatterEntry
+                            : ((Map<Class<?>, ALogFormatter<?>>) mFormatterKey).entrySet()) {
+                        builder.formatter(formatterEntry.getKey(), formatterEntry.getValue());
+                    }
+                    break;
+            }
+            return builder.build();
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) object;
+            return mType == key.mType
+                    && mStackTraceLineCount == key.mStackTraceLineCount
+                    && Utils.equals(mTag, key.mTag)
+                    && Utils.equals(mFormatterKey, key.mFormatterKey)
+                    && mFormatter == key.mFormatter;
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = mType;
+            hashCode = 31 * hashCode + (mTag != null ? mTag.hashCode() : 0);
+            hashCode = 31 * hashCode + mStackTraceLineCount;
+            hashCode = 31 * hashCode + (mFormatterKey != null ? mFormatterKey.hashCode() : 0);
+            hashCode = 31 * hashCode + System.identityHashCode(mFormatter);
+            return hashCode;
+        }
+    }
+
+    private final ConcurrentHashMap<Key, ALogger> mLoggers;
+
+    /**
+     * Constructor.
+     */
+    ALogLoggerCache() {
+        mLoggers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets cached derived logger or creates and caches it. If cache is full it is cleared first.
+     *
+     * @param configuration Configuration from which derived logger configuration is created.
+     * @param key Overridden parameters of derived logger.
+     * @return Derived logger.
+     */
+    ALogger get(ALogConfiguration configuration, Key key) {
+        ALogger logger = mLoggers.get(key);
+        if (logger == null) {
+            logger = new ConfigurationALogger(key.derive(configuration));
+            if (mLoggers.size() >= MAX_CACHE_SIZE) {
+                mLoggers.clear();
+            }
+            mLoggers.put(key, logger);
+        }
+        return logger;
+    }
+
+    /**
+     * Gets count of cached derived loggers.
+     *
+     * @return Count of cached derived loggers.
+     */
+    int size() {
+        return mLoggers.size();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+/**
+ * Reusable logging message buffers. Each thread has its own instance, which is got via
+ * {@link #obtain()} and must be returned via {@link #recycle()} once logging message is printed.
+ * Buffers which have grown beyond {@link #MAX_RETAINED_CAPACITY} while building some huge logging
+ * message are not retained, so such message does not keep memory forever.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+final class ALogMessageBuffer {
+    static final int INITIAL_CAPACITY = 256;
+    static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+
+    private static final ThreadLocal<ALogMessageBuffer> THREAD_BUFFERS = new ThreadLocal<ALogMessageBuffer>() {
+        @Override
+        protected ALogMessageBuffer initialValue() {
+            return new ALogMessageBuffer();
+        }
+    };
+
+    /**
+     * Builder of logging message.
+     */
+    StringBuilder mMessage;
+    /**
+     * Builder of stack trace lines which are appended to the end of logging message.
+     */
+    StringBuilder mStackTrace;
+    /**
+     * Read-only view of {@link #mMessage} content, which should be passed to printers.
+     */
+    final CharSequence mMessageView;
+
+    private boolean mIsInUse;
+
+    private ALogMessageBuffer() {
+        mMessage = new StringBuilder(INITIAL_CAPACITY);
+        mStackTrace = new StringBuilder(INITIAL_CAPACITY);
+        mMessageView = new MessageView();
+    }
+
+    /**
+     * Gets empty logging message buffer of the current thread. If buffer of the current thread is
+     * already in use (logging method is called while logging message is being built or printed),
+     * new buffer is created.
+     *
+     * @return Empty logging message buffer.
+     */
+    static ALogMessageBuffer obtain() {
+        ALogMessageBuffer buffer = THREAD_BUFFERS.get();
+        if (buffer.mIsInUse) {
+            buffer = new ALogMessageBuffer();
+        }
+        buffer.mIsInUse = true;
+        return buffer;
+    }
+
+    /**
+     * Clears this logging message buffer, so it can be got via {@link #obtain()} again.
+     */
+    void recycle() {
+        mMessage = clear(mMessage);
+        mStackTrace = clear(mStackTrace);
+        mIsInUse = false;
+    }
+
+    private static StringBuilder clear(StringBuilder builder) {
+        if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+            return new StringBuilder(INITIAL_CAPACITY);
+        }
+        builder.setLength(0);
+        return builder;
+    }
+
+    /**
+     * Read-only {@link CharSequence} view of logging message. It is valid only until logging
+     * message buffer is recycled, so printers which use logging message asynchronously must copy
+     * it.
+     */
+    private final class MessageView implements CharSequence {
+        @Override
+        public int length() {
+            return mMessage.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return mMessage.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return mMessage.substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return mMessage.toString();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+/**
+ * Represents the way how logging message is combined with its arguments. Values should be passed
+ * to {@link ALogConfiguration.Builder#messageFormat(ALogMessageFormat)}.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public enum ALogMessageFormat {
+    /**
+     * Logging message is a <a href="../util/Formatter.html#syntax">format string</a>, as in
+     * {@link String#format(String, Object...)}. For example
+     * {@code ALog.d("Loaded %d items from %s", count, source)}.
+     */
+    FORMAT_STRING("%s") {
+        @Override
+        void appendFormatted(StringBuilder builder,
+                             String message,
+                             Object[] arguments,
+                             ALogConfiguration configuration) {
+            ALogFormatTemplate.appendFormatted(builder, message, arguments, configuration);
+        }
+
+        @Override
+        void appendFormatted(StringBuilder builder,
+                             String message,
+                             ALogArguments arguments,
+                             ALogConfiguration configuration) {
+            ALogFormatTemplate.appendFormatted(builder, message, arguments, configuration);
+        }
+    },
+    /**
+     * Each "{}" placeholder in logging message is replaced by the next argument, as in SLF4J. For
+     * example {@code ALog.d("Loaded {} items from {}", count, source)}. Arguments are formatted
+     * the same way as "%s" format specifier arguments are. Placeholder can be escaped as "\\{}".
+     * Placeholders which have no corresponding arguments are left as is.
+     */
+    PLACEHOLDER("{}") {
+        @Override
+        void appendFormatted(StringBuilder builder,
+                             String message,
+                             Object[] arguments,
+                             ALogConfiguration configuration) {
+            ALogPlaceholderFormat.appendFormatted(builder, message, arguments, configuration);
+        }
+
+        @Override
+        void appendFormatted(StringBuilder builder,
+                             String message,
+                             ALogArguments arguments,
+                             ALogConfiguration configuration) {
+            ALogPlaceholderFormat.appendFormatted(builder, message, arguments, configuration);
+        }
+    };
+
+    /**
+     * Logging message which consists of its single argument only.
+     */
+    final String mSingleArgumentMessage;
+
+    ALogMessageFormat(String singleArgumentMessage) {
+        mSingleArgumentMessage = singleArgumentMessage;
+    }
+
+    /**
+     * Appends logging message combined with passed arguments to passed builder.
+     *
+     * @param builder Builder to append logging message to.
+     * @param message Logging message.
+     * @param arguments Logging message arguments.
+     * @param configuration {@link ALog} configuration.
+     */
+    abstract void appendFormatted(StringBuilder builder,
+                                  String message,
+                                  Object[] arguments,
+                                  ALogConfiguration configuration);
+
+    /**
+     * Appends logging message combined with passed arguments to passed builder.
+     *
+     * @param builder Builder to append logging message to.
+     * @param message Logging message.
+     * @param arguments Logging message arguments.
+     * @param configuration {@link ALog} configuration.
+     */
+    abstract void appendFormatted(StringBuilder builder,
+                                  String message,
+                                  ALogArguments arguments,
+                                  ALogConfiguration configuration);
+}
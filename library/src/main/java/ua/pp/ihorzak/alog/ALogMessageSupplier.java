@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+/**
+ * Represents lazy supplier of logging message. Supplier is called only if logging message with
+ * the corresponding logging level is really sent, so expensive logging message building is not
+ * performed for filtered out logging messages.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public interface ALogMessageSupplier {
+    /**
+     * Builds logging message.
+     *
+     * @return Logging message. It is not treated as format string.
+     */
+    String get();
+}
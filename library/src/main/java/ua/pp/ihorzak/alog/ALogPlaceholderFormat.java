@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+/**
+ * Combines logging messages with "{}" placeholders and their arguments in a single pass over
+ * logging message. See {@link ALogMessageFormat#PLACEHOLDER}.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+final class ALogPlaceholderFormat {
+    private static final String PLACEHOLDER = "{}";
+    private static final char ESCAPE_CHAR = '\\';
+
+    private ALogPlaceholderFormat() {}
+
+    /**
+     * Appends logging message with placeholders replaced by passed arguments to passed builder.
+     *
+     * @param builder Builder to append logging message to.
+     * @param message Logging message.
+     * @param arguments Logging message arguments.
+     * @param configuration {@link ALog} configuration.
+     */
+    static void appendFormatted(StringBuilder builder,
+                                String message,
+                                Object[] arguments,
+                                ALogConfiguration configuration) {
+        appendFormatted(builder, message, arguments, null, configuration);
+    }
+
+    /**
+     * Appends logging message with placeholders replaced by passed arguments to passed builder.
+     *
+     * @param builder Builder to append logging message to.
+     * @param message Logging message.
+     * @param arguments Logging message arguments.
+     * @param configuration {@link ALog} configuration.
+     */
+    static void appendFormatted(StringBuilder builder,
+                                String message,
+                                ALogArguments arguments,
+                                ALogConfiguration configuration) {
+        appendFormatted(builder, message, null, arguments, configuration);
+    }
+
+    private static void appendFormatted(StringBuilder builder,
+                                        String message,
+                                        Object[] objectArguments,
+                                        ALogArguments arguments,
+                                        ALogConfiguration configuration) {
+        int argumentCount = arguments != null
+                ? arguments.size()
+                : objectArguments != null ? objectArguments.length : 0;
+        int argumentIndex = 0;
+        int segmentStart = 0;
+        int placeholderStart;
+        while (argumentIndex < argumentCount
+                && (placeholderStart = message.indexOf(PLACEHOLDER, segmentStart)) != -1) {
+            if (isEscaped(message, placeholderStart)) {
+                if (isEscaped(message, placeholderStart - 1)) {
+                    builder.append(message, segmentStart, placeholderStart - 1);
+                    appendArgument(builder, objectArguments, arguments, argumentIndex++, configuration);
+                } else {
+                    builder.append(message, segmentStart, placeholderStart - 1).append(PLACEHOLDER);
+                }
+            } else {
+                builder.append(message, segmentStart, placeholderStart);
+                appendArgument(builder, objectArguments, arguments, argumentIndex++, configuration);
+            }
+            segmentStart = placeholderStart + PLACEHOLDER.length();
+        }
+        builder.append(message, segmentStart, message.length());
+    }
+
+    private static boolean isEscaped(String message, int index) {
+        return index > 0 && message.charAt(index - 1) == ESCAPE_CHAR;
+    }
+
+    private static void appendArgument(StringBuilder builder,
+                                       Object[] objectArguments,
+                                       ALogArguments arguments,
+                                       int index,
+                                       ALogConfiguration configuration) {
+        if (arguments != null && arguments.getType(index) != ALogArguments.TYPE_OBJECT) {
+            ALogFormatTemplate.appendString(builder, arguments.getType(index), arguments.getLong(index),
+                    arguments.getDouble(index), arguments.getObject(index), configuration);
+        } else {
+            // Boxed primitives passed as objects are appended according to their type
+            Object argument = arguments != null ? arguments.getObject(index) : objectArguments[index];
+            byte type = ALogArguments.getType(argument);
+            ALogFormatTemplate.appendString(builder, type, ALogArguments.toLong(argument, type),
+                    ALogArguments.toDouble(argument, type), argument, configuration);
+        }
+    }
+}
@@ -27,7 +27,9 @@ interface ALogPrinter {
      *
      * @param level Logging level. See {@link ALogLevel}.
      * @param tag Log tag.
-     * @param message Logging message.
+     * @param message Logging message. It is read-only view of reusable buffer, which is valid only
+     *                until this method returns, so implementations which use logging message
+     *                asynchronously must copy it.
      */
     void print(ALogLevel level, CharSequence tag, CharSequence message);
 }
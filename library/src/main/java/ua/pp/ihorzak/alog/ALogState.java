@@ -0,0 +1,278 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Immutable snapshot of {@link ALog} state: current configuration, its logger, cache of derived
+ * loggers and runtime overrides of configuration parameters. Snapshot is published through
+ * single atomic reference, so logging methods read consistent state with one volatile read and
+ * without locking, while initialization and runtime changes replace whole snapshot. Runtime
+ * overrides are applied by all {@link ConfigurationALogger} instances, including derived ones
+ * which were created before override was changed.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+final class ALogState {
+    static final int PRINTER_LOGCAT = 0;
+    static final int PRINTER_FILE = 1;
+
+    static final int PREFIX_THREAD = 1;
+    static final int PREFIX_CLASS = 1 << 1;
+    static final int PREFIX_METHOD = 1 << 2;
+    static final int PREFIX_LINE_LOCATION = 1 << 3;
+
+    private static final AtomicReference<ALogState> CURRENT = new AtomicReference<>(
+            new ALogState(null, null, new ALogLoggerCache(), null, 0, 0, 0)
+    );
+
+    /**
+     * Change of runtime overrides.
+     */
+    interface Change {
+        /**
+         * Creates snapshot with changed runtime overrides.
+         *
+         * @param state Current snapshot.
+         * @return Changed snapshot.
+         */
+        ALogState apply(ALogState state);
+    }
+
+    final ALogConfiguration mConfiguration;
+    final ALogger mLogger;
+    final ALogLoggerCache mLoggerCache;
+    final ALogLevel mMinimalLevel;
+    /**
+     * Levels of logging messages which are sent by the main logger.
+     */
+    final int mLoggableLevelMask;
+    /**
+     * Levels of logging messages which may be sent by the main logger. Besides
+     * {@link #mLoggableLevelMask} it contains levels enabled by minimal level overrides which
+     * depend on caller class, such messages are filtered out by logger itself once caller is
+     * resolved.
+     */
+    final int mMaybeLoggableLevelMask;
+    final int mDisabledPrinterMask;
+    final int mOverriddenPrefixMask;
+    final int mEnabledPrefixMask;
+
+    private final int mMinimalLevelMask;
+
+    private ALogState(ALogConfiguration configuration,
+                      ALogger logger,
+                      ALogLoggerCache loggerCache,
+                      ALogLevel minimalLevel,
+                      int disabledPrinterMask,
+                      int overriddenPrefixMask,
+                      int enabledPrefixMask) {
+        mConfiguration = configuration;
+        mLogger = logger;
+        mLoggerCache = loggerCache;
+        mMinimalLevel = minimalLevel;
+        mDisabledPrinterMask = disabledPrinterMask;
+        mOverriddenPrefixMask = overriddenPrefixMask;
+        mEnabledPrefixMask = enabledPrefixMask;
+        mMinimalLevelMask = getLevelMask(minimalLevel);
+        int loggableLevelMask;
+        int callerLevelMask = 0;
+        if (configuration == null) {
+            loggableLevelMask = ALogConfiguration.DEFAULT_LOGGABLE_LEVEL_MASK;
+        } else if (!configuration.mIsEnabled) {
+            loggableLevelMask = configuration.mLoggableLevelMask;
+        } else if (minimalLevel != null) {
+            // Runtime minimal level takes precedence over configured level overrides
+            loggableLevelMask = mMinimalLevelMask;
+        } else {
+            ALogLevelOverrides levelOverrides = configuration.mLevelOverrides;
+            ALogLevel tagLevel = levelOverrides != null ? levelOverrides.getTagLevel(configuration.mTag) : null;
+            if (tagLevel != null) {
+                loggableLevelMask = getLevelMask(tagLevel);
+            } else {
+                loggableLevelMask = configuration.mLoggableLevelMask;
+                if (levelOverrides != null && levelOverrides.needsCaller(configuration.mTag)) {
+                    callerLevelMask = levelOverrides.mLevelMask;
+                }
+            }
+        }
+        mLoggableLevelMask = loggableLevelMask;
+        mMaybeLoggableLevelMask = loggableLevelMask | callerLevelMask;
+    }
+
+    /**
+     * Gets current snapshot.
+     *
+     * @return Current snapshot.
+     */
+    static ALogState get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Publishes snapshot with new configuration. Runtime overrides are reset.
+     *
+     * @param configuration New configuration.
+     * @param logger Logger of new configuration.
+     */
+    static void initialize(ALogConfiguration configuration, ALogger logger) {
+        CURRENT.set(new ALogState(configuration, logger, new ALogLoggerCache(), null, 0, 0, 0));
+    }
+
+    /**
+     * Publishes snapshot with new configuration only if passed uninitialized snapshot is still
+     * the current one, so lazy initialization can't overwrite concurrent explicit one.
+     *
+     * @param uninitializedState Current snapshot without logger.
+     * @param configuration New configuration.
+     * @param logger Logger of new configuration.
+     */
+    static void initialize(ALogState uninitializedState, ALogConfiguration configuration, ALogger logger) {
+        CURRENT.compareAndSet(
+                uninitializedState,
+                new ALogState(configuration, logger, new ALogLoggerCache(), null, 0, 0, 0)
+        );
+    }
+
+    /**
+     * Atomically publishes snapshot with changed runtime overrides. Change can be applied several
+     * times if snapshot is replaced concurrently.
+     *
+     * @param change Change of runtime overrides.
+     */
+    static void update(Change change) {
+        while (true) {
+            ALogState state = CURRENT.get();
+            if (CURRENT.compareAndSet(state, change.apply(state))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Creates snapshot with changed minimal logging level override.
+     *
+     * @param minimalLevel Minimal logging level or null to use configured one.
+     * @return Changed snapshot.
+     */
+    ALogState withMinimalLevel(ALogLevel minimalLevel) {
+        return new ALogState(mConfiguration, mLogger, mLoggerCache, minimalLevel,
+                mDisabledPrinterMask, mOverriddenPrefixMask, mEnabledPrefixMask);
+    }
+
+    /**
+     * Creates snapshot with enabled or disabled printer.
+     *
+     * @param printer Printer index. One of PRINTER_* constants.
+     * @param isEnabled true if printer should be enabled, false otherwise.
+     * @return Changed snapshot.
+     */
+    ALogState withPrinterEnabled(int printer, boolean isEnabled) {
+        int disabledPrinterMask = isEnabled
+                ? mDisabledPrinterMask & ~(1 << printer)
+                : mDisabledPrinterMask | 1 << printer;
+        return new ALogState(mConfiguration, mLogger, mLoggerCache, mMinimalLevel,
+                disabledPrinterMask, mOverriddenPrefixMask, mEnabledPrefixMask);
+    }
+
+    /**
+     * Creates snapshot with overridden prefix.
+     *
+     * @param prefix Prefix flag. One of PREFIX_* constants.
+     * @param isEnabled true if prefix should be enabled, false otherwise.
+     * @return Changed snapshot.
+     */
+    ALogState withPrefixEnabled(int prefix, boolean isEnabled) {
+        int enabledPrefixMask = isEnabled ? mEnabledPrefixMask | prefix : mEnabledPrefixMask & ~prefix;
+        return new ALogState(mConfiguration, mLogger, mLoggerCache, mMinimalLevel,
+                mDisabledPrinterMask, mOverriddenPrefixMask | prefix, enabledPrefixMask);
+    }
+
+    /**
+     * Creates snapshot without runtime overrides.
+     *
+     * @return Changed snapshot.
+     */
+    ALogState withoutOverrides() {
+        return new ALogState(mConfiguration, mLogger, mLoggerCache, null, 0, 0, 0);
+    }
+
+    /**
+     * Checks if logging messages with specified logging level are sent with passed configuration
+     * taking into account minimal logging level override.
+     *
+     * @param configuration Logger configuration.
+     * @param level Logging level. See {@link ALogLevel}.
+     * @return true if logging messages with specified logging level are sent, false otherwise.
+     */
+    boolean isLoggable(ALogConfiguration configuration, ALogLevel level) {
+        return mMinimalLevel == null
+                ? configuration.isLoggable(level)
+                : configuration.mIsEnabled && (mMinimalLevelMask & level.mMask) != 0;
+    }
+
+    /**
+     * Checks if minimal level overrides of passed configuration which depend on caller class are
+     * applied. They are ignored while runtime minimal level override is set.
+     *
+     * @param configuration Logger configuration.
+     * @return true if overrides which depend on caller class are applied, false otherwise.
+     */
+    boolean isCallerLevelApplied(ALogConfiguration configuration) {
+        return mMinimalLevel == null && configuration.mIsEnabled;
+    }
+
+    /**
+     * Checks if prefix is enabled taking into account its runtime override.
+     *
+     * @param prefix Prefix flag. One of PREFIX_* constants.
+     * @param isConfigured true if prefix is enabled in logger configuration, false otherwise.
+     * @return true if prefix is enabled, false otherwise.
+     */
+    boolean isPrefixEnabled(int prefix, boolean isConfigured) {
+        return (mOverriddenPrefixMask & prefix) != 0 ? (mEnabledPrefixMask & prefix) != 0 : isConfigured;
+    }
+
+    /**
+     * Checks if printer is enabled.
+     *
+     * @param printer Printer index. One of PRINTER_* constants.
+     * @return true if printer is enabled, false otherwise.
+     */
+    boolean isPrinterEnabled(int printer) {
+        return (mDisabledPrinterMask & 1 << printer) == 0;
+    }
+
+    /**
+     * Gets mask of logging levels enabled by passed minimal logging level.
+     *
+     * @param minimalLevel Minimal logging level or null.
+     * @return Mask of enabled logging levels, 0 if passed minimal logging level is null.
+     */
+    private static int getLevelMask(ALogLevel minimalLevel) {
+        int levelMask = 0;
+        if (minimalLevel != null) {
+            for (ALogLevel level : ALogLevel.values()) {
+                if (minimalLevel.compareTo(level) >= 0) {
+                    levelMask |= level.mMask;
+                }
+            }
+        }
+        return levelMask;
+    }
+}
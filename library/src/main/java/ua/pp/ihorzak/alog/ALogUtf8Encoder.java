@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Allocation free UTF-8 encoder of {@link CharSequence} instances. Unpaired surrogate chars are
+ * encoded as '?' the same way as {@link java.nio.charset.CharsetEncoder} does by default.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+final class ALogUtf8Encoder {
+    /**
+     * Maximal count of bytes which can be produced per single encoded code point.
+     */
+    static final int MAX_BYTES_PER_CODE_POINT = 4;
+    /**
+     * Maximal count of bytes which can be produced per single encoded char.
+     */
+    static final int MAX_BYTES_PER_CHAR = 3;
+
+    private static final byte REPLACEMENT = '?';
+
+    private ALogUtf8Encoder() {
+    }
+
+    /**
+     * Encodes chars from specified range of char sequence to UTF-8 and puts them into specified
+     * buffer while it has enough space for the next encoded char.
+     *
+     * @param chars Char sequence to be encoded.
+     * @param start Index of the first char to be encoded.
+     * @param end Index after the last char to be encoded.
+     * @param buffer Byte buffer to put encoded bytes into.
+     * @return Index of the first not encoded char, equals to end if all chars are encoded.
+     */
+    static int encode(CharSequence chars, int start, int end, ByteBuffer buffer) {
+        int index = start;
+        while (index < end) {
+            char c = chars.charAt(index);
+            if (c < 0x80) {
+                if (!buffer.hasRemaining()) {
+                    break;
+                }
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                if (buffer.remaining() < 2) {
+                    break;
+                }
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (c < Character.MIN_SURROGATE || c > Character.MAX_SURROGATE) {
+                if (buffer.remaining() < 3) {
+                    break;
+                }
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && index + 1 < end && Character.isLowSurrogate(chars.charAt(index + 1))) {
+                if (buffer.remaining() < 4) {
+                    break;
+                }
+                int codePoint = Character.toCodePoint(c, chars.charAt(++index));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                if (!buffer.hasRemaining()) {
+                    break;
+                }
+                buffer.put(REPLACEMENT);
+            }
+            ++index;
+        }
+        return index;
+    }
+
+    /**
+     * Counts bytes in UTF-8 representation of specified char sequence without encoding it.
+     *
+     * @param chars Char sequence to be measured.
+     * @return Count of bytes produced by {@link #encode(CharSequence, int, int, ByteBuffer)} call
+     *         for the whole char sequence.
+     */
+    static long getEncodedLength(CharSequence chars) {
+        int length = chars.length();
+        long encodedLength = length;
+        for (int i = 0; i < length; ++i) {
+            char c = chars.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                encodedLength += 1;
+            } else if (c < Character.MIN_SURROGATE || c > Character.MAX_SURROGATE) {
+                encodedLength += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                encodedLength += 2;
+                ++i;
+            }
+        }
+        return encodedLength;
+    }
+}
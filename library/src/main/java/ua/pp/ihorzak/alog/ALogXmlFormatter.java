@@ -0,0 +1,331 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import android.text.TextUtils;
+
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+import org.xmlpull.v1.XmlPullParserFactory;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+
+/**
+ * XML pretty-printer. Each thread has its own instance which keeps pull parser and state of
+ * elements being formatted, so neither parser factory lookup nor per element allocations of
+ * nesting state are performed per logging message. Namespaces already declared by ancestors are
+ * detected via hash set instead of scanning of ancestor declarations.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+final class ALogXmlFormatter {
+    private static final String PREFIX_XMLNS = "xmlns";
+    private static final String PREFIX_CDATA = "<![CDATA[";
+    private static final String SUFFIX_CDATA = "]]>";
+    private static final String PREFIX_COMMENT = "<!--";
+    private static final String SUFFIX_COMMENT = "-->";
+    private static final String INDENT = "                                ";
+    private static final int INITIAL_DEPTH_CAPACITY = 16;
+
+    private static final ThreadLocal<ALogXmlFormatter> THREAD_FORMATTERS = new ThreadLocal<ALogXmlFormatter>() {
+        @Override
+        protected ALogXmlFormatter initialValue() {
+            return new ALogXmlFormatter();
+        }
+    };
+
+    private XmlPullParser mParser;
+    private String[] mNames;
+    private boolean[] mHasChildren;
+    private boolean[] mHasText;
+    /**
+     * Indexes in {@link #mNamespaces} of the first namespace declared by element at each depth.
+     */
+    private int[] mNamespaceStarts;
+    /**
+     * Namespaces declared by elements being formatted.
+     */
+    private final ArrayList<String> mNamespaces;
+    private final HashSet<String> mNamespaceSet;
+    private final StringBuilder mNamespaceBuilder;
+    private boolean mIsInUse;
+
+    private ALogXmlFormatter() {
+        mNames = new String[INITIAL_DEPTH_CAPACITY];
+        mHasChildren = new boolean[INITIAL_DEPTH_CAPACITY];
+        mHasText = new boolean[INITIAL_DEPTH_CAPACITY];
+        mNamespaceStarts = new int[INITIAL_DEPTH_CAPACITY];
+        mNamespaces = new ArrayList<>();
+        mNamespaceSet = new HashSet<>();
+        mNamespaceBuilder = new StringBuilder();
+    }
+
+    /**
+     * Formats XML string and appends result to passed builder. In case of invalid XML builder may
+     * contain partial output, so caller is responsible for its rollback.
+     *
+     * @param builder Builder to append formatted XML to.
+     * @param xml XML string to be formatted.
+     * @param indentSpaceCount Indentation space count.
+     * @throws XmlPullParserException If XML string is invalid.
+     * @throws IOException If some error occurred while reading XML string.
+     */
+    static void append(StringBuilder builder, String xml, int indentSpaceCount) throws XmlPullParserException,
+                                                                                       IOException {
+        ALogXmlFormatter formatter = THREAD_FORMATTERS.get();
+        if (formatter.mIsInUse) {
+            formatter = new ALogXmlFormatter();
+        }
+        formatter.mIsInUse = true;
+        try {
+            formatter.format(builder, xml, indentSpaceCount);
+        } finally {
+            formatter.recycle();
+        }
+    }
+
+    private void format(StringBuilder builder, String xml, int indentSpaceCount) throws XmlPullParserException,
+                                                                                        IOException {
+        XmlPullParser parser = getParser();
+        parser.setInput(new StringReader(xml));
+        int eventType = parser.getEventType();
+        int parentCount = 0;
+        int currentIndent = 0;
+        while (eventType != XmlPullParser.END_DOCUMENT) {
+            switch (eventType) {
+                case XmlPullParser.START_TAG:
+                    String startName = getQualifiedName(parser.getPrefix(), parser.getName());
+                    ensureDepthCapacity(parentCount + 1);
+                    mNames[parentCount] = startName;
+                    if (parentCount > 0 && !mHasChildren[parentCount - 1]) {
+                        if (!mHasText[parentCount - 1]) {
+                            builder.append('>');
+                        }
+                        builder.append('\n');
+                        mHasChildren[parentCount - 1] = true;
+                    }
+                    appendIndent(builder, currentIndent);
+                    builder.append('<').append(startName);
+                    int attributeIndent = currentIndent + startName.length() + 2;
+                    int namespaceStart = mNamespaces.size();
+                    mNamespaceStarts[parentCount] = namespaceStart;
+                    int namespaceCount = parser.getNamespaceCount(parentCount + 1);
+                    for (int i = 0; i < namespaceCount; ++i) {
+                        String namespacePrefix = parser.getNamespacePrefix(i);
+                        mNamespaceBuilder.setLength(0);
+                        mNamespaceBuilder.append(namespacePrefix).append('=').append('"');
+                        appendEscaped(mNamespaceBuilder, parser.getNamespace(namespacePrefix));
+                        mNamespaceBuilder.append('"');
+                        String namespace = mNamespaceBuilder.toString();
+                        if (mNamespaceSet.add(namespace)) {
+                            mNamespaces.add(namespace);
+                        }
+                    }
+                    boolean hasNamespaces = mNamespaces.size() > namespaceStart;
+                    if (hasNamespaces) {
+                        builder.append(' ');
+                        for (int i = namespaceStart; i < mNamespaces.size(); ++i) {
+                            if (i > namespaceStart) {
+                                appendIndent(builder, attributeIndent);
+                            }
+                            builder.append(PREFIX_XMLNS)
+                                    .append(':')
+                                    .append(mNamespaces.get(i))
+                                    .append('\n');
+                        }
+                    }
+                    int attributeCount = parser.getAttributeCount();
+                    if (attributeCount > 0) {
+                        appendIndent(builder, hasNamespaces ? attributeIndent : 1);
+                        for (int i = 0; i < attributeCount; ++i) {
+                            if (i > 0) {
+                                builder.append('\n');
+                                appendIndent(builder, attributeIndent);
+                            }
+                            String attributePrefix = parser.getAttributePrefix(i);
+                            if (!TextUtils.isEmpty(attributePrefix)) {
+                                builder.append(attributePrefix).append(':');
+                            }
+                            builder.append(parser.getAttributeName(i)).append('=').append('"');
+                            appendEscaped(builder, parser.getAttributeValue(i));
+                            builder.append('"');
+                        }
+                    }
+                    mHasChildren[parentCount] = false;
+                    mHasText[parentCount] = false;
+                    ++parentCount;
+                    currentIndent += indentSpaceCount;
+                    break;
+                case XmlPullParser.END_TAG:
+                    String endName = getQualifiedName(parser.getPrefix(), parser.getName());
+                    if (parentCount == 0) {
+                        throw new XmlPullParserException("Unexpected \"" + endName + "\" close tag");
+                    }
+                    if (!endName.equals(mNames[parentCount - 1])) {
+                        throw new XmlPullParserException("Expected \"" + mNames[parentCount - 1] +
+                                "\" close tag, but found \"" + endName + "\" close tag");
+                    }
+                    --parentCount;
+                    currentIndent -= indentSpaceCount;
+                    if (mHasChildren[parentCount]) {
+                        appendIndent(builder, currentIndent);
+                    }
+                    if (mHasChildren[parentCount] || mHasText[parentCount]) {
+                        builder.append('<')
+                                .append('/')
+                                .append(endName)
+                                .append('>');
+                    } else {
+                        builder.append('/').append('>');
+                    }
+                    builder.append('\n');
+                    for (int i = mNamespaces.size() - 1; i >= mNamespaceStarts[parentCount]; --i) {
+                        mNamespaceSet.remove(mNamespaces.remove(i));
+                    }
+                    break;
+                case XmlPullParser.TEXT:
+                    startText(builder, parentCount);
+                    String text = parser.getText();
+                    int textStart = 0;
+                    int textEnd = text.length();
+                    while (textStart < textEnd && text.charAt(textStart) <= ' ') {
+                        ++textStart;
+                    }
+                    while (textEnd > textStart && text.charAt(textEnd - 1) <= ' ') {
+                        --textEnd;
+                    }
+                    appendEscaped(builder, text, textStart, textEnd);
+                    break;
+                case XmlPullParser.CDSECT:
+                    startText(builder, parentCount);
+                    String cData = parser.getText();
+                    if (cData.length() > 0) {
+                        builder.append(PREFIX_CDATA).append(cData).append(SUFFIX_CDATA);
+                    }
+                    break;
+                case XmlPullParser.COMMENT:
+                    startText(builder, parentCount);
+                    String comment = parser.getText();
+                    if (comment.length() > 0) {
+                        builder.append(PREFIX_COMMENT).append(comment).append(SUFFIX_COMMENT);
+                    }
+                    break;
+            }
+            eventType = parser.nextToken();
+        }
+        if (parentCount > 0) {
+            throw new XmlPullParserException("Expected \"" + mNames[parentCount - 1] + "\" close tag");
+        }
+    }
+
+    private XmlPullParser getParser() throws XmlPullParserException {
+        if (mParser == null) {
+            XmlPullParserFactory parserFactory = XmlPullParserFactory.newInstance();
+            parserFactory.setNamespaceAware(true);
+            mParser = parserFactory.newPullParser();
+        }
+        return mParser;
+    }
+
+    private void startText(StringBuilder builder, int parentCount) {
+        if (parentCount > 0) {
+            if (!mHasChildren[parentCount - 1] && !mHasText[parentCount - 1]) {
+                builder.append('>');
+            }
+            mHasText[parentCount - 1] = true;
+        }
+    }
+
+    private void ensureDepthCapacity(int depth) {
+        if (depth > mNames.length) {
+            int capacity = Math.max(depth, mNames.length * 2);
+            int length = mNames.length;
+            String[] names = new String[capacity];
+            System.arraycopy(mNames, 0, names, 0, length);
+            mNames = names;
+            boolean[] hasChildren = new boolean[capacity];
+            System.arraycopy(mHasChildren, 0, hasChildren, 0, length);
+            mHasChildren = hasChildren;
+            boolean[] hasText = new boolean[capacity];
+            System.arraycopy(mHasText, 0, hasText, 0, length);
+            mHasText = hasText;
+            int[] namespaceStarts = new int[capacity];
+            System.arraycopy(mNamespaceStarts, 0, namespaceStarts, 0, length);
+            mNamespaceStarts = namespaceStarts;
+        }
+    }
+
+    private void recycle() {
+        if (mParser != null) {
+            try {
+                // Releases reference to the last formatted XML string
+                mParser.setInput(null);
+            } catch (XmlPullParserException ignored) {
+            }
+        }
+        Arrays.fill(mNames, null);
+        mNamespaces.clear();
+        mNamespaceSet.clear();
+        mIsInUse = false;
+    }
+
+    private static String getQualifiedName(String prefix, String name) {
+        return prefix != null ? prefix + ':' + name : name;
+    }
+
+    private static void appendIndent(StringBuilder builder, int indent) {
+        while (indent > 0) {
+            int count = Math.min(indent, INDENT.length());
+            builder.append(INDENT, 0, count);
+            indent -= count;
+        }
+    }
+
+    private static void appendEscaped(StringBuilder builder, String s) {
+        appendEscaped(builder, s, 0, s.length());
+    }
+
+    private static void appendEscaped(StringBuilder builder, String s, int start, int end) {
+        for (int i = start; i < end; ++i) {
+            char character = s.charAt(i);
+            switch (character) {
+                case '&':
+                    builder.append("&amp;");
+                    break;
+                case '"':
+                    builder.append("&quot;");
+                    break;
+                case '\'':
+                    builder.append("&apos;");
+                    break;
+                case '<':
+                    builder.append("&lt;");
+                    break;
+                case '>':
+                    builder.append("&gt;");
+                    break;
+                default:
+                    builder.append(character);
+                    break;
+            }
+        }
+    }
+}
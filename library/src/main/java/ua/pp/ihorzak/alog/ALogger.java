@@ -22,6 +22,16 @@ package ua.pp.ihorzak.alog;
  * @author Ihor Zakhozhyi <ihorzak@gmail.com>
  */
 public interface ALogger {
+    /**
+     * Checks if logging messages with specified logging level are sent by this logger. It is a
+     * cheap check, which can be used to skip building of expensive diagnostic data, for example
+     * in loops.
+     *
+     * @param level Logging level. See {@link ALogLevel}.
+     * @return true if logging messages with specified logging level are sent, false otherwise.
+     */
+    boolean isEnabled(ALogLevel level);
+
     /**
      * Sends empty {@link ALogLevel#VERBOSE} logging message.
      */
@@ -42,6 +52,108 @@ public interface ALogger {
      */
     void v(String message, Object... args);
 
+    /**
+     * Sends {@link ALogLevel#VERBOSE} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void v(String message, Object arg);
+
+    /**
+     * Sends {@link ALogLevel#VERBOSE} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void v(String message, boolean arg);
+
+    /**
+     * Sends {@link ALogLevel#VERBOSE} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void v(String message, char arg);
+
+    /**
+     * Sends {@link ALogLevel#VERBOSE} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void v(String message, byte arg);
+
+    /**
+     * Sends {@link ALogLevel#VERBOSE} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void v(String message, short arg);
+
+    /**
+     * Sends {@link ALogLevel#VERBOSE} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void v(String message, int arg);
+
+    /**
+     * Sends {@link ALogLevel#VERBOSE} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void v(String message, long arg);
+
+    /**
+     * Sends {@link ALogLevel#VERBOSE} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void v(String message, float arg);
+
+    /**
+     * Sends {@link ALogLevel#VERBOSE} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void v(String message, double arg);
+
+    /**
+     * Sends {@link ALogLevel#VERBOSE} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     */
+    void v(String message, Object arg1, Object arg2);
+
+    /**
+     * Sends {@link ALogLevel#VERBOSE} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     */
+    void v(String message, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * Sends {@link ALogLevel#VERBOSE} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     * @param arg4 Fourth argument for format string in message.
+     */
+    void v(String message, Object arg1, Object arg2, Object arg3, Object arg4);
+
     /**
      * Sends {@link ALogLevel#VERBOSE} logging message.
      *
@@ -58,6 +170,23 @@ public interface ALogger {
      */
     void v(Throwable throwable, String message, Object... args);
 
+    /**
+     * Sends {@link ALogLevel#VERBOSE} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#VERBOSE} logging messages are not filtered out.
+     *
+     * @param supplier Logging message supplier.
+     */
+    void v(ALogMessageSupplier supplier);
+
+    /**
+     * Sends {@link ALogLevel#VERBOSE} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#VERBOSE} logging messages are not filtered out.
+     *
+     * @param throwable {@link Throwable} to log.
+     * @param supplier Logging message supplier.
+     */
+    void v(Throwable throwable, ALogMessageSupplier supplier);
+
     /**
      * Sends empty {@link ALogLevel#DEBUG} logging message.
      */
@@ -78,6 +207,108 @@ public interface ALogger {
      */
     void d(String message, Object... args);
 
+    /**
+     * Sends {@link ALogLevel#DEBUG} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void d(String message, Object arg);
+
+    /**
+     * Sends {@link ALogLevel#DEBUG} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void d(String message, boolean arg);
+
+    /**
+     * Sends {@link ALogLevel#DEBUG} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void d(String message, char arg);
+
+    /**
+     * Sends {@link ALogLevel#DEBUG} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void d(String message, byte arg);
+
+    /**
+     * Sends {@link ALogLevel#DEBUG} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void d(String message, short arg);
+
+    /**
+     * Sends {@link ALogLevel#DEBUG} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void d(String message, int arg);
+
+    /**
+     * Sends {@link ALogLevel#DEBUG} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void d(String message, long arg);
+
+    /**
+     * Sends {@link ALogLevel#DEBUG} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void d(String message, float arg);
+
+    /**
+     * Sends {@link ALogLevel#DEBUG} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void d(String message, double arg);
+
+    /**
+     * Sends {@link ALogLevel#DEBUG} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     */
+    void d(String message, Object arg1, Object arg2);
+
+    /**
+     * Sends {@link ALogLevel#DEBUG} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     */
+    void d(String message, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * Sends {@link ALogLevel#DEBUG} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     * @param arg4 Fourth argument for format string in message.
+     */
+    void d(String message, Object arg1, Object arg2, Object arg3, Object arg4);
+
     /**
      * Sends {@link ALogLevel#DEBUG} logging message.
      *
@@ -94,6 +325,23 @@ public interface ALogger {
      */
     void d(Throwable throwable, String message, Object... args);
 
+    /**
+     * Sends {@link ALogLevel#DEBUG} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#DEBUG} logging messages are not filtered out.
+     *
+     * @param supplier Logging message supplier.
+     */
+    void d(ALogMessageSupplier supplier);
+
+    /**
+     * Sends {@link ALogLevel#DEBUG} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#DEBUG} logging messages are not filtered out.
+     *
+     * @param throwable {@link Throwable} to log.
+     * @param supplier Logging message supplier.
+     */
+    void d(Throwable throwable, ALogMessageSupplier supplier);
+
     /**
      * Sends empty {@link ALogLevel#INFO} logging message.
      */
@@ -114,6 +362,108 @@ public interface ALogger {
      */
     void i(String message, Object... args);
 
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void i(String message, Object arg);
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void i(String message, boolean arg);
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void i(String message, char arg);
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void i(String message, byte arg);
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void i(String message, short arg);
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void i(String message, int arg);
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void i(String message, long arg);
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void i(String message, float arg);
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void i(String message, double arg);
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     */
+    void i(String message, Object arg1, Object arg2);
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     */
+    void i(String message, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     * @param arg4 Fourth argument for format string in message.
+     */
+    void i(String message, Object arg1, Object arg2, Object arg3, Object arg4);
+
     /**
      * Sends {@link ALogLevel#INFO} logging message.
      *
@@ -130,6 +480,23 @@ public interface ALogger {
      */
     void i(Throwable throwable, String message, Object... args);
 
+    /**
+     * Sends {@link ALogLevel#INFO} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#INFO} logging messages are not filtered out.
+     *
+     * @param supplier Logging message supplier.
+     */
+    void i(ALogMessageSupplier supplier);
+
+    /**
+     * Sends {@link ALogLevel#INFO} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#INFO} logging messages are not filtered out.
+     *
+     * @param throwable {@link Throwable} to log.
+     * @param supplier Logging message supplier.
+     */
+    void i(Throwable throwable, ALogMessageSupplier supplier);
+
     /**
      * Sends empty {@link ALogLevel#WARNING} logging message.
      */
@@ -150,6 +517,108 @@ public interface ALogger {
      */
     void w(String message, Object... args);
 
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void w(String message, Object arg);
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void w(String message, boolean arg);
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void w(String message, char arg);
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void w(String message, byte arg);
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void w(String message, short arg);
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void w(String message, int arg);
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void w(String message, long arg);
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void w(String message, float arg);
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void w(String message, double arg);
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     */
+    void w(String message, Object arg1, Object arg2);
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     */
+    void w(String message, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     * @param arg4 Fourth argument for format string in message.
+     */
+    void w(String message, Object arg1, Object arg2, Object arg3, Object arg4);
+
     /**
      * Sends {@link ALogLevel#WARNING} logging message.
      *
@@ -166,6 +635,23 @@ public interface ALogger {
      */
     void w(Throwable throwable, String message, Object... args);
 
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#WARNING} logging messages are not filtered out.
+     *
+     * @param supplier Logging message supplier.
+     */
+    void w(ALogMessageSupplier supplier);
+
+    /**
+     * Sends {@link ALogLevel#WARNING} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#WARNING} logging messages are not filtered out.
+     *
+     * @param throwable {@link Throwable} to log.
+     * @param supplier Logging message supplier.
+     */
+    void w(Throwable throwable, ALogMessageSupplier supplier);
+
     /**
      * Sends empty {@link ALogLevel#ERROR} logging message.
      */
@@ -186,6 +672,108 @@ public interface ALogger {
      */
     void e(String message, Object... args);
 
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void e(String message, Object arg);
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void e(String message, boolean arg);
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void e(String message, char arg);
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void e(String message, byte arg);
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void e(String message, short arg);
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void e(String message, int arg);
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void e(String message, long arg);
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void e(String message, float arg);
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void e(String message, double arg);
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     */
+    void e(String message, Object arg1, Object arg2);
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     */
+    void e(String message, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     * @param arg4 Fourth argument for format string in message.
+     */
+    void e(String message, Object arg1, Object arg2, Object arg3, Object arg4);
+
     /**
      * Sends {@link ALogLevel#ERROR} logging message.
      *
@@ -202,6 +790,23 @@ public interface ALogger {
      */
     void e(Throwable throwable, String message, Object... args);
 
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#ERROR} logging messages are not filtered out.
+     *
+     * @param supplier Logging message supplier.
+     */
+    void e(ALogMessageSupplier supplier);
+
+    /**
+     * Sends {@link ALogLevel#ERROR} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#ERROR} logging messages are not filtered out.
+     *
+     * @param throwable {@link Throwable} to log.
+     * @param supplier Logging message supplier.
+     */
+    void e(Throwable throwable, ALogMessageSupplier supplier);
+
     /**
      * Sends empty {@link ALogLevel#WTF} logging message.
      */
@@ -222,6 +827,108 @@ public interface ALogger {
      */
     void wtf(String message, Object... args);
 
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void wtf(String message, Object arg);
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void wtf(String message, boolean arg);
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void wtf(String message, char arg);
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void wtf(String message, byte arg);
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void wtf(String message, short arg);
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void wtf(String message, int arg);
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void wtf(String message, long arg);
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void wtf(String message, float arg);
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. Argument is passed without boxing.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg Argument for format string in message.
+     */
+    void wtf(String message, double arg);
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     */
+    void wtf(String message, Object arg1, Object arg2);
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     */
+    void wtf(String message, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message. No arguments array is allocated.
+     *
+     * @param message Message. Can be a <a href="../util/Formatter.html#syntax">format string</a>.
+     * @param arg1 First argument for format string in message.
+     * @param arg2 Second argument for format string in message.
+     * @param arg3 Third argument for format string in message.
+     * @param arg4 Fourth argument for format string in message.
+     */
+    void wtf(String message, Object arg1, Object arg2, Object arg3, Object arg4);
+
     /**
      * Sends {@link ALogLevel#WTF} logging message.
      *
@@ -238,6 +945,23 @@ public interface ALogger {
      */
     void wtf(Throwable throwable, String message, Object... args);
 
+    /**
+     * Sends {@link ALogLevel#WTF} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#WTF} logging messages are not filtered out.
+     *
+     * @param supplier Logging message supplier.
+     */
+    void wtf(ALogMessageSupplier supplier);
+
+    /**
+     * Sends {@link ALogLevel#WTF} logging message built by specified supplier. Supplier is
+     * called only if {@link ALogLevel#WTF} logging messages are not filtered out.
+     *
+     * @param throwable {@link Throwable} to log.
+     * @param supplier Logging message supplier.
+     */
+    void wtf(Throwable throwable, ALogMessageSupplier supplier);
+
     /**
      * Formats JSON string and sends logging message with it. Logging message level is set via
      * {@link ALogConfiguration}.
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+/**
+ * {@link ALogFormatter} which uses {@link ALogFormatterAppendingDelegate} for objects
+ * transformation to logging strings.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+final class AppendingDelegateALogFormatter<T> extends ALogFormatter<T> {
+    private final ALogFormatterAppendingDelegate<T> mAppendingDelegate;
+
+    /**
+     * Constructor.
+     *
+     * @param appendingDelegate {@link ALogFormatterAppendingDelegate} instance.
+     */
+    AppendingDelegateALogFormatter(ALogFormatterAppendingDelegate<T> appendingDelegate) {
+        mAppendingDelegate = appendingDelegate;
+    }
+
+    @Override
+    String toLoggingString(T object, ALogFormatterDelegate<Object> objectFormatterDelegate) {
+        ALogFormatterAppender objectFormatterAppender;
+        if (objectFormatterDelegate instanceof ALogFormatterAppender) {
+            objectFormatterAppender = (ALogFormatterAppender) objectFormatterDelegate;
+        } else {
+            objectFormatterAppender = (nestedBuilder, nestedObject) ->
+                    nestedBuilder.append(objectFormatterDelegate.toLoggingString(nestedObject));
+        }
+        StringBuilder builder = new StringBuilder();
+        mAppendingDelegate.appendLoggingString(builder, object, objectFormatterAppender);
+        return builder.toString();
+    }
+
+    @Override
+    void appendLoggingString(StringBuilder builder,
+                             T object,
+                             ObjectALogFormatterDelegate objectFormatterDelegate) {
+        mAppendingDelegate.appendLoggingString(builder, object, objectFormatterDelegate);
+    }
+}
@@ -16,6 +16,8 @@
 
 package ua.pp.ihorzak.alog;
 
+import java.lang.reflect.Array;
+
 /**
  * {@link ALogFormatter} to transform arrays into logging strings.
  *
@@ -34,154 +36,155 @@ final class ArrayALogFormatter extends ConfigurationALogFormatter<Object> {
     @Override
     public String toLoggingString(Object object, ALogFormatterDelegate<Object> objectFormatterDelegate) {
         StringBuilder builder = new StringBuilder();
+        appendLoggingString(builder, object, mConfiguration.mObjectFormatterDelegate);
+        return builder.toString();
+    }
+
+    @Override
+    void appendLoggingString(StringBuilder builder,
+                             Object object,
+                             ObjectALogFormatterDelegate objectFormatterDelegate) {
         Class<?> componentType = object.getClass().getComponentType();
         if (componentType != null) {
-            if (Object.class.isAssignableFrom(componentType)) {
-                logObjectArray((Object[]) object, builder);
-            } else if (byte.class.isAssignableFrom(componentType)) {
-                logByteArray((byte[]) object, builder);
-            } else if (short.class.isAssignableFrom(componentType)) {
-                logShortArray((short[]) object, builder);
-            } else if (int.class.isAssignableFrom(componentType)) {
-                logIntArray((int[]) object, builder);
-            } else if (long.class.isAssignableFrom(componentType)) {
-                logLongArray((long[]) object, builder);
-            } else if (float.class.isAssignableFrom(componentType)) {
-                logFloatArray((float[]) object, builder);
-            } else if (double.class.isAssignableFrom(componentType)) {
-                logDoubleArray((double[]) object, builder);
-            } else if (boolean.class.isAssignableFrom(componentType)) {
-                logBooleanArray((boolean[]) object, builder);
-            } else if (char.class.isAssignableFrom(componentType)) {
-                logCharArray((char[]) object, builder);
+            ALogFormatterGuard guard = ALogFormatterGuard.get();
+            if (guard.isCycle(object)) {
+                builder.append(ALogFormatterGuard.CYCLE_MARKER);
+                return;
+            }
+            int length = Array.getLength(object);
+            boolean isEntered = guard.enter(builder, object, mConfiguration);
+            builder.append("Array(size = ")
+                   .append(length)
+                   .append(") [");
+            if (isEntered) {
+                int count = 0;
+                try {
+                    if (Object.class.isAssignableFrom(componentType)) {
+                        count = logObjectArray((Object[]) object, builder, guard);
+                    } else if (byte.class.isAssignableFrom(componentType)) {
+                        count = logByteArray((byte[]) object, builder, guard);
+                    } else if (short.class.isAssignableFrom(componentType)) {
+                        count = logShortArray((short[]) object, builder, guard);
+                    } else if (int.class.isAssignableFrom(componentType)) {
+                        count = logIntArray((int[]) object, builder, guard);
+                    } else if (long.class.isAssignableFrom(componentType)) {
+                        count = logLongArray((long[]) object, builder, guard);
+                    } else if (float.class.isAssignableFrom(componentType)) {
+                        count = logFloatArray((float[]) object, builder, guard);
+                    } else if (double.class.isAssignableFrom(componentType)) {
+                        count = logDoubleArray((double[]) object, builder, guard);
+                    } else if (boolean.class.isAssignableFrom(componentType)) {
+                        count = logBooleanArray((boolean[]) object, builder, guard);
+                    } else if (char.class.isAssignableFrom(componentType)) {
+                        count = logCharArray((char[]) object, builder, guard);
+                    }
+                } finally {
+                    guard.exit();
+                }
+                ALogFormatterGuard.appendElision(builder, count, length - count);
+            } else if (length > 0) {
+                builder.append(ALogFormatterGuard.DEPTH_MARKER);
             }
+            builder.append(']');
         }
-        return builder.toString();
     }
 
-    private void logObjectArray(Object[] objects, StringBuilder builder) {
-        builder.append("Array(size = ")
-                .append(objects.length)
-                .append(") [");
-        for (int i = 0; i < objects.length - 1; ++i) {
-            builder.append(Utils.formatArgument(objects[i], mConfiguration))
-                    .append(", ");
-        }
-        if (objects.length > 0) {
-            builder.append(Utils.formatArgument(objects[objects.length - 1], mConfiguration));
+    private int logObjectArray(Object[] objects, StringBuilder builder, ALogFormatterGuard guard) {
+        int i = 0;
+        for (; i < objects.length && guard.canAppend(builder, i); ++i) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            Utils.appendArgument(builder, objects[i], mConfiguration);
         }
-        builder.append(']');
+        return i;
     }
 
-    private void logByteArray(byte[] bytes, StringBuilder builder) {
-        builder.append("Array(size = ")
-               .append(bytes.length)
-               .append(") [");
-        for (int i = 0; i < bytes.length - 1; ++i) {
-            builder.append(bytes[i])
-                   .append(", ");
-        }
-        if (bytes.length > 0) {
-            builder.append(bytes[bytes.length - 1]);
+    private int logByteArray(byte[] bytes, StringBuilder builder, ALogFormatterGuard guard) {
+        int i = 0;
+        for (; i < bytes.length && guard.canAppend(builder, i); ++i) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(bytes[i]);
         }
-        builder.append(']');
+        return i;
     }
 
-    private void logShortArray(short[] shorts, StringBuilder builder) {
-        builder.append("Array(size = ")
-               .append(shorts.length)
-               .append(") [");
-        for (int i = 0; i < shorts.length - 1; ++i) {
-            builder.append(shorts[i])
-                   .append(", ");
-        }
-        if (shorts.length > 0) {
-            builder.append(shorts[shorts.length - 1]);
+    private int logShortArray(short[] shorts, StringBuilder builder, ALogFormatterGuard guard) {
+        int i = 0;
+        for (; i < shorts.length && guard.canAppend(builder, i); ++i) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(shorts[i]);
         }
-        builder.append(']');
+        return i;
     }
 
-    private void logIntArray(int[] ints, StringBuilder builder) {
-        builder.append("Array(size = ")
-               .append(ints.length)
-               .append(") [");
-        for (int i = 0; i < ints.length - 1; ++i) {
-            builder.append(ints[i])
-                   .append(", ");
-        }
-        if (ints.length > 0) {
-            builder.append(ints[ints.length - 1]);
+    private int logIntArray(int[] ints, StringBuilder builder, ALogFormatterGuard guard) {
+        int i = 0;
+        for (; i < ints.length && guard.canAppend(builder, i); ++i) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(ints[i]);
         }
-        builder.append(']');
+        return i;
     }
 
-    private void logLongArray(long[] longs, StringBuilder builder) {
-        builder.append("Array(size = ")
-               .append(longs.length)
-               .append(") [");
-        for (int i = 0; i < longs.length - 1; ++i) {
-            builder.append(longs[i])
-                   .append(", ");
-        }
-        if (longs.length > 0) {
-            builder.append(longs[longs.length - 1]);
+    private int logLongArray(long[] longs, StringBuilder builder, ALogFormatterGuard guard) {
+        int i = 0;
+        for (; i < longs.length && guard.canAppend(builder, i); ++i) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(longs[i]);
         }
-        builder.append(']');
+        return i;
     }
 
-    private void logFloatArray(float[] floats, StringBuilder builder) {
-        builder.append("Array(size = ")
-               .append(floats.length)
-               .append(") [");
-        for (int i = 0; i < floats.length - 1; ++i) {
-            builder.append(floats[i])
-                   .append(", ");
-        }
-        if (floats.length > 0) {
-            builder.append(floats[floats.length - 1]);
+    private int logFloatArray(float[] floats, StringBuilder builder, ALogFormatterGuard guard) {
+        int i = 0;
+        for (; i < floats.length && guard.canAppend(builder, i); ++i) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(floats[i]);
         }
-        builder.append(']');
+        return i;
     }
 
-    private void logDoubleArray(double[] doubles, StringBuilder builder) {
-        builder.append("Array(size = ")
-               .append(doubles.length)
-               .append(") [");
-        for (int i = 0; i < doubles.length - 1; ++i) {
-            builder.append(doubles[i])
-                   .append(", ");
-        }
-        if (doubles.length > 0) {
-            builder.append(doubles[doubles.length - 1]);
+    private int logDoubleArray(double[] doubles, StringBuilder builder, ALogFormatterGuard guard) {
+        int i = 0;
+        for (; i < doubles.length && guard.canAppend(builder, i); ++i) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(doubles[i]);
         }
-        builder.append(']');
+        return i;
     }
 
-    private void logBooleanArray(boolean[] booleans, StringBuilder builder) {
-        builder.append("Array(size = ")
-               .append(booleans.length)
-               .append(") [");
-        for (int i = 0; i < booleans.length - 1; ++i) {
-            builder.append(booleans[i])
-                   .append(", ");
-        }
-        if (booleans.length > 0) {
-            builder.append(booleans[booleans.length - 1]);
+    private int logBooleanArray(boolean[] booleans, StringBuilder builder, ALogFormatterGuard guard) {
+        int i = 0;
+        for (; i < booleans.length && guard.canAppend(builder, i); ++i) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(booleans[i]);
         }
-        builder.append(']');
+        return i;
     }
 
-    private void logCharArray(char[] chars, StringBuilder builder) {
-        builder.append("Array(size = ")
-               .append(chars.length)
-               .append(") [");
-        for (int i = 0; i < chars.length - 1; ++i) {
-            builder.append(chars[i])
-                   .append(", ");
-        }
-        if (chars.length > 0) {
-            builder.append(chars[chars.length - 1]);
+    private int logCharArray(char[] chars, StringBuilder builder, ALogFormatterGuard guard) {
+        int i = 0;
+        for (; i < chars.length && guard.canAppend(builder, i); ++i) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(chars[i]);
         }
-        builder.append(']');
+        return i;
     }
 }
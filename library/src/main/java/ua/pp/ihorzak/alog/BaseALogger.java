@@ -23,125 +23,700 @@ package ua.pp.ihorzak.alog;
  */
 abstract class BaseALogger implements ALogger {
     private static final Object[] EMPTY_ARRAY = new Object[0];
-    private static final String SINGLE_ARGUMENT_FORMAT = "%s";
+
+    /**
+     * Sends logging message with arguments passed to fixed arity logging method. Implementation
+     * must call {@link ALogArguments#recycle()} once arguments are not needed anymore.
+     *
+     * @param level Logging level. See {@link ALogLevel}.
+     * @param message Logging message format.
+     * @param arguments Logging message arguments.
+     */
+    abstract void log(ALogLevel level, String message, ALogArguments arguments);
+
+    /**
+     * Sends logging message which consists of passed object only.
+     *
+     * @param level Logging level. See {@link ALogLevel}.
+     * @param object Object to log.
+     */
+    abstract void log(ALogLevel level, Object object);
+
+    /**
+     * Checks if logging messages with specified logging level may be sent. Unlike
+     * {@link #isEnabled(ALogLevel)} it may return true for messages which are filtered out later
+     * by {@link #log(ALogLevel, String, ALogArguments)} implementation, once their caller is known.
+     *
+     * @param level Logging level. See {@link ALogLevel}.
+     * @return true if logging messages with specified logging level may be sent, false otherwise.
+     */
+    boolean mayBeLoggable(ALogLevel level) {
+        return isEnabled(level);
+    }
 
     @Override
     public void v() {
-        v(null, null, EMPTY_ARRAY);
+        v((Throwable) null, null, EMPTY_ARRAY);
     }
 
     @Override
     public void v(Object object) {
-        v((Throwable) null, SINGLE_ARGUMENT_FORMAT, object);
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            log(ALogLevel.VERBOSE, object);
+        }
     }
 
     @Override
     public void v(String message, Object... args) {
-        v(null, message, args);
+        v((Throwable) null, message, args);
+    }
+
+    @Override
+    public void v(String message, Object arg) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            log(ALogLevel.VERBOSE, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void v(String message, boolean arg) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            log(ALogLevel.VERBOSE, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void v(String message, char arg) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            log(ALogLevel.VERBOSE, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void v(String message, byte arg) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            log(ALogLevel.VERBOSE, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void v(String message, short arg) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            log(ALogLevel.VERBOSE, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void v(String message, int arg) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            log(ALogLevel.VERBOSE, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void v(String message, long arg) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            log(ALogLevel.VERBOSE, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void v(String message, float arg) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            log(ALogLevel.VERBOSE, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void v(String message, double arg) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            log(ALogLevel.VERBOSE, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void v(String message, Object arg1, Object arg2) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            log(ALogLevel.VERBOSE, message, ALogArguments.obtain().add(arg1).add(arg2));
+        }
+    }
+
+    @Override
+    public void v(String message, Object arg1, Object arg2, Object arg3) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            log(ALogLevel.VERBOSE, message, ALogArguments.obtain().add(arg1).add(arg2).add(arg3));
+        }
+    }
+
+    @Override
+    public void v(String message, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            log(ALogLevel.VERBOSE, message, ALogArguments.obtain().add(arg1).add(arg2).add(arg3).add(arg4));
+        }
     }
 
     @Override
     public void v(Throwable throwable) {
-        v(throwable, null);
+        v(throwable, null, EMPTY_ARRAY);
+    }
+
+    @Override
+    public void v(ALogMessageSupplier supplier) {
+        v((Throwable) null, supplier);
     }
 
     @Override
     public void d() {
-        d(null, null, EMPTY_ARRAY);
+        d((Throwable) null, null, EMPTY_ARRAY);
     }
 
     @Override
     public void d(Object object) {
-        d((Throwable) null, SINGLE_ARGUMENT_FORMAT, object);
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            log(ALogLevel.DEBUG, object);
+        }
     }
 
     @Override
     public void d(String message, Object... args) {
-        d(null, message, args);
+        d((Throwable) null, message, args);
+    }
+
+    @Override
+    public void d(String message, Object arg) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            log(ALogLevel.DEBUG, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void d(String message, boolean arg) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            log(ALogLevel.DEBUG, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void d(String message, char arg) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            log(ALogLevel.DEBUG, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void d(String message, byte arg) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            log(ALogLevel.DEBUG, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void d(String message, short arg) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            log(ALogLevel.DEBUG, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void d(String message, int arg) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            log(ALogLevel.DEBUG, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void d(String message, long arg) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            log(ALogLevel.DEBUG, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void d(String message, float arg) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            log(ALogLevel.DEBUG, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void d(String message, double arg) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            log(ALogLevel.DEBUG, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void d(String message, Object arg1, Object arg2) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            log(ALogLevel.DEBUG, message, ALogArguments.obtain().add(arg1).add(arg2));
+        }
+    }
+
+    @Override
+    public void d(String message, Object arg1, Object arg2, Object arg3) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            log(ALogLevel.DEBUG, message, ALogArguments.obtain().add(arg1).add(arg2).add(arg3));
+        }
+    }
+
+    @Override
+    public void d(String message, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            log(ALogLevel.DEBUG, message, ALogArguments.obtain().add(arg1).add(arg2).add(arg3).add(arg4));
+        }
     }
 
     @Override
     public void d(Throwable throwable) {
-        d(throwable, null);
+        d(throwable, null, EMPTY_ARRAY);
+    }
+
+    @Override
+    public void d(ALogMessageSupplier supplier) {
+        d((Throwable) null, supplier);
     }
 
     @Override
     public void i() {
-        i(null, null, EMPTY_ARRAY);
+        i((Throwable) null, null, EMPTY_ARRAY);
     }
 
     @Override
     public void i(Object object) {
-        i((Throwable) null, SINGLE_ARGUMENT_FORMAT, object);
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            log(ALogLevel.INFO, object);
+        }
     }
 
     @Override
     public void i(String message, Object... args) {
-        i(null, message, args);
+        i((Throwable) null, message, args);
+    }
+
+    @Override
+    public void i(String message, Object arg) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            log(ALogLevel.INFO, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void i(String message, boolean arg) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            log(ALogLevel.INFO, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void i(String message, char arg) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            log(ALogLevel.INFO, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void i(String message, byte arg) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            log(ALogLevel.INFO, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void i(String message, short arg) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            log(ALogLevel.INFO, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void i(String message, int arg) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            log(ALogLevel.INFO, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void i(String message, long arg) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            log(ALogLevel.INFO, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void i(String message, float arg) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            log(ALogLevel.INFO, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void i(String message, double arg) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            log(ALogLevel.INFO, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void i(String message, Object arg1, Object arg2) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            log(ALogLevel.INFO, message, ALogArguments.obtain().add(arg1).add(arg2));
+        }
+    }
+
+    @Override
+    public void i(String message, Object arg1, Object arg2, Object arg3) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            log(ALogLevel.INFO, message, ALogArguments.obtain().add(arg1).add(arg2).add(arg3));
+        }
+    }
+
+    @Override
+    public void i(String message, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            log(ALogLevel.INFO, message, ALogArguments.obtain().add(arg1).add(arg2).add(arg3).add(arg4));
+        }
     }
 
     @Override
     public void i(Throwable throwable) {
-        i(throwable, null);
+        i(throwable, null, EMPTY_ARRAY);
+    }
+
+    @Override
+    public void i(ALogMessageSupplier supplier) {
+        i((Throwable) null, supplier);
     }
 
     @Override
     public void w() {
-        w(null, null, EMPTY_ARRAY);
+        w((Throwable) null, null, EMPTY_ARRAY);
     }
 
     @Override
     public void w(Object object) {
-        w((Throwable) null, SINGLE_ARGUMENT_FORMAT, object);
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            log(ALogLevel.WARNING, object);
+        }
     }
 
     @Override
     public void w(String message, Object... args) {
-        w(null, message, args);
+        w((Throwable) null, message, args);
+    }
+
+    @Override
+    public void w(String message, Object arg) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            log(ALogLevel.WARNING, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void w(String message, boolean arg) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            log(ALogLevel.WARNING, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void w(String message, char arg) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            log(ALogLevel.WARNING, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void w(String message, byte arg) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            log(ALogLevel.WARNING, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void w(String message, short arg) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            log(ALogLevel.WARNING, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void w(String message, int arg) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            log(ALogLevel.WARNING, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void w(String message, long arg) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            log(ALogLevel.WARNING, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void w(String message, float arg) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            log(ALogLevel.WARNING, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void w(String message, double arg) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            log(ALogLevel.WARNING, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void w(String message, Object arg1, Object arg2) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            log(ALogLevel.WARNING, message, ALogArguments.obtain().add(arg1).add(arg2));
+        }
+    }
+
+    @Override
+    public void w(String message, Object arg1, Object arg2, Object arg3) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            log(ALogLevel.WARNING, message, ALogArguments.obtain().add(arg1).add(arg2).add(arg3));
+        }
+    }
+
+    @Override
+    public void w(String message, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            log(ALogLevel.WARNING, message, ALogArguments.obtain().add(arg1).add(arg2).add(arg3).add(arg4));
+        }
     }
 
     @Override
     public void w(Throwable throwable) {
-        w(throwable, null);
+        w(throwable, null, EMPTY_ARRAY);
+    }
+
+    @Override
+    public void w(ALogMessageSupplier supplier) {
+        w((Throwable) null, supplier);
     }
 
     @Override
     public void e() {
-        e(null, null, EMPTY_ARRAY);
+        e((Throwable) null, null, EMPTY_ARRAY);
     }
 
     @Override
     public void e(Object object) {
-        e((Throwable) null, SINGLE_ARGUMENT_FORMAT, object);
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            log(ALogLevel.ERROR, object);
+        }
     }
 
     @Override
     public void e(String message, Object... args) {
-        e(null, message, args);
+        e((Throwable) null, message, args);
+    }
+
+    @Override
+    public void e(String message, Object arg) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            log(ALogLevel.ERROR, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void e(String message, boolean arg) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            log(ALogLevel.ERROR, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void e(String message, char arg) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            log(ALogLevel.ERROR, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void e(String message, byte arg) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            log(ALogLevel.ERROR, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void e(String message, short arg) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            log(ALogLevel.ERROR, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void e(String message, int arg) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            log(ALogLevel.ERROR, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void e(String message, long arg) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            log(ALogLevel.ERROR, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void e(String message, float arg) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            log(ALogLevel.ERROR, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void e(String message, double arg) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            log(ALogLevel.ERROR, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void e(String message, Object arg1, Object arg2) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            log(ALogLevel.ERROR, message, ALogArguments.obtain().add(arg1).add(arg2));
+        }
+    }
+
+    @Override
+    public void e(String message, Object arg1, Object arg2, Object arg3) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            log(ALogLevel.ERROR, message, ALogArguments.obtain().add(arg1).add(arg2).add(arg3));
+        }
+    }
+
+    @Override
+    public void e(String message, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            log(ALogLevel.ERROR, message, ALogArguments.obtain().add(arg1).add(arg2).add(arg3).add(arg4));
+        }
     }
 
     @Override
     public void e(Throwable throwable) {
-        e(throwable, null);
+        e(throwable, null, EMPTY_ARRAY);
+    }
+
+    @Override
+    public void e(ALogMessageSupplier supplier) {
+        e((Throwable) null, supplier);
     }
 
     @Override
     public void wtf() {
-        wtf(null, null, EMPTY_ARRAY);
+        wtf((Throwable) null, null, EMPTY_ARRAY);
     }
 
     @Override
     public void wtf(Object object) {
-        wtf((Throwable) null, SINGLE_ARGUMENT_FORMAT, object);
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            log(ALogLevel.WTF, object);
+        }
     }
 
     @Override
     public void wtf(String message, Object... args) {
-        wtf(null, message, args);
+        wtf((Throwable) null, message, args);
+    }
+
+    @Override
+    public void wtf(String message, Object arg) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            log(ALogLevel.WTF, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void wtf(String message, boolean arg) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            log(ALogLevel.WTF, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void wtf(String message, char arg) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            log(ALogLevel.WTF, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void wtf(String message, byte arg) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            log(ALogLevel.WTF, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void wtf(String message, short arg) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            log(ALogLevel.WTF, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void wtf(String message, int arg) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            log(ALogLevel.WTF, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void wtf(String message, long arg) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            log(ALogLevel.WTF, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void wtf(String message, float arg) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            log(ALogLevel.WTF, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void wtf(String message, double arg) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            log(ALogLevel.WTF, message, ALogArguments.obtain().add(arg));
+        }
+    }
+
+    @Override
+    public void wtf(String message, Object arg1, Object arg2) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            log(ALogLevel.WTF, message, ALogArguments.obtain().add(arg1).add(arg2));
+        }
+    }
+
+    @Override
+    public void wtf(String message, Object arg1, Object arg2, Object arg3) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            log(ALogLevel.WTF, message, ALogArguments.obtain().add(arg1).add(arg2).add(arg3));
+        }
+    }
+
+    @Override
+    public void wtf(String message, Object arg1, Object arg2, Object arg3, Object arg4) {
+        if (mayBeLoggable(ALogLevel.WTF)) {
+            log(ALogLevel.WTF, message, ALogArguments.obtain().add(arg1).add(arg2).add(arg3).add(arg4));
+        }
     }
 
     @Override
     public void wtf(Throwable throwable) {
-        wtf(throwable, null);
+        wtf(throwable, null, EMPTY_ARRAY);
+    }
+
+    @Override
+    public void wtf(ALogMessageSupplier supplier) {
+        wtf((Throwable) null, supplier);
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * {@link ALogFileOutput} implementation, which encodes messages to UTF-8 directly into reusable
+ * direct {@link ByteBuffer} and writes it to file via {@link FileChannel}. The buffer is
+ * allocated once and reused for all opened files.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+final class ChannelALogFileOutput implements ALogFileOutput {
+    private static final int BUFFER_SIZE = 32 * 1024;
+
+    private final ByteBuffer mBuffer;
+
+    private FileOutputStream mOutputStream;
+    private FileChannel mChannel;
+
+    /**
+     * Constructor.
+     */
+    ChannelALogFileOutput() {
+        mBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    @Override
+    public long open(File file, boolean append) throws IOException {
+        mOutputStream = new FileOutputStream(file, append);
+        mChannel = mOutputStream.getChannel();
+        mBuffer.clear();
+        return mChannel.size();
+    }
+
+    @Override
+    public void write(CharSequence message) throws IOException {
+        int length = message.length();
+        int index = ALogUtf8Encoder.encode(message, 0, length, mBuffer);
+        while (index < length) {
+            drain();
+            index = ALogUtf8Encoder.encode(message, index, length, mBuffer);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drain();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (mOutputStream != null) {
+            try {
+                drain();
+            } finally {
+                mOutputStream.close();
+                mOutputStream = null;
+                mChannel = null;
+            }
+        }
+    }
+
+    private void drain() throws IOException {
+        mBuffer.flip();
+        while (mBuffer.hasRemaining()) {
+            mChannel.write(mBuffer);
+        }
+        mBuffer.clear();
+    }
+}
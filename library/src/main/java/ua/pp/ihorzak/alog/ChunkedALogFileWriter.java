@@ -17,26 +17,30 @@
 package ua.pp.ihorzak.alog;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
-import java.io.PrintWriter;
+import java.io.IOException;
 
 /**
  * Logging file writer which performs logging to to the multiple (chunk)
  * files with file count and file size limits. In case file size limit exceeds new file (chunk)
  * is created. In case file size limit exceeds the most old file is deleted.
- * In case specified chunk files directory contains files they will be deleted.
- * If logging message exceeds chunk size limit it will be ignored.
+ * In case specified chunk files directory contains files they will be deleted unless resume is
+ * enabled: in this case writing is continued to the newest existing chunk file.
+ * If logging message exceeds chunk size limit it will be ignored. Chunk files are written to ring
+ * of chunk slots, so rotation requires single file deletion and creation. See
+ * {@link ALogChunkFiles}.
  *
  * @author Ihor Zakhozhyi <ihorzak@gmail.com>
  */
 final class ChunkedALogFileWriter implements ALogFileWriter {
     private final long mChunkSizeLimit;
+    private final boolean mIsChunkSizeInBytes;
+    private final boolean mIsResumeEnabled;
 
     private final File mDirectoryFile;
     private final File[] mChunkFiles;
+    private final ALogFileOutput mOutput;
 
-    private PrintWriter mPrintWriter;
+    private boolean mIsOpened;
     private int mCurrentChunk;
     private long mWritten;
 
@@ -44,14 +48,21 @@ final class ChunkedALogFileWriter implements ALogFileWriter {
      * Constructor.
      *
      * @param filesDirectoryPath Logging output files directory.
-     * @param chunkSizeLimit Chunk file size limit (in chars). Must be positive number.
+     * @param chunkSizeLimit Chunk file size limit (in chunk size units). Must be positive number.
+     * @param chunkSizeUnit Chunk file size limit unit. See {@link ALogChunkSizeUnit}.
      * @param chunkCount Chunk file count limit. Must be positive number.
      * @param nameProvider Chunk file name provider.
+     * @param outputMode Logging output file mode. See {@link ALogFileOutputMode}.
+     * @param isResumeEnabled true if writing should be continued to the newest existing chunk
+     *                        file, false if existing chunk files should be deleted.
      */
     ChunkedALogFileWriter(String filesDirectoryPath,
                           long chunkSizeLimit,
+                          ALogChunkSizeUnit chunkSizeUnit,
                           int chunkCount,
-                          ALogChunkFileNameProvider nameProvider) {
+                          ALogChunkFileNameProvider nameProvider,
+                          ALogFileOutputMode outputMode,
+                          boolean isResumeEnabled) {
         if (chunkSizeLimit <= 0) {
             throw new IllegalArgumentException("Chunk size limit must be positive number");
         }
@@ -59,34 +70,61 @@ final class ChunkedALogFileWriter implements ALogFileWriter {
             throw new IllegalArgumentException("Chunk count must be positive number");
         }
         mChunkSizeLimit = chunkSizeLimit;
+        mIsChunkSizeInBytes = chunkSizeUnit == ALogChunkSizeUnit.BYTES;
+        mIsResumeEnabled = isResumeEnabled;
         mDirectoryFile = new File(filesDirectoryPath);
         mChunkFiles = new File[chunkCount];
         for (int i = 0; i < chunkCount; ++i) {
             mChunkFiles[i] = new File(mDirectoryFile, nameProvider.getName(i));
         }
+        long maxFileSize;
+        if (mIsChunkSizeInBytes) {
+            maxFileSize = chunkSizeLimit;
+        } else if (chunkSizeLimit <= Long.MAX_VALUE / ALogUtf8Encoder.MAX_BYTES_PER_CHAR) {
+            maxFileSize = chunkSizeLimit * ALogUtf8Encoder.MAX_BYTES_PER_CHAR;
+        } else {
+            maxFileSize = Long.MAX_VALUE;
+        }
+        mOutput = outputMode.createOutput(maxFileSize);
     }
 
     @Override
-    public void write(CharSequence message) throws FileNotFoundException {
-        int messageLength = message.length();
+    public void write(CharSequence message) throws IOException {
+        long messageLength = mIsChunkSizeInBytes ? ALogUtf8Encoder.getEncodedLength(message) : message.length();
         if (messageLength > mChunkSizeLimit) {
             return;
         }
-        if (mPrintWriter == null) {
+        if (!mIsOpened) {
             initialize();
         } else {
             if ((mWritten + messageLength) > mChunkSizeLimit) {
                 openNextChunk();
             }
         }
-        mPrintWriter.append(message)
-                    .flush();
-        mWritten += message.length();
+        mOutput.write(message);
+        mWritten += messageLength;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (mIsOpened) {
+            mOutput.flush();
+        }
     }
 
     @SuppressWarnings("ResultOfMethodCallIgnored")
-    private void initialize() throws FileNotFoundException {
-        if (!mDirectoryFile.mkdirs()) {
+    private void initialize() throws IOException {
+        if (mIsResumeEnabled) {
+            mDirectoryFile.mkdirs();
+            int newestChunk = findNewestChunk();
+            if (newestChunk >= 0) {
+                mCurrentChunk = newestChunk;
+                mWritten = mOutput.open(mChunkFiles[mCurrentChunk], true);
+                mIsOpened = true;
+                ALogChunkFiles.writeCurrentChunk(mDirectoryFile, mCurrentChunk);
+                return;
+            }
+        } else if (!mDirectoryFile.mkdirs()) {
             File[] files = mDirectoryFile.listFiles();
             if (files != null) {
                 for (File file : files) {
@@ -98,22 +136,37 @@ final class ChunkedALogFileWriter implements ALogFileWriter {
         openCurrentChunk();
     }
 
-    @SuppressWarnings("ResultOfMethodCallIgnored")
-    private void openNextChunk() throws FileNotFoundException {
-        mPrintWriter.close();
-        if (mCurrentChunk < mChunkFiles.length - 1) {
-            ++mCurrentChunk;
-        } else {
-            mChunkFiles[0].delete();
-            for (int i = 1; i < mChunkFiles.length; ++i) {
-                mChunkFiles[i].renameTo(mChunkFiles[i - 1]);
+    private int findNewestChunk() {
+        int currentChunk = ALogChunkFiles.readCurrentChunk(mDirectoryFile);
+        if (currentChunk >= 0 && currentChunk < mChunkFiles.length && mChunkFiles[currentChunk].isFile()) {
+            return currentChunk;
+        }
+        int newestChunk = -1;
+        long newestLastModified = Long.MIN_VALUE;
+        for (int i = 0; i < mChunkFiles.length; ++i) {
+            long lastModified = mChunkFiles[i].lastModified();
+            if (lastModified > newestLastModified && mChunkFiles[i].isFile()) {
+                newestChunk = i;
+                newestLastModified = lastModified;
             }
         }
+        return newestChunk;
+    }
+
+    private void openNextChunk() throws IOException {
+        mOutput.close();
+        mIsOpened = false;
+        mCurrentChunk = (mCurrentChunk + 1) % mChunkFiles.length;
         openCurrentChunk();
     }
 
-    private void openCurrentChunk() throws FileNotFoundException {
-        mPrintWriter = new PrintWriter(new FileOutputStream(mChunkFiles[mCurrentChunk], false));
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    private void openCurrentChunk() throws IOException {
+        File chunkFile = mChunkFiles[mCurrentChunk];
+        chunkFile.delete();
+        mOutput.open(chunkFile, false);
+        mIsOpened = true;
         mWritten = 0L;
+        ALogChunkFiles.writeCurrentChunk(mDirectoryFile, mCurrentChunk);
     }
 }
@@ -37,18 +37,43 @@ final class CollectionALogFormatter extends ConfigurationALogFormatter<Collectio
     @Override
     public String toLoggingString(Collection<?> object, ALogFormatterDelegate<Object> objectFormatterDelegate) {
         StringBuilder builder = new StringBuilder();
+        appendLoggingString(builder, object, mConfiguration.mObjectFormatterDelegate);
+        return builder.toString();
+    }
+
+    @Override
+    void appendLoggingString(StringBuilder builder,
+                             Collection<?> object,
+                             ObjectALogFormatterDelegate objectFormatterDelegate) {
+        ALogFormatterGuard guard = ALogFormatterGuard.get();
+        if (guard.isCycle(object)) {
+            builder.append(ALogFormatterGuard.CYCLE_MARKER);
+            return;
+        }
+        int size = object.size();
+        boolean isEntered = guard.enter(builder, object, mConfiguration);
         builder.append(object.getClass().getName())
                .append("(size = ")
-               .append(object.size())
+               .append(size)
                .append(") [");
-        Iterator<?> iterator = object.iterator();
-        while (iterator.hasNext()) {
-            builder.append(Utils.formatArgument(iterator.next(), mConfiguration));
-            if (iterator.hasNext()) {
-                builder.append(", ");
+        if (isEntered) {
+            int count = 0;
+            try {
+                Iterator<?> iterator = object.iterator();
+                while (iterator.hasNext() && guard.canAppend(builder, count)) {
+                    if (count > 0) {
+                        builder.append(", ");
+                    }
+                    Utils.appendArgument(builder, iterator.next(), mConfiguration);
+                    ++count;
+                }
+            } finally {
+                guard.exit();
             }
+            ALogFormatterGuard.appendElision(builder, count, Math.max(size - count, 0));
+        } else if (size > 0) {
+            builder.append(ALogFormatterGuard.DEPTH_MARKER);
         }
         builder.append(']');
-        return builder.toString();
     }
 }
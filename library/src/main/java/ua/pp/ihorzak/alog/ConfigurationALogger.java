@@ -18,9 +18,7 @@ package ua.pp.ihorzak.alog;
 
 import android.util.Log;
 
-import org.json.JSONArray;
 import org.json.JSONException;
-import org.json.JSONObject;
 import org.xmlpull.v1.XmlPullParserException;
 
 import java.io.IOException;
@@ -31,76 +29,149 @@ import java.io.IOException;
  * @author Ihor Zakhozhyi <ihorzak@gmail.com>
  */
 final class ConfigurationALogger extends BaseALogger {
-    private static final String ALOG_PACKAGE_NAME = "ua.pp.ihorzak.alog";
+    /**
+     * Writes logging message content directly to logging message buffer. Content can be split to
+     * several logging messages, each of them is printed with the same prefix.
+     */
+    private interface MessageAppender {
+        /**
+         * Appends the next part of logging message content.
+         *
+         * @param builder Logging message builder.
+         * @return true if there is more content, which should be printed as the next logging
+         *         message, false otherwise.
+         */
+        boolean appendMessage(StringBuilder builder);
+    }
 
     private final ALogConfiguration mConfiguration;
+    private final ALogLevel mTagLevel;
+    private final boolean mIsCallerLevelOverridden;
 
-    private static int findStartStackTraceIndex(StackTraceElement[] elements) {
-        int startStackTraceIndex = -1;
-        boolean isALogStackTracePassed = false;
-        for (int i = 0; i < elements.length; ++i) {
-            String className = elements[i].getClassName();
-            int packageNameEnd = className.lastIndexOf('.');
-            boolean isALogElement = false;
-            if (packageNameEnd != -1) {
-                String packageName = className.substring(0, packageNameEnd);
-                if (ALOG_PACKAGE_NAME.equals(packageName)) {
-                    isALogElement = true;
-                    isALogStackTracePassed = true;
-                }
-            }
-            if (!isALogElement && isALogStackTracePassed) {
-                startStackTraceIndex = i;
-                break;
-            }
+    ConfigurationALogger(ALogConfiguration configuration) {
+        mConfiguration = configuration;
+        ALogLevelOverrides levelOverrides = configuration.mLevelOverrides;
+        mTagLevel = levelOverrides != null ? levelOverrides.getTagLevel(configuration.mTag) : null;
+        mIsCallerLevelOverridden = mTagLevel == null &&
+                levelOverrides != null &&
+                levelOverrides.needsCaller(configuration.mTag);
+    }
+
+    @Override
+    public boolean isEnabled(ALogLevel level) {
+        ALogState state = ALogState.get();
+        if (mTagLevel != null && state.isCallerLevelApplied(mConfiguration)) {
+            return mTagLevel.compareTo(level) >= 0;
         }
-        return startStackTraceIndex;
+        return state.isLoggable(mConfiguration, level);
     }
 
-    ConfigurationALogger(ALogConfiguration configuration) {
-        mConfiguration = configuration;
+    @Override
+    boolean mayBeLoggable(ALogLevel level) {
+        if (isEnabled(level)) {
+            return true;
+        }
+        // Exact level of caller is known only after stack trace is captured, so here it is only
+        // checked that some override may enable this level
+        return mIsCallerLevelOverridden &&
+                ALogState.get().isCallerLevelApplied(mConfiguration) &&
+                (mConfiguration.mLevelOverrides.mLevelMask & level.mMask) != 0;
+    }
+
+    @Override
+    void log(ALogLevel level, String message, ALogArguments arguments) {
+        try {
+            log(level, null, message, null, arguments);
+        } finally {
+            arguments.recycle();
+        }
+    }
+
+    @Override
+    void log(ALogLevel level, Object object) {
+        log(level, mConfiguration.mMessageFormat.mSingleArgumentMessage, ALogArguments.obtain().add(object));
     }
 
     @Override
     public void v(Throwable throwable, String message, Object... args) {
-        if (mConfiguration.mMinimalLevel.compareTo(ALogLevel.VERBOSE) >= 0) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
             log(ALogLevel.VERBOSE, throwable, message, args);
         }
     }
 
+    @Override
+    public void v(Throwable throwable, ALogMessageSupplier supplier) {
+        if (mayBeLoggable(ALogLevel.VERBOSE)) {
+            log(ALogLevel.VERBOSE, throwable, supplier);
+        }
+    }
+
     @Override
     public void d(Throwable throwable, String message, Object... args) {
-        if (mConfiguration.mMinimalLevel.compareTo(ALogLevel.DEBUG) >= 0) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
             log(ALogLevel.DEBUG, throwable, message, args);
         }
     }
 
+    @Override
+    public void d(Throwable throwable, ALogMessageSupplier supplier) {
+        if (mayBeLoggable(ALogLevel.DEBUG)) {
+            log(ALogLevel.DEBUG, throwable, supplier);
+        }
+    }
+
     @Override
     public void i(Throwable throwable, String message, Object... args) {
-        if (mConfiguration.mMinimalLevel.compareTo(ALogLevel.INFO) >= 0) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
             log(ALogLevel.INFO, throwable, message, args);
         }
     }
 
+    @Override
+    public void i(Throwable throwable, ALogMessageSupplier supplier) {
+        if (mayBeLoggable(ALogLevel.INFO)) {
+            log(ALogLevel.INFO, throwable, supplier);
+        }
+    }
+
     @Override
     public void w(Throwable throwable, String message, Object... args) {
-        if (mConfiguration.mMinimalLevel.compareTo(ALogLevel.WARNING) >= 0) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
             log(ALogLevel.WARNING, throwable, message, args);
         }
     }
 
+    @Override
+    public void w(Throwable throwable, ALogMessageSupplier supplier) {
+        if (mayBeLoggable(ALogLevel.WARNING)) {
+            log(ALogLevel.WARNING, throwable, supplier);
+        }
+    }
+
     @Override
     public void e(Throwable throwable, String message, Object... args) {
-        if (mConfiguration.mMinimalLevel.compareTo(ALogLevel.ERROR) >= 0) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
             log(ALogLevel.ERROR, throwable, message, args);
         }
     }
 
+    @Override
+    public void e(Throwable throwable, ALogMessageSupplier supplier) {
+        if (mayBeLoggable(ALogLevel.ERROR)) {
+            log(ALogLevel.ERROR, throwable, supplier);
+        }
+    }
+
     @Override
     public void wtf(Throwable throwable, String message, Object... args) {
         log(ALogLevel.WTF, throwable, message, args);
     }
 
+    @Override
+    public void wtf(Throwable throwable, ALogMessageSupplier supplier) {
+        log(ALogLevel.WTF, throwable, supplier);
+    }
+
     @Override
     public void json(String json) {
         json(mConfiguration.mJsonLevel, json);
@@ -108,28 +179,34 @@ final class ConfigurationALogger extends BaseALogger {
 
     @Override
     public void json(ALogLevel level, String json) {
-        if (mConfiguration.mMinimalLevel.compareTo(level) < 0) {
+        if (!mayBeLoggable(level)) {
             return;
         }
         String message;
         if (json == null) {
             message = "Passed JSON string is null";
         } else {
-            json = json.trim();
-            if (json.length() == 0) {
+            // JSON is trimmed by indexes, so huge JSON string is not copied
+            int start = 0;
+            int end = json.length();
+            while (start < end && json.charAt(start) <= ' ') {
+                ++start;
+            }
+            while (end > start && json.charAt(end - 1) <= ' ') {
+                --end;
+            }
+            if (start == end) {
                 message = "Passed JSON string is empty";
+            } else if (json.charAt(start) == '{' || json.charAt(start) == '[') {
+                int jsonStart = start;
+                int jsonEnd = end;
+                log(level, builder -> {
+                    appendJson(builder, json, jsonStart, jsonEnd);
+                    return false;
+                });
+                return;
             } else {
-                try {
-                    if (json.startsWith("{")) {
-                        message = "JSON:\n" + new JSONObject(json).toString(mConfiguration.mJsonIndentSpaceCount);
-                    } else if (json.startsWith("[")) {
-                        message = "JSON:\n" + new JSONArray(json).toString(mConfiguration.mJsonIndentSpaceCount);
-                    } else {
-                        message = "Invalid JSON string: " + json;
-                    }
-                } catch (JSONException e) {
-                    message = "Invalid JSON string: " + e.getMessage();
-                }
+                message = "Invalid JSON string: " + json.substring(start, end);
             }
         }
         log(level, null, message);
@@ -142,22 +219,22 @@ final class ConfigurationALogger extends BaseALogger {
 
     @Override
     public void xml(ALogLevel level, String xml) {
-        if (mConfiguration.mMinimalLevel.compareTo(level) < 0) {
+        if (!mayBeLoggable(level)) {
             return;
         }
         String message;
         if (xml == null) {
             message = "Passed XML string is null";
         } else {
-            xml = xml.trim();
-            if (xml.length() == 0) {
+            String trimmedXml = xml.trim();
+            if (trimmedXml.length() == 0) {
                 message = "Passed XML string is empty";
             } else {
-                try {
-                    message = "XML:\n" + Utils.formatXml(xml, mConfiguration.mXmlIndentSpaceCount);
-                } catch (XmlPullParserException | IOException e) {
-                    message = "Invalid XML string: " + e.getMessage();
-                }
+                log(level, builder -> {
+                    appendXml(builder, trimmedXml);
+                    return false;
+                });
+                return;
             }
         }
         log(level, null, message);
@@ -170,7 +247,7 @@ final class ConfigurationALogger extends BaseALogger {
 
     @Override
     public void hex(ALogLevel level, byte[] bytes) {
-        if (mConfiguration.mMinimalLevel.compareTo(level) < 0) {
+        if (!mayBeLoggable(level)) {
             return;
         }
         String message;
@@ -179,70 +256,150 @@ final class ConfigurationALogger extends BaseALogger {
         } else if (bytes.length == 0) {
             message = "Passed byte array is empty";
         } else {
-            message = "Hex:\n" + Utils.formatBytesAsHexString(bytes);
+            ALogHexDump hexDump = new ALogHexDump(bytes, mConfiguration.mHexMaxByteCount);
+            log(level, builder -> {
+                if (hexDump.isAtStart()) {
+                    builder.append("Hex:\n");
+                }
+                return hexDump.appendChunk(builder);
+            });
+            return;
         }
         log(level, null, message);
     }
 
-    @SuppressWarnings("WrongConstant")
+    private void log(ALogLevel level, Throwable throwable, ALogMessageSupplier supplier) {
+        String message;
+        if (supplier == null) {
+            message = null;
+        } else {
+            try {
+                message = supplier.get();
+            } catch (Throwable t) {
+                message = "Cannot get message from supplier (" + t.getClass().getName() + ": " + t.getMessage() + ")";
+            }
+        }
+        log(level, throwable, message);
+    }
+
     private void log(ALogLevel level, Throwable throwable, String message, Object... args) {
+        log(level, throwable, message, args, null);
+    }
+
+    private void log(ALogLevel level, MessageAppender appender) {
+        ALogMessageBuffer buffer = ALogMessageBuffer.obtain();
+        try {
+            log(level, null, null, null, null, appender, buffer);
+        } finally {
+            buffer.recycle();
+        }
+    }
+
+    private void appendXml(StringBuilder builder, String xml) {
+        int xmlStart = builder.length();
+        builder.append("XML:\n");
+        try {
+            ALogXmlFormatter.append(builder, xml, mConfiguration.mXmlIndentSpaceCount);
+        } catch (XmlPullParserException | IOException e) {
+            builder.setLength(xmlStart);
+            builder.append("Invalid XML string: ").append(e.getMessage());
+        }
+    }
+
+    private void appendJson(StringBuilder builder, String json, int start, int end) {
+        int jsonStart = builder.length();
+        builder.append("JSON:\n");
+        try {
+            ALogJsonReindenter.append(builder, json, start, end, mConfiguration.mJsonIndentSpaceCount, mConfiguration.mJsonMaxLength);
+        } catch (JSONException e) {
+            builder.setLength(jsonStart);
+            builder.append("Invalid JSON string: ").append(e.getMessage());
+        }
+    }
+
+    private void log(ALogLevel level,
+                     Throwable throwable,
+                     String message,
+                     Object[] args,
+                     ALogArguments arguments) {
+        ALogMessageBuffer buffer = ALogMessageBuffer.obtain();
+        try {
+            log(level, throwable, message, args, arguments, null, buffer);
+        } finally {
+            buffer.recycle();
+        }
+    }
+
+    @SuppressWarnings("WrongConstant")
+    private void log(ALogLevel level,
+                     Throwable throwable,
+                     String message,
+                     Object[] args,
+                     ALogArguments arguments,
+                     MessageAppender appender,
+                     ALogMessageBuffer buffer) {
+        ALogState state = ALogState.get();
+        boolean isThreadPrefixEnabled = state.isPrefixEnabled(ALogState.PREFIX_THREAD, mConfiguration.mIsThreadPrefixEnabled);
+        boolean isClassPrefixEnabled = state.isPrefixEnabled(ALogState.PREFIX_CLASS, mConfiguration.mIsClassPrefixEnabled);
+        boolean isMethodPrefixEnabled = state.isPrefixEnabled(ALogState.PREFIX_METHOD, mConfiguration.mIsMethodPrefixEnabled);
+        boolean isLineLocationPrefixEnabled = state.isPrefixEnabled(ALogState.PREFIX_LINE_LOCATION, mConfiguration.mIsLineLocationPrefixEnabled);
         String tag = mConfiguration.mTag;
-        StringBuilder messageBuilder = new StringBuilder();
+        StringBuilder messageBuilder = buffer.mMessage;
         StringBuilder stackTraceSuffixBuilder = null;
         boolean isAutoTag = tag == null;
+        boolean isCallerLevelOverridden = mIsCallerLevelOverridden && state.isCallerLevelApplied(mConfiguration);
         boolean needStackTrace = isAutoTag ||
-                mConfiguration.mIsClassPrefixEnabled ||
-                mConfiguration.mIsMethodPrefixEnabled ||
-                mConfiguration.mIsLineLocationPrefixEnabled ||
-                mConfiguration.mStackTraceLineCount > 0;
-        if (mConfiguration.mIsThreadPrefixEnabled || needStackTrace) {
+                isClassPrefixEnabled ||
+                isMethodPrefixEnabled ||
+                isLineLocationPrefixEnabled ||
+                mConfiguration.mStackTraceLineCount > 0 ||
+                isCallerLevelOverridden;
+        if (isThreadPrefixEnabled || needStackTrace) {
             messageBuilder.append('[');
             Thread currentThread = Thread.currentThread();
-            if (mConfiguration.mIsThreadPrefixEnabled) {
+            if (isThreadPrefixEnabled) {
                 messageBuilder.append(currentThread.getName());
             }
             if (needStackTrace) {
-                StackTraceElement[] stackTraceElements = currentThread.getStackTrace();
-                int startStackIndex = findStartStackTraceIndex(stackTraceElements);
+                StackTraceElement[] stackTraceElements = ALogCallerResolver.captureStackTrace();
+                int startStackIndex = ALogCallerResolver.findCallerIndex(stackTraceElements, mConfiguration.mSkipPackageNames);
                 if (startStackIndex > -1) {
-                    StackTraceElement startStackTraceElement = stackTraceElements[startStackIndex];
+                    ALogCallerResolver.Caller caller = ALogCallerResolver.getCaller(stackTraceElements, startStackIndex);
                     if (isAutoTag) {
-                        tag = Utils.getSimpleClassName(startStackTraceElement.getClassName());
+                        tag = caller.mSimpleClassName;
+                    }
+                    if (isCallerLevelOverridden) {
+                        ALogLevel callerLevel = mConfiguration.mLevelOverrides.resolve(tag, stackTraceElements[startStackIndex].getClassName());
+                        if (callerLevel != null ? callerLevel.compareTo(level) < 0 : !state.isLoggable(mConfiguration, level)) {
+                            return;
+                        }
                     }
-                    if (mConfiguration.mIsClassPrefixEnabled) {
+                    if (isClassPrefixEnabled) {
                         if (messageBuilder.length() > 0) {
                             messageBuilder.append('|');
                         }
-                        messageBuilder.append(Utils.getSimpleClassName(startStackTraceElement.getClassName()));
+                        messageBuilder.append(caller.mSimpleClassName);
                     }
-                    if (mConfiguration.mIsMethodPrefixEnabled) {
+                    if (isMethodPrefixEnabled) {
                         if (messageBuilder.length() > 0) {
                             messageBuilder.append('|');
                         }
-                        messageBuilder.append(startStackTraceElement.getMethodName());
+                        messageBuilder.append(caller.mMethodName);
                     }
-                    if (mConfiguration.mIsLineLocationPrefixEnabled) {
+                    if (isLineLocationPrefixEnabled) {
                         if (messageBuilder.length() > 0) {
                             messageBuilder.append('|');
                         }
-                        String fileName = null;
-                        int lineNumber = 0;
-                        for (int i = startStackIndex; fileName == null && i < stackTraceElements.length; ++i) {
-                            fileName = stackTraceElements[i].getFileName();
-                            lineNumber = stackTraceElements[i].getLineNumber();
-                        }
-                        messageBuilder.append('(')
-                                      .append(fileName)
-                                      .append(':')
-                                      .append(lineNumber)
-                                      .append(')');
+                        messageBuilder.append(caller.mLineLocation);
                     }
                     if (mConfiguration.mStackTraceLineCount > 0) {
-                        stackTraceSuffixBuilder = new StringBuilder();
+                        stackTraceSuffixBuilder = buffer.mStackTrace;
                         for (int i = startStackIndex; i < startStackIndex + mConfiguration.mStackTraceLineCount; ++i) {
                             stackTraceSuffixBuilder.append(stackTraceElements[i].toString()).append('\n');
                         }
                     }
+                } else if (isCallerLevelOverridden && !state.isLoggable(mConfiguration, level)) {
+                    return;
                 }
             }
             messageBuilder.append(']');
@@ -251,14 +408,28 @@ final class ConfigurationALogger extends BaseALogger {
             if (messageBuilder.length() > 0) {
                 messageBuilder.append(' ');
             }
-            String messageWithArguments;
+            int messageStart = messageBuilder.length();
             try {
-                messageWithArguments = Utils.formatMessageWithArguments(message, args, mConfiguration);
+                if (arguments == null) {
+                    mConfiguration.mMessageFormat.appendFormatted(messageBuilder, message, args, mConfiguration);
+                } else {
+                    mConfiguration.mMessageFormat.appendFormatted(messageBuilder, message, arguments, mConfiguration);
+                }
             } catch (Throwable t) {
-                messageWithArguments = "Cannot format message with arguments: \"" + message
-                        + "\" (" + t.getClass().getName() + ": " + t.getMessage() + ")";
+                messageBuilder.setLength(messageStart);
+                messageBuilder.append("Cannot format message with arguments: \"" + message
+                        + "\" (" + t.getClass().getName() + ": " + t.getMessage() + ")");
+            }
+        }
+        if (appender != null) {
+            if (messageBuilder.length() > 0) {
+                messageBuilder.append(' ');
+            }
+            int messageStart = messageBuilder.length();
+            while (appender.appendMessage(messageBuilder)) {
+                print(state, level, tag, buffer);
+                messageBuilder.setLength(messageStart);
             }
-            messageBuilder.append(messageWithArguments);
         }
         if (throwable != null) {
             if (messageBuilder.length() > 0) {
@@ -269,8 +440,15 @@ final class ConfigurationALogger extends BaseALogger {
         if (stackTraceSuffixBuilder != null) {
             messageBuilder.append("\nStack trace:\n").append(stackTraceSuffixBuilder);
         }
-        for (ALogPrinter printer : mConfiguration.mPrinters) {
-            printer.print(level, tag, messageBuilder);
+        print(state, level, tag, buffer);
+    }
+
+    private void print(ALogState state, ALogLevel level, String tag, ALogMessageBuffer buffer) {
+        ALogPrinter[] printers = mConfiguration.mPrinters;
+        for (int i = 0; i < printers.length; ++i) {
+            if (state.isPrinterEnabled(i)) {
+                printers[i].print(level, tag, buffer.mMessageView);
+            }
         }
     }
 }
@@ -19,63 +19,220 @@ package ua.pp.ihorzak.alog;
 import android.annotation.SuppressLint;
 
 import java.text.DateFormat;
+import java.text.FieldPosition;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * {@link ALogPrinter} implementation that uses file writer to print logging messages.
+ * Logging messages are passed to the writer thread via pre-allocated {@link ALogEventRingBuffer},
+ * its overflow is handled according to configured {@link ALogFileOverflowPolicy}. Writer thread
+ * can flush written logging messages in batches if it is enabled via
+ * {@link ALogFileConfiguration}.
  *
  * @author Ihor Zakhozhyi <ihorzak@gmail.com>
  */
 final class FileALogPrinter implements ALogPrinter {
     private static final String THREAD_NAME = "FileALogPrinter";
     private static final String FORMAT_DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm:ss.SSS";
+    private static final String DROPPED_MESSAGES_TAG = "ALog";
+    private static final int FULL_QUEUE_SPIN_COUNT = 64;
+    private static final long FULL_QUEUE_PARK_NANOS = 100000L;
+    private static final int MAX_RETAINED_LINE_CAPACITY = 16 * 1024;
 
     private final ALogFileWriter mFileWriter;
-    private final Executor mExecutor;
+    private final ALogFileOverflowPolicy mOverflowPolicy;
+    private final boolean mIsBatchingEnabled;
+    private final long mFlushIntervalNanos;
+    private final int mFlushSizeThreshold;
+    private final ALogLevel mImmediateFlushLevel;
+    private final ALogEventRingBuffer mRingBuffer;
+    private final AtomicLong mDroppedMessageCount;
+    private final AtomicLong mSampledMessageCount;
+    private final Thread mWriterThread;
+    private final AtomicBoolean mIsWriterThreadStarted;
     private final DateFormat mDateFormat;
+    private final Date mDate;
+    private final StringBuffer mDateBuffer;
+    private final FieldPosition mDateFieldPosition;
 
-    private boolean mHasPrinterFailed;
+    private StringBuilder mLineBuilder;
+    private long mNotFlushedSize;
+    private long mNotFlushedSinceNanos;
+
+    private volatile boolean mIsWriterThreadParked;
+    private volatile boolean mHasPrinterFailed;
 
     /**
      * Constructor.
      *
-     * @param fileWriter Entity used to perform write operations to storage file.
+     * @param fileConfiguration Logging file output configuration.
      */
     @SuppressLint("SimpleDateFormat")
-    FileALogPrinter(ALogFileWriter fileWriter) {
-        mFileWriter = fileWriter;
-        mExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, THREAD_NAME));
+    FileALogPrinter(ALogFileConfiguration fileConfiguration) {
+        mFileWriter = fileConfiguration.mWriter;
+        mOverflowPolicy = fileConfiguration.mOverflowPolicy;
+        mIsBatchingEnabled = fileConfiguration.mIsBatchingEnabled;
+        mFlushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fileConfiguration.mFlushInterval);
+        mFlushSizeThreshold = fileConfiguration.mFlushSizeThreshold;
+        mImmediateFlushLevel = fileConfiguration.mImmediateFlushLevel;
+        mRingBuffer = new ALogEventRingBuffer(fileConfiguration.mQueueCapacity);
+        mDroppedMessageCount = new AtomicLong(0L);
+        mSampledMessageCount = new AtomicLong(0L);
+        mWriterThread = new Thread(this::runWriter, THREAD_NAME);
+        mIsWriterThreadStarted = new AtomicBoolean(false);
         mDateFormat = new SimpleDateFormat(FORMAT_DATE_TIME_PATTERN);
+        mDate = new Date();
+        mDateBuffer = new StringBuffer();
+        mDateFieldPosition = new FieldPosition(0);
+        mLineBuilder = new StringBuilder();
+        mNotFlushedSize = 0L;
+        mNotFlushedSinceNanos = 0L;
+        mIsWriterThreadParked = false;
         mHasPrinterFailed = false;
     }
 
     @Override
     public void print(ALogLevel level, CharSequence tag, CharSequence message) {
-        if (!mHasPrinterFailed) {
-            mExecutor.execute(
-                    () -> {
-                        try {
-                            StringBuilder builder = new StringBuilder();
-                            builder.append(mDateFormat.format(new Date()))
-                                   .append(' ')
-                                   .append(level.getLabel())
-                                   .append(' ')
-                                   .append(tag)
-                                   .append(' ')
-                                   .append(message);
-                            if (message.length() == 0 || message.charAt(message.length() - 1) != '\n') {
-                                builder.append('\n');
-                            }
-                            mFileWriter.write(builder);
-                        } catch (Throwable throwable) {
-                            mHasPrinterFailed = true;
-                            throwable.printStackTrace();
-                        }
+        if (mHasPrinterFailed) {
+            return;
+        }
+        if (!mIsWriterThreadStarted.get() && mIsWriterThreadStarted.compareAndSet(false, true)) {
+            mWriterThread.start();
+        }
+        long timestamp = System.currentTimeMillis();
+        if (!mRingBuffer.offer(level, tag, message, timestamp)) {
+            switch (mOverflowPolicy.mType) {
+                case DROP_NEWEST:
+                    mDroppedMessageCount.incrementAndGet();
+                    break;
+                case DROP_OLDEST:
+                    if (mRingBuffer.discardOldest()) {
+                        mDroppedMessageCount.incrementAndGet();
                     }
-            );
+                    // Freed slot can be not the next one to publish to while writer thread still
+                    // holds the oldest slot, so wait for it instead of discarding the whole queue
+                    if (!mRingBuffer.offer(level, tag, message, timestamp)) {
+                        offerBlocking(level, tag, message, timestamp);
+                    }
+                    break;
+                case SAMPLE:
+                    if (level.compareTo(mOverflowPolicy.mSampleLevel) > 0
+                            && mSampledMessageCount.getAndIncrement() % mOverflowPolicy.mSampleRate != 0L) {
+                        mDroppedMessageCount.incrementAndGet();
+                    } else {
+                        offerBlocking(level, tag, message, timestamp);
+                    }
+                    break;
+                default:
+                    offerBlocking(level, tag, message, timestamp);
+                    break;
+            }
+        }
+        wakeUpWriterThread();
+    }
+
+    private void offerBlocking(ALogLevel level, CharSequence tag, CharSequence message, long timestamp) {
+        int spinCount = 0;
+        do {
+            if (mHasPrinterFailed) {
+                return;
+            }
+            wakeUpWriterThread();
+            if (spinCount < FULL_QUEUE_SPIN_COUNT) {
+                ++spinCount;
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(FULL_QUEUE_PARK_NANOS);
+            }
+        } while (!mRingBuffer.offer(level, tag, message, timestamp));
+    }
+
+    private void wakeUpWriterThread() {
+        if (mIsWriterThreadParked) {
+            LockSupport.unpark(mWriterThread);
+        }
+    }
+
+    private void runWriter() {
+        while (!mHasPrinterFailed) {
+            ALogEventRingBuffer.Event event = mRingBuffer.take();
+            try {
+                if (event != null) {
+                    writeLine(event.mLevel, event.mTag, event.mTimestamp, event.mMessage);
+                    if (!mIsBatchingEnabled
+                            || (mImmediateFlushLevel != null && event.mLevel.compareTo(mImmediateFlushLevel) <= 0)
+                            || mNotFlushedSize >= mFlushSizeThreshold
+                            || (mFlushIntervalNanos > 0L && System.nanoTime() - mNotFlushedSinceNanos >= mFlushIntervalNanos)) {
+                        flush();
+                    }
+                    continue;
+                }
+                long droppedMessageCount = mDroppedMessageCount.getAndSet(0L);
+                if (droppedMessageCount > 0L) {
+                    writeLine(ALogLevel.WARNING, DROPPED_MESSAGES_TAG, System.currentTimeMillis(), droppedMessageCount + " messages dropped");
+                    continue;
+                }
+                long parkNanos = 0L;
+                if (mNotFlushedSize > 0L) {
+                    parkNanos = mNotFlushedSinceNanos + mFlushIntervalNanos - System.nanoTime();
+                    if (parkNanos <= 0L) {
+                        flush();
+                        continue;
+                    }
+                }
+                mIsWriterThreadParked = true;
+                if (mRingBuffer.isEmpty()) {
+                    if (parkNanos > 0L) {
+                        LockSupport.parkNanos(this, parkNanos);
+                    } else {
+                        LockSupport.park(this);
+                    }
+                }
+                mIsWriterThreadParked = false;
+            } catch (Throwable throwable) {
+                mHasPrinterFailed = true;
+                throwable.printStackTrace();
+            } finally {
+                if (event != null) {
+                    mRingBuffer.release();
+                }
+            }
+        }
+    }
+
+    private void flush() throws Exception {
+        mFileWriter.flush();
+        mNotFlushedSize = 0L;
+    }
+
+    private void writeLine(ALogLevel level, String tag, long timestamp, CharSequence message) throws Exception {
+        mDate.setTime(timestamp);
+        mDateBuffer.setLength(0);
+        mDateFormat.format(mDate, mDateBuffer, mDateFieldPosition);
+        StringBuilder builder = mLineBuilder;
+        builder.setLength(0);
+        builder.append(mDateBuffer)
+               .append(' ')
+               .append(level.getLabel())
+               .append(' ')
+               .append(tag)
+               .append(' ')
+               .append(message);
+        if (message.length() == 0 || message.charAt(message.length() - 1) != '\n') {
+            builder.append('\n');
+        }
+        mFileWriter.write(builder);
+        if (mNotFlushedSize == 0L) {
+            mNotFlushedSinceNanos = System.nanoTime();
+        }
+        mNotFlushedSize += builder.length();
+        if (builder.capacity() > MAX_RETAINED_LINE_CAPACITY) {
+            mLineBuilder = new StringBuilder();
         }
     }
 }
@@ -36,21 +36,57 @@ final class IterableALogFormatter extends ConfigurationALogFormatter<Iterable<?>
     @Override
     String toLoggingString(Iterable<?> object, ALogFormatterDelegate<Object> objectFormatterDelegate) {
         StringBuilder builder = new StringBuilder();
+        appendLoggingString(builder, object, mConfiguration.mObjectFormatterDelegate);
+        return builder.toString();
+    }
+
+    @Override
+    void appendLoggingString(StringBuilder builder,
+                             Iterable<?> object,
+                             ObjectALogFormatterDelegate objectFormatterDelegate) {
+        ALogFormatterGuard guard = ALogFormatterGuard.get();
+        if (guard.isCycle(object)) {
+            builder.append(ALogFormatterGuard.CYCLE_MARKER);
+            return;
+        }
+        boolean isEntered = guard.enter(builder, object, mConfiguration);
         builder.append(object.getClass().getName())
                .append("(size = ");
         int sizeOffset = builder.length();
-        builder.append(") [");;
-        int size = 0;
-        Iterator<?> iterator = object.iterator();
-        while (iterator.hasNext()) {
-            builder.append(Utils.formatArgument(iterator.next(), mConfiguration));
-            ++size;
-            if (iterator.hasNext()) {
-                builder.append(", ");
+        builder.append(") [");
+        if (isEntered) {
+            // Size of iterable is unknown until all its elements are iterated, so when not all
+            // elements are formatted only lower bound of size is logged
+            int size = 0;
+            boolean isElided = false;
+            try {
+                Iterator<?> iterator = object.iterator();
+                while (!isElided && iterator.hasNext()) {
+                    if (guard.canAppend(builder, size)) {
+                        if (size > 0) {
+                            builder.append(", ");
+                        }
+                        Utils.appendArgument(builder, iterator.next(), mConfiguration);
+                        ++size;
+                    } else {
+                        isElided = true;
+                    }
+                }
+            } finally {
+                guard.exit();
+            }
+            if (isElided) {
+                ALogFormatterGuard.appendElision(builder, size, -1);
             }
+            builder.append(']');
+            if (isElided) {
+                builder.insert(sizeOffset, '+');
+            }
+            builder.insert(sizeOffset, size);
+        } else {
+            builder.append(ALogFormatterGuard.DEPTH_MARKER)
+                   .append(']');
+            builder.insert(sizeOffset, '?');
         }
-        builder.append(']');
-        builder.insert(sizeOffset, size);
-        return builder.toString();
     }
 }
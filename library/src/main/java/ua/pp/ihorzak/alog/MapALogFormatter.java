@@ -37,23 +37,48 @@ final class MapALogFormatter extends ConfigurationALogFormatter<Map<?,?>> {
     @Override
     public String toLoggingString(Map<?, ?> object, ALogFormatterDelegate<Object> objectFormatterDelegate) {
         StringBuilder builder = new StringBuilder();
+        appendLoggingString(builder, object, mConfiguration.mObjectFormatterDelegate);
+        return builder.toString();
+    }
+
+    @Override
+    void appendLoggingString(StringBuilder builder,
+                             Map<?, ?> object,
+                             ObjectALogFormatterDelegate objectFormatterDelegate) {
+        ALogFormatterGuard guard = ALogFormatterGuard.get();
+        if (guard.isCycle(object)) {
+            builder.append(ALogFormatterGuard.CYCLE_MARKER);
+            return;
+        }
+        int size = object.size();
+        boolean isEntered = guard.enter(builder, object, mConfiguration);
         builder.append(object.getClass().getName())
                .append("(size = ")
-               .append(object.size())
+               .append(size)
                .append(") [");
-        Iterator<? extends Map.Entry<?, ?>> iterator = object.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<?, ?> entry = iterator.next();
-            builder.append('{')
-                   .append(Utils.formatArgument(entry.getKey(), mConfiguration))
-                   .append(" -> ")
-                   .append(Utils.formatArgument(entry.getValue(), mConfiguration))
-                   .append('}');
-            if (iterator.hasNext()) {
-                builder.append(", ");
+        if (isEntered) {
+            int count = 0;
+            try {
+                Iterator<? extends Map.Entry<?, ?>> iterator = object.entrySet().iterator();
+                while (iterator.hasNext() && guard.canAppend(builder, count)) {
+                    Map.Entry<?, ?> entry = iterator.next();
+                    if (count > 0) {
+                        builder.append(", ");
+                    }
+                    builder.append('{');
+                    Utils.appendArgument(builder, entry.getKey(), mConfiguration);
+                    builder.append(" -> ");
+                    Utils.appendArgument(builder, entry.getValue(), mConfiguration);
+                    builder.append('}');
+                    ++count;
+                }
+            } finally {
+                guard.exit();
             }
+            ALogFormatterGuard.appendElision(builder, count, Math.max(size - count, 0));
+        } else if (size > 0) {
+            builder.append(ALogFormatterGuard.DEPTH_MARKER);
         }
         builder.append(']');
-        return builder.toString();
     }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * {@link ALogFileOutput} implementation, which pre-allocates file with its maximal size, maps it
+ * into memory and encodes messages to UTF-8 directly into the mapping. Unused tail of the file is
+ * truncated on {@link #close()} call. Until then the file ends with {@link #TRAILER_SIZE} bytes
+ * trailer which contains the end of written content, so writing to not truncated file (for
+ * example, because of process crash) can be resumed without scanning its zero padding.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+final class MappedALogFileOutput implements ALogFileOutput {
+    /**
+     * Size of trailer: magic number followed by the end of written content.
+     */
+    static final int TRAILER_SIZE = 8;
+
+    private static final int TRAILER_MAGIC = 0x414C4F47;
+
+    private final int mMaxFileSize;
+
+    private RandomAccessFile mFile;
+    /**
+     * Mapped file content without trailer.
+     */
+    private MappedByteBuffer mBuffer;
+    /**
+     * Mapped file content including trailer.
+     */
+    private ByteBuffer mTrailerBuffer;
+    private int mTrailerPosition;
+
+    /**
+     * Constructor.
+     *
+     * @param maxFileSize Maximal file content size (in bytes), which is mapped into memory
+     *                    together with trailer.
+     */
+    MappedALogFileOutput(int maxFileSize) {
+        mMaxFileSize = maxFileSize;
+    }
+
+    @Override
+    public long open(File file, boolean append) throws IOException {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try {
+            long length = append ? randomAccessFile.length() : 0L;
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("File is too big to be memory mapped");
+            }
+            if (!append) {
+                randomAccessFile.setLength(0L);
+            }
+            int mappedSize = Math.max((int) length, mMaxFileSize + TRAILER_SIZE);
+            MappedByteBuffer buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0L, mappedSize);
+            int contentEnd = findContentEnd(buffer, (int) length, mappedSize);
+            mTrailerBuffer = buffer.duplicate();
+            mTrailerPosition = mappedSize - TRAILER_SIZE;
+            mTrailerBuffer.putInt(mTrailerPosition, TRAILER_MAGIC);
+            buffer.limit(mTrailerPosition);
+            buffer.position(contentEnd);
+            mBuffer = buffer;
+            writeContentEnd();
+        } catch (IOException exception) {
+            mBuffer = null;
+            mTrailerBuffer = null;
+            randomAccessFile.close();
+            throw exception;
+        }
+        mFile = randomAccessFile;
+        return mBuffer.position();
+    }
+
+    /**
+     * Finds the end of written content of previously mapped file. Content end of file which was
+     * not truncated (for example, because of process crash) is read from its trailer, zero
+     * padding is skipped backwards only if there is no valid trailer (for example, if file was
+     * written by previous library version).
+     *
+     * @param buffer Mapped file content.
+     * @param length File length.
+     * @param mappedSize Size of mapped file content.
+     * @return Position after the last written byte.
+     */
+    private static int findContentEnd(MappedByteBuffer buffer, int length, int mappedSize) {
+        if (length == mappedSize && buffer.getInt(length - TRAILER_SIZE) == TRAILER_MAGIC) {
+            int contentEnd = buffer.getInt(length - TRAILER_SIZE + 4);
+            if (contentEnd >= 0 && contentEnd <= length - TRAILER_SIZE) {
+                return contentEnd;
+            }
+        }
+        // Truncated file ends with its content, so the scan stops at once
+        int position = length;
+        while (position > 0 && buffer.get(position - 1) == 0) {
+            --position;
+        }
+        return position;
+    }
+
+    private void writeContentEnd() {
+        mTrailerBuffer.putInt(mTrailerPosition + 4, mBuffer.position());
+    }
+
+    @Override
+    public void write(CharSequence message) throws IOException {
+        int length = message.length();
+        int encodedLength = ALogUtf8Encoder.encode(message, 0, length, mBuffer);
+        writeContentEnd();
+        if (encodedLength < length) {
+            throw new IOException("Memory mapped file size limit is exceeded");
+        }
+    }
+
+    @Override
+    public void flush() {
+        // Mapped content is persisted by the page cache, so nothing should be done here.
+    }
+
+    /**
+     * Truncates unused tail of the file and closes it. There is no public API to unmap
+     * {@link MappedByteBuffer}, so mapping is released only once the buffer is garbage collected.
+     * It is acceptable, since the buffer is not referenced after this call, so at most few chunk
+     * sized mappings of already closed files wait for collection, and they reserve address space
+     * only: truncated pages are not backed by the file anymore and are never touched again.
+     *
+     * @throws IOException If file cannot be truncated or closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (mFile != null) {
+            int contentEnd = mBuffer.position();
+            // Mapping must not be accessed after truncation, so its reference is dropped first
+            mBuffer = null;
+            mTrailerBuffer = null;
+            try {
+                mFile.getChannel().truncate(contentEnd);
+            } finally {
+                mFile.close();
+                mFile = null;
+            }
+        }
+    }
+}
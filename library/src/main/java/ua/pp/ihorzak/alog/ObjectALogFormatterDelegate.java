@@ -17,12 +17,14 @@
 package ua.pp.ihorzak.alog;
 
 /**
- * {@link ALogFormatterDelegate} to transform objects into logging strings.
+ * {@link ALogFormatterDelegate} and {@link ALogFormatterAppender} to transform objects into
+ * logging strings.
  * This formatter delegate uses other formatters configured in {@link ALogConfiguration}.
  *
  * @author Ihor Zakhozhyi <ihorzak@gmail.com>
  */
-final class ObjectALogFormatterDelegate implements ALogFormatterDelegate<Object> {
+final class ObjectALogFormatterDelegate implements ALogFormatterDelegate<Object>,
+                                                   ALogFormatterAppender {
     private final ALogConfiguration mConfiguration;
 
     /**
@@ -38,4 +40,9 @@ final class ObjectALogFormatterDelegate implements ALogFormatterDelegate<Object>
     public String toLoggingString(Object object) {
         return Utils.formatArgument(object, mConfiguration);
     }
+
+    @Override
+    public void appendLoggingString(StringBuilder builder, Object object) {
+        Utils.appendArgument(builder, object, mConfiguration);
+    }
 }
@@ -17,9 +17,7 @@
 package ua.pp.ihorzak.alog;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
-import java.io.PrintWriter;
+import java.io.IOException;
 
 /**
  * Logging file writer which performs logging to a single file.
@@ -29,8 +27,9 @@ import java.io.PrintWriter;
 final class SingleALogFileWriter implements ALogFileWriter {
     private final String mFilePath;
     private final boolean mAppend;
+    private final ALogFileOutput mOutput;
 
-    private PrintWriter mPrintWriter;
+    private boolean mIsOpened;
 
     /**
      * Constructor.
@@ -38,24 +37,33 @@ final class SingleALogFileWriter implements ALogFileWriter {
      * @param filePath Logging output file path.
      * @param append Flag which indicates behavior in case output file already exists: true if
      *               its content should be appended, false if its content should be overwritten.
+     * @param outputMode Logging output file mode. See {@link ALogFileOutputMode}.
      */
-    SingleALogFileWriter(String filePath, boolean append) {
+    SingleALogFileWriter(String filePath, boolean append, ALogFileOutputMode outputMode) {
         mFilePath = filePath;
         mAppend = append;
+        mOutput = outputMode.createOutput(0L);
     }
 
     @SuppressWarnings("ResultOfMethodCallIgnored")
     @Override
-    public void write(CharSequence message) throws FileNotFoundException {
-        if (mPrintWriter == null) {
+    public void write(CharSequence message) throws IOException {
+        if (!mIsOpened) {
             File file = new File(mFilePath);
             File directoryFile = file.getParentFile();
             if (directoryFile != null) {
                 directoryFile.mkdirs();
             }
-            mPrintWriter = new PrintWriter(new FileOutputStream(file, mAppend));
+            mOutput.open(file, mAppend);
+            mIsOpened = true;
+        }
+        mOutput.write(message);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (mIsOpened) {
+            mOutput.flush();
         }
-        mPrintWriter.append(message)
-                    .flush();
     }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+
+/**
+ * {@link ALogFileOutput} implementation, which writes to file via buffered
+ * {@link OutputStreamWriter} with UTF-8 charset.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+final class StreamALogFileOutput implements ALogFileOutput {
+    private static final int BUFFER_SIZE = 32 * 1024;
+    private static final Charset CHARSET = Charset.forName("UTF-8");
+
+    private PrintWriter mPrintWriter;
+
+    @Override
+    public long open(File file, boolean append) throws IOException {
+        long size = append ? file.length() : 0L;
+        mPrintWriter = new PrintWriter(
+                new BufferedWriter(
+                        new OutputStreamWriter(new FileOutputStream(file, append), CHARSET),
+                        BUFFER_SIZE
+                )
+        );
+        return size;
+    }
+
+    @Override
+    public void write(CharSequence message) {
+        mPrintWriter.append(message);
+    }
+
+    @Override
+    public void flush() {
+        mPrintWriter.flush();
+    }
+
+    @Override
+    public void close() {
+        if (mPrintWriter != null) {
+            mPrintWriter.close();
+            mPrintWriter = null;
+        }
+    }
+}
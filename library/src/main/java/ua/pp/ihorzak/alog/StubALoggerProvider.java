@@ -35,36 +35,81 @@ enum StubALoggerProvider {
      * {@link ALogConfiguration}.
      */
     private static final class StubALogger extends BaseALogger {
+        @Override
+        public boolean isEnabled(ALogLevel level) {
+            return false;
+        }
+
+        @Override
+        void log(ALogLevel level, String message, ALogArguments arguments) {
+            arguments.recycle();
+        }
+
+        @Override
+        void log(ALogLevel level, Object object) {
+            // Do nothing.
+        }
+
         @Override
         public void v(Throwable throwable, String message, Object... args) {
             // Do nothing.
         }
 
+        @Override
+        public void v(Throwable throwable, ALogMessageSupplier supplier) {
+            // Do nothing.
+        }
+
         @Override
         public void d(Throwable throwable, String message, Object... args) {
             // Do nothing.
         }
 
+        @Override
+        public void d(Throwable throwable, ALogMessageSupplier supplier) {
+            // Do nothing.
+        }
+
         @Override
         public void i(Throwable throwable, String message, Object... args) {
             // Do nothing.
         }
 
+        @Override
+        public void i(Throwable throwable, ALogMessageSupplier supplier) {
+            // Do nothing.
+        }
+
         @Override
         public void w(Throwable throwable, String message, Object... args) {
             // Do nothing.
         }
 
+        @Override
+        public void w(Throwable throwable, ALogMessageSupplier supplier) {
+            // Do nothing.
+        }
+
         @Override
         public void e(Throwable throwable, String message, Object... args) {
             // Do nothing.
         }
 
+        @Override
+        public void e(Throwable throwable, ALogMessageSupplier supplier) {
+            // Do nothing.
+        }
+
         @Override
         public void wtf(Throwable throwable, String message, Object... args) {
             // Do nothing.
         }
 
+        @Override
+        public void wtf(Throwable throwable, ALogMessageSupplier supplier) {
+            // Do nothing.
+        }
+
         @Override
         public void json(String json) {
             // Do nothing.
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import static ua.pp.ihorzak.alog.test.Utils.assertLogEquals;
+import static ua.pp.ihorzak.alog.test.Utils.assertLogStartsWith;
+
+import android.util.Log;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+/**
+ * Fixed arity logging methods and {@link ALogArguments} unit tests.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public class ALogArgumentsTest extends BaseTest {
+    private static final String TAG = "Test";
+    private static final int ALLOCATION_CALL_COUNT = 100000;
+
+    @Before
+    public void setUp() {
+        ALogConfiguration configuration = ALogConfiguration.builder()
+                .tag(TAG)
+                .threadPrefixEnabled(false)
+                .methodPrefixEnabled(false)
+                .lineLocationPrefixEnabled(false)
+                .build();
+        ALog.initialize(configuration);
+    }
+
+    @Test
+    public void testPrimitiveArguments() {
+        ALog.d("Values: %d, %d", 100000, 200000);
+        assertLogEquals(Log.DEBUG, TAG, "Values: 100000, 200000");
+        ALog.d("Values: %d, %s, %d", -1L, Long.MAX_VALUE, Long.MIN_VALUE);
+        assertLogEquals(Log.DEBUG, TAG, "Values: -1, 9223372036854775807, -9223372036854775808");
+        ALog.d("Flags: %b %s %b %b", true, false, true, false);
+        assertLogEquals(Log.DEBUG, TAG, "Flags: true false true false");
+        ALog.d("Value: %s", 1.5);
+        assertLogEquals(Log.DEBUG, TAG, "Value: 1.5");
+        ALog.d("Value: %s", 1.1f);
+        assertLogEquals(Log.DEBUG, TAG, "Value: 1.1");
+        ALog.d("Value: %s", 'x');
+        assertLogEquals(Log.DEBUG, TAG, "Value: x");
+        ALog.d("Value: %d%%%n", (byte) -5);
+        assertLogEquals(Log.DEBUG, TAG, "Value: -5%" + System.getProperty("line.separator"));
+    }
+
+    @Test
+    public void testSeveralPrimitiveArguments() {
+        ALog.d("Values: %s %s", 'a', 'b');
+        assertLogEquals(Log.DEBUG, TAG, "Values: a b");
+        ALog.d("Values: %x %x", (byte) -1, (byte) -2);
+        assertLogEquals(Log.DEBUG, TAG, "Values: ff fe");
+        ALog.d("Values: %x %x", (short) -1, 5);
+        assertLogEquals(Log.DEBUG, TAG, "Values: ffff 5");
+        ALog.d("Values: %x %x", -1, 5L);
+        assertLogEquals(Log.DEBUG, TAG, "Values: ffffffff 5");
+        ALog.d("Values: %s %s %s %s", 1.1f, 2.5, 'c', true);
+        assertLogEquals(Log.DEBUG, TAG, String.format("Values: %s %s %s %s", 1.1f, 2.5, 'c', true));
+    }
+
+    @Test
+    public void testObjectArguments() {
+        ALog.i("Values: %s, %s, %s", "title", null, new int[] {1, 2});
+        assertLogEquals(Log.INFO, TAG, "Values: title, null, Array(size = 2) [1, 2]");
+        ALog.i("Value: %b", (Object) null);
+        assertLogEquals(Log.INFO, TAG, "Value: false");
+    }
+
+    @Test
+    public void testNotSupportedFormatSpecifiers() {
+        ALog.w("Values: %5d, %x, %2$s", 42, 255);
+        assertLogEquals(Log.WARN, TAG, "Values:    42, ff, 255");
+        ALog.w("Value: %c", 'x');
+        assertLogEquals(Log.WARN, TAG, "Value: x");
+    }
+
+    @Test
+    public void testInvalidFormat() {
+        ALog.e("Value: %d", true);
+        assertLogStartsWith(Log.ERROR, TAG, "Cannot format message with arguments: \"Value: %d\" (java.util.IllegalFormatConversionException");
+        ALog.e("Values: %d, %d", 1, 2);
+        assertLogEquals(Log.ERROR, TAG, "Values: 1, 2");
+        ALog.e("Values: %d, %d, %d", 1, 2);
+        assertLogStartsWith(Log.ERROR, TAG, "Cannot format message with arguments: \"Values: %d, %d, %d\" (java.util.MissingFormatArgumentException");
+    }
+
+    @Test
+    public void testFilteredOutCallsDoNotAllocate() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled());
+        ALog.initialize(ALogConfiguration.builder().minimalLevel(ALogLevel.INFO).build());
+        ALogger logger = ALog.t(TAG);
+        long threadId = Thread.currentThread().getId();
+        logFilteredOut(logger, ALLOCATION_CALL_COUNT);
+        long start = allocationBean.getThreadAllocatedBytes(threadId);
+        logFilteredOut(logger, ALLOCATION_CALL_COUNT);
+        long allocatedBytes = allocationBean.getThreadAllocatedBytes(threadId) - start;
+        // Single boxed value or arguments array per call would take several bytes per call.
+        assertTrue("Allocated " + allocatedBytes + " bytes", allocatedBytes < ALLOCATION_CALL_COUNT);
+    }
+
+    private static void logFilteredOut(ALogger logger, int callCount) {
+        for (int i = 0; i < callCount; ++i) {
+            int value = i + 1000;
+            ALog.d("Value: %d", value);
+            ALog.v("Value: %d", (long) value);
+            ALog.d("Value: %s", value * 0.5);
+            ALog.v("Value: %b", value > 0);
+            ALog.d("Values: %s, %s", TAG, null);
+            logger.d("Value: %c", (char) value);
+            logger.v("Values: %s, %s, %s", TAG, TAG, TAG);
+            logger.v("Value: %s", value * 0.5f);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * {@link ALogCallerResolver} benchmark, which compares per call cost of logging method caller
+ * resolution with the cost of previously used resolution via {@link Thread#getStackTrace()} and
+ * per frame package name substrings. Cost of stack trace capture alone is measured as well,
+ * since it dominates both resolutions. Timing is excluded from the default test run and reports
+ * results to the standard output when run manually.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public class ALogCallerResolverBenchmarkTest extends BaseTest {
+    private static final String ALOG_PACKAGE_NAME = "ua.pp.ihorzak.alog";
+    private static final int MODE_CAPTURE = 0;
+    private static final int MODE_LEGACY = 1;
+    private static final int MODE_CURRENT = 2;
+    private static final int ITERATION_COUNT = 20000;
+    private static final int STACK_DEPTH = 40;
+    private static final String[] NO_SKIP_PACKAGE_NAMES = {};
+
+    @Test
+    public void testResolve_Legacy() {
+        ALogCallerResolver.Caller caller = resolve();
+        assertEquals(resolveLegacy(), caller.mSimpleClassName + '|' + caller.mMethodName + '|' + caller.mLineLocation);
+    }
+
+    @Ignore("Benchmark, run manually")
+    @Test
+    public void testBenchmark() {
+        measure(MODE_LEGACY);
+        measure(MODE_CURRENT);
+        long captureNanos = measure(MODE_CAPTURE);
+        long legacyNanos = measure(MODE_LEGACY);
+        long nanos = measure(MODE_CURRENT);
+        System.out.println("Caller resolution, ns per call: stack trace capture only = " + captureNanos
+                + ", legacy = " + legacyNanos + ", current = " + nanos);
+    }
+
+    private static long measure(int mode) {
+        return callDeep(STACK_DEPTH, mode);
+    }
+
+    private static long callDeep(int depth, int mode) {
+        if (depth > 0) {
+            return callDeep(depth - 1, mode);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATION_COUNT; ++i) {
+            switch (mode) {
+                case MODE_CAPTURE:
+                    ALogCallerResolver.captureStackTrace();
+                    break;
+                case MODE_LEGACY:
+                    resolveLegacy();
+                    break;
+                default:
+                    resolve();
+                    break;
+            }
+        }
+        return (System.nanoTime() - start) / ITERATION_COUNT;
+    }
+
+    private static ALogCallerResolver.Caller resolve() {
+        StackTraceElement[] elements = ALogCallerResolver.captureStackTrace();
+        int callerIndex = ALogCallerResolver.findCallerIndex(elements, NO_SKIP_PACKAGE_NAMES);
+        return ALogCallerResolver.getCaller(elements, callerIndex);
+    }
+
+    private static String resolveLegacy() {
+        StackTraceElement[] elements = Thread.currentThread().getStackTrace();
+        int callerIndex = -1;
+        boolean isALogStackTracePassed = false;
+        for (int i = 0; i < elements.length; ++i) {
+            String className = elements[i].getClassName();
+            int packageNameEnd = className.lastIndexOf('.');
+            boolean isALogElement = false;
+            if (packageNameEnd != -1) {
+                String packageName = className.substring(0, packageNameEnd);
+                if (ALOG_PACKAGE_NAME.equals(packageName)) {
+                    isALogElement = true;
+                    isALogStackTracePassed = true;
+                }
+            }
+            if (!isALogElement && isALogStackTracePassed) {
+                callerIndex = i;
+                break;
+            }
+        }
+        StackTraceElement element = elements[callerIndex];
+        String fileName = null;
+        int lineNumber = 0;
+        for (int i = callerIndex; fileName == null && i < elements.length; ++i) {
+            fileName = elements[i].getFileName();
+            lineNumber = elements[i].getLineNumber();
+        }
+        return Utils.getSimpleClassName(element.getClassName()) + '|' + element.getMethodName()
+                + '|' + "(" + fileName + ':' + lineNumber + ')';
+    }
+}
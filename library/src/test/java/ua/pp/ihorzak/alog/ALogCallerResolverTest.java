@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import org.junit.Test;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link ALogCallerResolver} unit tests.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public class ALogCallerResolverTest extends BaseTest {
+    private static final StackTraceElement[] STACK_TRACE = {
+            new StackTraceElement("dalvik.system.VMStack", "getThreadStackTrace", null, -2),
+            new StackTraceElement("ua.pp.ihorzak.alog.ConfigurationALogger", "log", "ConfigurationALogger.java", 180),
+            new StackTraceElement("ua.pp.ihorzak.alog.ALog", "d", "ALog.java", 320),
+            new StackTraceElement("com.example.ui.MainActivity$1", "run", null, 0),
+            new StackTraceElement("com.example.ui.MainActivity", "onCreate", "MainActivity.java", 42),
+            new StackTraceElement("android.app.Activity", "performCreate", "Activity.java", 8000),
+    };
+
+    private static final String[] NO_SKIP_PACKAGE_NAMES = {};
+
+    @Test
+    public void testFindCallerIndex() {
+        assertEquals(3, ALogCallerResolver.findCallerIndex(STACK_TRACE, NO_SKIP_PACKAGE_NAMES));
+        assertEquals(-1, ALogCallerResolver.findCallerIndex(new StackTraceElement[] {STACK_TRACE[0], STACK_TRACE[1]}, NO_SKIP_PACKAGE_NAMES));
+    }
+
+    @Test
+    public void testFindCallerIndex_SkipPackage() {
+        assertEquals(5, ALogCallerResolver.findCallerIndex(STACK_TRACE, new String[] {"com.example.log", "com.example.ui"}));
+        assertEquals(3, ALogCallerResolver.findCallerIndex(STACK_TRACE, new String[] {"com.example"}));
+    }
+
+    @Test
+    public void testIsPackageClass() {
+        assertTrue(ALogCallerResolver.isPackageClass("ua.pp.ihorzak.alog.ALog", "ua.pp.ihorzak.alog"));
+        assertTrue(ALogCallerResolver.isPackageClass("ua.pp.ihorzak.alog.ALog$1", "ua.pp.ihorzak.alog"));
+        assertFalse(ALogCallerResolver.isPackageClass("ua.pp.ihorzak.alog.test.Utils", "ua.pp.ihorzak.alog"));
+        assertFalse(ALogCallerResolver.isPackageClass("ua.pp.ihorzak.alogger.ALog", "ua.pp.ihorzak.alog"));
+        assertFalse(ALogCallerResolver.isPackageClass("ua.pp.ihorzak.ALog", "ua.pp.ihorzak.alog"));
+        assertFalse(ALogCallerResolver.isPackageClass("ua.pp.ihorzak.alog", "ua.pp.ihorzak.alog"));
+    }
+
+    @Test
+    public void testGetCaller() {
+        ALogCallerResolver.Caller caller = ALogCallerResolver.getCaller(STACK_TRACE, 4);
+        assertEquals("MainActivity", caller.mSimpleClassName);
+        assertEquals("onCreate", caller.mMethodName);
+        assertEquals("(MainActivity.java:42)", caller.mLineLocation);
+        assertSame(caller, ALogCallerResolver.getCaller(STACK_TRACE, 4));
+    }
+
+    @Test
+    public void testGetCaller_NoFileName() {
+        ALogCallerResolver.Caller caller = ALogCallerResolver.getCaller(STACK_TRACE, 3);
+        assertEquals("MainActivity$1", caller.mSimpleClassName);
+        assertEquals("run", caller.mMethodName);
+        assertEquals("(MainActivity.java:42)", caller.mLineLocation);
+        // Location is taken from outer frame, so it must not be reused for other call paths
+        StackTraceElement[] otherStackTrace = STACK_TRACE.clone();
+        otherStackTrace[4] = new StackTraceElement("com.example.ui.OtherActivity", "onCreate", "OtherActivity.java", 7);
+        assertEquals("(OtherActivity.java:7)", ALogCallerResolver.getCaller(otherStackTrace, 3).mLineLocation);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.List;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link ALogChunkFiles} unit tests.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public class ALogChunkFilesTest extends BaseTest {
+    private static final String DIRECTORY_PATH = "build/alog/ring";
+    private static final ALogChunkFileNameProvider NAME_PROVIDER = chunkIndex -> "chunk" + chunkIndex + ".log";
+
+    @Test
+    public void testList_Empty() {
+        assertTrue(ALogChunkFiles.list("build/alog/absent", 4, NAME_PROVIDER).isEmpty());
+    }
+
+    @Test
+    public void testList() throws IOException {
+        for (ALogFileOutputMode outputMode : ALogFileOutputMode.values()) {
+            ChunkedALogFileWriter writer = new ChunkedALogFileWriter(DIRECTORY_PATH, 8L, ALogChunkSizeUnit.CHARS, 3, NAME_PROVIDER, outputMode, false);
+            writer.write("Line 0\n");
+            writer.write("Line 1\n");
+            writer.flush();
+            assertChunks("Line 0\n", "Line 1\n");
+            writer.write("Line 2\n");
+            writer.write("Line 3\n");
+            writer.write("Line 4\n");
+            writer.flush();
+            assertChunks("Line 2\n", "Line 3\n", "Line 4\n");
+            assertEquals(1, ALogChunkFiles.readCurrentChunk(new File(DIRECTORY_PATH)));
+        }
+    }
+
+    @Test
+    public void testList_ChunkSizeInBytes() throws IOException {
+        for (ALogFileOutputMode outputMode : ALogFileOutputMode.values()) {
+            ChunkedALogFileWriter writer = new ChunkedALogFileWriter(DIRECTORY_PATH, 16L, ALogChunkSizeUnit.BYTES, 3, NAME_PROVIDER, outputMode, false);
+            writer.write("\u0420\u044F\u0434\u043E\u043A 0\n");
+            writer.write("\u0420\u044F\u0434\u043E\u043A 1\n");
+            writer.write("\u0420\u044F\u0434\u043E\u043A 2\n");
+            writer.flush();
+            assertChunks("\u0420\u044F\u0434\u043E\u043A 0\n", "\u0420\u044F\u0434\u043E\u043A 1\n", "\u0420\u044F\u0434\u043E\u043A 2\n");
+            // Opened memory mapped chunk file also holds the content end trailer
+            long maxFileLength = outputMode == ALogFileOutputMode.MEMORY_MAPPED ? 16L + MappedALogFileOutput.TRAILER_SIZE : 16L;
+            for (File file : ALogChunkFiles.list(DIRECTORY_PATH, 3, NAME_PROVIDER)) {
+                assertTrue(file.length() <= maxFileLength);
+            }
+        }
+    }
+
+    @Test
+    public void testList_Resume() throws IOException {
+        for (ALogFileOutputMode outputMode : ALogFileOutputMode.values()) {
+            ChunkedALogFileWriter writer = new ChunkedALogFileWriter(DIRECTORY_PATH, 16L, ALogChunkSizeUnit.BYTES, 3, NAME_PROVIDER, outputMode, false);
+            writer.write("Line 0\n");
+            writer.write("Line 1\n");
+            writer.write("Line 2\n");
+            writer.flush();
+            ChunkedALogFileWriter resumedWriter = new ChunkedALogFileWriter(DIRECTORY_PATH, 16L, ALogChunkSizeUnit.BYTES, 3, NAME_PROVIDER, outputMode, true);
+            resumedWriter.write("Line 3\n");
+            resumedWriter.write("Line 4\n");
+            resumedWriter.flush();
+            assertChunks("Line 0\nLine 1\n", "Line 2\nLine 3\n", "Line 4\n");
+        }
+    }
+
+    @Test
+    public void testList_MemoryMappedRotation() throws IOException {
+        ChunkedALogFileWriter writer = new ChunkedALogFileWriter(DIRECTORY_PATH, 64L, ALogChunkSizeUnit.BYTES, 3, NAME_PROVIDER, ALogFileOutputMode.MEMORY_MAPPED, false);
+        writer.write("Line 0\n");
+        writer.write("Line 1\n");
+        writer.flush();
+        File firstChunk = ALogChunkFiles.list(DIRECTORY_PATH, 3, NAME_PROVIDER).get(0);
+        // Opened chunk file is pre-allocated with its maximal size
+        assertTrue(firstChunk.length() >= 64L);
+        for (int i = 2; i < 10; ++i) {
+            writer.write("Line " + i + "\n");
+        }
+        writer.flush();
+        // Previous chunk file is truncated to its content once the next one is opened
+        assertEquals(63L, firstChunk.length());
+        assertChunks("Line 0\nLine 1\nLine 2\nLine 3\nLine 4\nLine 5\nLine 6\nLine 7\nLine 8\n", "Line 9\n");
+    }
+
+    @Test
+    public void testList_MemoryMappedResume() throws IOException {
+        ChunkedALogFileWriter writer = new ChunkedALogFileWriter(DIRECTORY_PATH, 64L, ALogChunkSizeUnit.BYTES, 3, NAME_PROVIDER, ALogFileOutputMode.MEMORY_MAPPED, false);
+        // Content which ends with zero byte can't be told from padding without trailer
+        writer.write("Line 0\u0000");
+        writer.flush();
+        File chunk = ALogChunkFiles.list(DIRECTORY_PATH, 3, NAME_PROVIDER).get(0);
+        assertEquals(64L + MappedALogFileOutput.TRAILER_SIZE, chunk.length());
+        ChunkedALogFileWriter resumedWriter = new ChunkedALogFileWriter(DIRECTORY_PATH, 64L, ALogChunkSizeUnit.BYTES, 3, NAME_PROVIDER, ALogFileOutputMode.MEMORY_MAPPED, true);
+        resumedWriter.write("Line 1\n");
+        resumedWriter.write("Line 2 which does not fit into the first chunk file anymore\n");
+        resumedWriter.flush();
+        assertChunks("Line 0\u0000Line 1\n", "Line 2 which does not fit into the first chunk file anymore\n");
+    }
+
+    private static void assertChunks(String... expectedContents) throws IOException {
+        List<File> files = ALogChunkFiles.list(DIRECTORY_PATH, 3, NAME_PROVIDER);
+        assertEquals(expectedContents.length, files.size());
+        // The newest chunk file is still opened, so it can be padded in memory mapped mode
+        for (int i = 0; i < expectedContents.length - 1; ++i) {
+            byte[] content = Files.readAllBytes(files.get(i).toPath());
+            assertEquals(expectedContents[i], new String(content, Charset.forName("UTF-8")));
+        }
+    }
+}
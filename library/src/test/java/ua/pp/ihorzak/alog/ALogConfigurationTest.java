@@ -25,6 +25,7 @@ import java.util.Map;
 
 import ua.pp.ihorzak.alog.test.BaseTest;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -63,6 +64,26 @@ public class ALogConfigurationTest extends BaseTest {
         assertEquals(ALogLevel.DEBUG, builder.build().mMinimalLevel);
     }
 
+    @Test
+    public void testIsLoggable() {
+        ALogConfiguration.Builder builder = ALogConfiguration.builder();
+        for (ALogLevel level : ALogLevel.values()) {
+            assertTrue(builder.build().isLoggable(level));
+        }
+        builder.minimalLevel(ALogLevel.WARNING);
+        ALogConfiguration configuration = builder.build();
+        assertTrue(configuration.isLoggable(ALogLevel.WTF));
+        assertTrue(configuration.isLoggable(ALogLevel.ERROR));
+        assertTrue(configuration.isLoggable(ALogLevel.WARNING));
+        assertFalse(configuration.isLoggable(ALogLevel.INFO));
+        assertFalse(configuration.isLoggable(ALogLevel.DEBUG));
+        assertFalse(configuration.isLoggable(ALogLevel.VERBOSE));
+        builder.enabled(false);
+        for (ALogLevel level : ALogLevel.values()) {
+            assertFalse(builder.build().isLoggable(level));
+        }
+    }
+
     @Test
     public void testBuilder_Tag() {
         ALogConfiguration.Builder builder = ALogConfiguration.builder();
@@ -128,6 +149,35 @@ public class ALogConfigurationTest extends BaseTest {
         assertEquals(0, builder.build().mStackTraceLineCount);
     }
 
+    @Test
+    public void testBuilder_SkipPackage() {
+        ALogConfiguration.Builder builder = ALogConfiguration.builder();
+        assertEquals(0, builder.build().mSkipPackageNames.length);
+        builder.skipPackage("com.example.log");
+        builder.skipPackage("com.example.log");
+        builder.skipPackage("com.example.util");
+        assertArrayEquals(new String[] {"com.example.log", "com.example.util"}, builder.build().mSkipPackageNames);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilder_SkipPackageEmpty() {
+        ALogConfiguration.builder().skipPackage("");
+    }
+
+    @Test
+    public void testBuilder_MessageFormat() {
+        ALogConfiguration.Builder builder = ALogConfiguration.builder();
+        assertEquals(ALogMessageFormat.FORMAT_STRING, builder.build().mMessageFormat);
+        builder.messageFormat(ALogMessageFormat.PLACEHOLDER);
+        assertEquals(ALogMessageFormat.PLACEHOLDER, builder.build().mMessageFormat);
+        assertEquals(ALogMessageFormat.PLACEHOLDER, builder.build().copyBuilder().build().mMessageFormat);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilder_MessageFormatNull() {
+        ALogConfiguration.builder().messageFormat(null);
+    }
+
     @Test
     public void testBuilder_JsonLevel() {
         ALogConfiguration.Builder builder = ALogConfiguration.builder();
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import org.junit.Test;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link ALogEventRingBuffer} unit tests.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public class ALogEventRingBufferTest extends BaseTest {
+    @Test
+    public void testCapacity() {
+        assertEquals(1, new ALogEventRingBuffer(1).getCapacity());
+        assertEquals(4, new ALogEventRingBuffer(3).getCapacity());
+        assertEquals(1024, new ALogEventRingBuffer(1024).getCapacity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacityNotPositive() {
+        new ALogEventRingBuffer(0);
+    }
+
+    @Test
+    public void testDiscardOldest() {
+        ALogEventRingBuffer ringBuffer = new ALogEventRingBuffer(3);
+        assertTrue(ringBuffer.isEmpty());
+        for (int i = 0; i < 4; ++i) {
+            assertTrue(ringBuffer.offer(ALogLevel.DEBUG, "Tag", "Message " + i, i));
+        }
+        assertFalse(ringBuffer.offer(ALogLevel.DEBUG, "Tag", "Message 4", 4L));
+        assertTrue(ringBuffer.discardOldest());
+        assertTrue(ringBuffer.offer(ALogLevel.DEBUG, "Tag", "Message 4", 4L));
+        for (int i = 1; i < 5; ++i) {
+            ALogEventRingBuffer.Event event = ringBuffer.take();
+            assertNotNull(event);
+            assertEquals("Message " + i, event.mMessage.toString());
+            assertEquals(i, event.mTimestamp);
+            ringBuffer.release();
+        }
+        assertNull(ringBuffer.take());
+        assertTrue(ringBuffer.isEmpty());
+        assertFalse(ringBuffer.discardOldest());
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import org.junit.Test;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link ALogFileConfiguration} unit tests.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public class ALogFileConfigurationTest extends BaseTest {
+    private static final String FILE_PATH = "build/alog/test.log";
+    private static final String DIRECTORY_PATH = "build/alog/chunks";
+
+    @Test
+    public void testSingle() {
+        ALogFileConfiguration configuration = ALogFileConfiguration.single(FILE_PATH, false);
+        assertNotNull(configuration.mWriter);
+        assertTrue(configuration.mWriter instanceof SingleALogFileWriter);
+        assertEquals(1024, configuration.mQueueCapacity);
+        assertSame(ALogFileOverflowPolicy.block(), configuration.mOverflowPolicy);
+    }
+
+    @Test
+    public void testChunked() {
+        ALogFileConfiguration configuration = ALogFileConfiguration.chunked(DIRECTORY_PATH, 1024L, 4, chunkIndex -> "chunk" + chunkIndex + ".log");
+        assertNotNull(configuration.mWriter);
+        assertTrue(configuration.mWriter instanceof ChunkedALogFileWriter);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testBuilder_NoOutput() {
+        ALogFileConfiguration.builder().build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilder_ChunkSizeUnitNull() {
+        ALogFileConfiguration.builder().chunkSizeUnit(null);
+    }
+
+    @Test
+    public void testBuilder_QueueCapacity() {
+        ALogFileConfiguration.Builder builder = ALogFileConfiguration.builder().single(FILE_PATH, true);
+        builder.queueCapacity(16);
+        assertEquals(16, builder.build().mQueueCapacity);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilder_QueueCapacityNotPositive() {
+        ALogFileConfiguration.builder().queueCapacity(0);
+    }
+
+    @Test
+    public void testBuilder_OverflowPolicy() {
+        ALogFileConfiguration.Builder builder = ALogFileConfiguration.builder().single(FILE_PATH, true);
+        builder.overflowPolicy(ALogFileOverflowPolicy.dropNewest());
+        assertEquals(ALogFileOverflowPolicy.Type.DROP_NEWEST, builder.build().mOverflowPolicy.mType);
+        builder.overflowPolicy(ALogFileOverflowPolicy.dropOldest());
+        assertEquals(ALogFileOverflowPolicy.Type.DROP_OLDEST, builder.build().mOverflowPolicy.mType);
+        builder.overflowPolicy(ALogFileOverflowPolicy.sample(10, ALogLevel.WARNING));
+        ALogFileOverflowPolicy samplePolicy = builder.build().mOverflowPolicy;
+        assertEquals(ALogFileOverflowPolicy.Type.SAMPLE, samplePolicy.mType);
+        assertEquals(10, samplePolicy.mSampleRate);
+        assertEquals(ALogLevel.WARNING, samplePolicy.mSampleLevel);
+        builder.overflowPolicy(ALogFileOverflowPolicy.block());
+        assertEquals(ALogFileOverflowPolicy.Type.BLOCK, builder.build().mOverflowPolicy.mType);
+    }
+
+    @Test
+    public void testBuilder_Batching() {
+        ALogFileConfiguration.Builder builder = ALogFileConfiguration.builder().single(FILE_PATH, true);
+        ALogFileConfiguration defaultConfiguration = builder.build();
+        assertFalse(defaultConfiguration.mIsBatchingEnabled);
+        assertEquals(0L, defaultConfiguration.mFlushInterval);
+        assertEquals(32 * 1024, defaultConfiguration.mFlushSizeThreshold);
+        assertEquals(ALogLevel.ERROR, defaultConfiguration.mImmediateFlushLevel);
+        builder.batchingEnabled(true)
+               .flushInterval(500L)
+               .flushSizeThreshold(4096)
+               .immediateFlushLevel(null);
+        ALogFileConfiguration configuration = builder.build();
+        assertTrue(configuration.mIsBatchingEnabled);
+        assertEquals(500L, configuration.mFlushInterval);
+        assertEquals(4096, configuration.mFlushSizeThreshold);
+        assertNull(configuration.mImmediateFlushLevel);
+        builder.flushInterval(-1L).flushSizeThreshold(-1);
+        assertEquals(0L, builder.build().mFlushInterval);
+        assertEquals(0, builder.build().mFlushSizeThreshold);
+    }
+
+    @Test
+    public void testBuilder_OutputMode() {
+        ALogFileConfiguration.Builder builder = ALogFileConfiguration.builder().single(FILE_PATH, true);
+        builder.outputMode(ALogFileOutputMode.CHANNEL);
+        assertTrue(builder.build().mWriter instanceof SingleALogFileWriter);
+        builder.chunked(DIRECTORY_PATH, 1024L, 4, chunkIndex -> "chunk" + chunkIndex + ".log");
+        assertTrue(builder.build().mWriter instanceof ChunkedALogFileWriter);
+    }
+
+    @Test
+    public void testBuilder_OutputModeMemoryMapped() {
+        ALogFileConfiguration.Builder builder = ALogFileConfiguration.builder().outputMode(ALogFileOutputMode.MEMORY_MAPPED);
+        builder.chunked(DIRECTORY_PATH, 1024L, 4, chunkIndex -> "chunk" + chunkIndex + ".log");
+        assertTrue(builder.build().mWriter instanceof ChunkedALogFileWriter);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilder_OutputModeMemoryMappedSingle() {
+        ALogFileConfiguration.builder().single(FILE_PATH, true).outputMode(ALogFileOutputMode.MEMORY_MAPPED).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilder_OutputModeNull() {
+        ALogFileConfiguration.builder().outputMode(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOverflowPolicy_SampleRateNotPositive() {
+        ALogFileOverflowPolicy.sample(0, ALogLevel.INFO);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link ALogFormatTemplate} unit tests.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public class ALogFormatTemplateTest extends BaseTest {
+    private static final String[] FORMATS = new String[] {
+            "%s", "%5s", "%-5s|", "%.2s", "%7.3s", "%-7.3s|",
+            "%d", "%8d", "%-8d|", "%08d",
+            "%x", "%X", "%10x", "%-10X|", "%010x",
+            "%f", "%.0f", "%.1f", "%.3f", "%12.4f", "%-12.2f|", "%012.3f",
+            "%b", "%6b", "%.2b", "%c", "%3c",
+    };
+
+    private ALogConfiguration mConfiguration;
+    private Locale mDefaultLocale;
+
+    @Before
+    public void setUp() {
+        mConfiguration = ALogConfiguration.builder().build();
+        mDefaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+    }
+
+    @After
+    public void tearDown() {
+        Locale.setDefault(mDefaultLocale);
+    }
+
+    @Test
+    public void testGet_Cached() {
+        ALogFormatTemplate template = ALogFormatTemplate.get("Message %d");
+        assertSame(template, ALogFormatTemplate.get("Message %d"));
+        assertTrue(template.isSupported());
+        StringBuilder longFormat = new StringBuilder();
+        while (longFormat.length() <= ALogFormatTemplate.MAX_CACHED_FORMAT_LENGTH) {
+            longFormat.append("Message %d ");
+        }
+        String format = longFormat.toString();
+        assertNotSame(ALogFormatTemplate.get(format), ALogFormatTemplate.get(format));
+    }
+
+    @Test
+    public void testGet_NotSupported() {
+        assertFalse(ALogFormatTemplate.get("%,d").isSupported());
+        assertFalse(ALogFormatTemplate.get("%+d").isSupported());
+        assertFalse(ALogFormatTemplate.get("%e").isSupported());
+        assertFalse(ALogFormatTemplate.get("%S").isSupported());
+        assertFalse(ALogFormatTemplate.get("%<s").isSupported());
+        assertFalse(ALogFormatTemplate.get("%-s").isSupported());
+        assertFalse(ALogFormatTemplate.get("%05s").isSupported());
+        assertFalse(ALogFormatTemplate.get("%.2d").isSupported());
+        assertFalse(ALogFormatTemplate.get("Message %").isSupported());
+    }
+
+    @Test
+    public void testAppendFormatted_Primitives() {
+        Object[] values = new Object[] {
+                0, 7, -7, Integer.MAX_VALUE, Integer.MIN_VALUE, 0L, -123456789012L, Long.MIN_VALUE,
+                (byte) -1, (short) -300, 'x', true, false, 1.5f, -2.25, 0.0, -0.0, 0.5, 0.05,
+                0.125, 1.005, 9.9999, 99.95, 1.0e-7, 1.0e20, 123456.789, "text", null,
+        };
+        for (String format : FORMATS) {
+            for (Object value : values) {
+                assertFormatted(format, value);
+            }
+        }
+    }
+
+    @Test
+    public void testAppendFormatted_RandomDoubles() {
+        Random random = new Random(42L);
+        String[] formats = new String[] {"%f", "%.0f", "%.1f", "%.2f", "%.5f", "%.10f"};
+        for (int i = 0; i < 2000; ++i) {
+            double value = (random.nextDouble() - 0.5) * Math.pow(10.0, random.nextInt(24) - 12);
+            for (String format : formats) {
+                assertFormatted(format, value);
+                assertFormatted(format, (float) value);
+            }
+        }
+    }
+
+    @Test
+    public void testAppendFormatted_Message() {
+        assertFormatted("Values: %d, %s, %2$s, %1$05d%%%n", 42, "title");
+        assertFormatted("Value: %s, %s", 1, 2, 3);
+        assertFormatted("Array: %s", (Object) new int[] {1, 2, 3});
+        assertFormatted("%s", (Object) null);
+    }
+
+    @Test
+    public void testAppendFormatted_FallBack() {
+        assertFormatted("Values: %,d %+.2e", 1234567, 1.5);
+        assertFormatted("Value: %05.1f", Double.NaN);
+        Locale.setDefault(Locale.GERMANY);
+        assertFormatted("Values: %d %.2f", 1234567, 1.5);
+    }
+
+    @Test
+    public void testAppendFormatted_Invalid() {
+        assertFormatFails("Value: %d", "text");
+        assertFormatFails("Value: %c", "text");
+        assertFormatFails("Values: %s %s", 1);
+    }
+
+    @Test
+    public void testAppendFormatted_Arguments() {
+        StringBuilder builder = new StringBuilder("Prefix ");
+        ALogArguments arguments = ALogArguments.obtain().add(255).add(255).add(-1L).add(2.5);
+        ALogFormatTemplate.appendFormatted(builder, "%d %04x %d %.2f", arguments, mConfiguration);
+        arguments.recycle();
+        assertEquals("Prefix 255 00ff -1 2.50", builder.toString());
+        builder.setLength(0);
+        arguments = ALogArguments.obtain().add((byte) -1).add((short) -1);
+        ALogFormatTemplate.appendFormatted(builder, "%x %1$+d %x", arguments, mConfiguration);
+        arguments.recycle();
+        assertEquals("ff -1 ffff", builder.toString());
+    }
+
+    private void assertFormatted(String format, Object... arguments) {
+        String expected;
+        try {
+            expected = Utils.formatMessageWithArguments(format, arguments.clone(), mConfiguration);
+        } catch (RuntimeException e) {
+            assertFormatFails(format, arguments);
+            return;
+        }
+        StringBuilder builder = new StringBuilder();
+        ALogFormatTemplate.appendFormatted(builder, format, arguments.clone(), mConfiguration);
+        assertEquals(format + " " + arguments[0], expected, builder.toString());
+    }
+
+    private void assertFormatFails(String format, Object... arguments) {
+        try {
+            ALogFormatTemplate.appendFormatted(new StringBuilder(), format, arguments, mConfiguration);
+        } catch (RuntimeException e) {
+            return;
+        }
+        throw new AssertionError(format + " must fail");
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+/**
+ * {@link ALogFormatterGuard} unit tests.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public class ALogFormatterGuardTest extends BaseTest {
+    @Test
+    public void testMaxElementCount() {
+        ALogConfiguration configuration = ALogConfiguration.builder()
+                .formatterMaxElementCount(2)
+                .build();
+        assertEquals("Array(size = 5) [1, 2, ... (3 more)]",
+                Utils.formatArgument(new int[] {1, 2, 3, 4, 5}, configuration));
+        assertEquals("Array(size = 2) [a, b]",
+                Utils.formatArgument(new String[] {"a", "b"}, configuration));
+        assertEquals("java.util.ArrayList(size = 3) [1, 2, ... (1 more)]",
+                Utils.formatArgument(new ArrayList<>(Arrays.asList(1, 2, 3)), configuration));
+        Map<Integer, Integer> map = new HashMap<>();
+        map.put(1, 1);
+        map.put(2, 2);
+        map.put(3, 3);
+        assertEquals("java.util.HashMap(size = 3) [{1 -> 1}, {2 -> 2}, ... (1 more)]",
+                Utils.formatArgument(map, configuration));
+        Iterable<Integer> iterable = new Iterable<Integer>() {
+            private final List<Integer> mList = Arrays.asList(1, 2, 3);
+
+            @Override
+            public java.util.Iterator<Integer> iterator() {
+                return mList.iterator();
+            }
+        };
+        assertEquals(iterable.getClass().getName() + "(size = 2+) [1, 2, ... (more)]",
+                Utils.formatArgument(iterable, configuration));
+    }
+
+    @Test
+    public void testMaxDepth() {
+        ALogConfiguration configuration = ALogConfiguration.builder()
+                .formatterMaxDepth(2)
+                .build();
+        Object argument = new Object[] {new Object[] {new int[] {1}, new int[0]}};
+        assertEquals("Array(size = 1) [Array(size = 2) [Array(size = 1) [...], Array(size = 0) []]]",
+                Utils.formatArgument(argument, configuration));
+    }
+
+    @Test
+    public void testMaxLength() {
+        ALogConfiguration configuration = ALogConfiguration.builder()
+                .formatterMaxLength(30)
+                .build();
+        int[] ints = new int[100000];
+        assertEquals("Array(size = 100000) [0, 0, 0, 0, ... (99996 more)]",
+                Utils.formatArgument(ints, configuration));
+        configuration = configuration.copyBuilder()
+                .formatterMaxLength(60)
+                .build();
+        StringBuilder builder = new StringBuilder("Prefix which is not counted: ");
+        Utils.appendArgument(builder, Collections.singletonList(ints), configuration);
+        assertEquals("Prefix which is not counted: java.util.Collections$SingletonList(size = 1) "
+                + "[Array(size = 100000) [... (100000 more)]]", builder.toString());
+    }
+
+    @Test
+    public void testCycle() {
+        ALogConfiguration configuration = ALogConfiguration.builder().build();
+        List<Object> list = new ArrayList<>();
+        Map<String, Object> map = new HashMap<>();
+        list.add(1);
+        list.add(map);
+        map.put("list", list);
+        Object[] array = new Object[1];
+        array[0] = array;
+        assertEquals("java.util.ArrayList(size = 2) [1, java.util.HashMap(size = 1) [{list -> <cycle>}]]",
+                Utils.formatArgument(list, configuration));
+        assertEquals("Array(size = 1) [<cycle>]", Utils.formatArgument(array, configuration));
+        assertEquals("java.util.ArrayList(size = 2) [1, 1]",
+                Utils.formatArgument(new ArrayList<>(Arrays.asList(1, 1)), configuration));
+    }
+}
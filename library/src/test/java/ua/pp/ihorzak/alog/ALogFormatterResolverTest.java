@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+/**
+ * {@link ALogFormatterResolver} unit tests.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public class ALogFormatterResolverTest extends BaseTest {
+    private interface Shape {}
+
+    private interface Polygon extends Shape {}
+
+    private interface Named {}
+
+    private static class Figure implements Named {}
+
+    private static class Square extends Figure implements Polygon {}
+
+    private static class ColoredSquare extends Square implements Serializable {}
+
+    @Test
+    public void testSubclass() {
+        ALogConfiguration configuration = ALogConfiguration.builder()
+                .formatter(Figure.class, ALogFormatter.create(object -> "Figure"))
+                .build();
+        assertEquals("Figure", Utils.formatArgument(new ColoredSquare(), configuration));
+    }
+
+    @Test
+    public void testInterface() {
+        ALogConfiguration configuration = ALogConfiguration.builder()
+                .formatter(Shape.class, ALogFormatter.create(object -> "Shape"))
+                .build();
+        assertEquals("Shape", Utils.formatArgument(new ColoredSquare(), configuration));
+    }
+
+    @Test
+    public void testMostSpecific() {
+        ALogConfiguration configuration = ALogConfiguration.builder()
+                .formatter(Object.class, ALogFormatter.create(object -> "Object"))
+                .formatter(Shape.class, ALogFormatter.create(object -> "Shape"))
+                .formatter(Polygon.class, ALogFormatter.create(object -> "Polygon"))
+                .build();
+        assertEquals("Polygon", Utils.formatArgument(new ColoredSquare(), configuration));
+        assertEquals("Object", Utils.formatArgument(new Figure(), configuration));
+        configuration = configuration.copyBuilder()
+                .formatter(Square.class, ALogFormatter.create(object -> "Square"))
+                .build();
+        assertEquals("Square", Utils.formatArgument(new ColoredSquare(), configuration));
+        assertEquals("Object", Utils.formatArgument(new Figure(), configuration));
+    }
+
+    @Test
+    public void testBuiltInFormatters() {
+        ALogConfiguration configuration = ALogConfiguration.builder()
+                .formatter(Object.class, ALogFormatter.create(object -> "Object"))
+                .collectionFormatterEnabled(false)
+                .build();
+        assertEquals("java.util.ArrayList(size = 2) [Object, Object]",
+                Utils.formatArgument(new ArrayList<>(Arrays.asList(1, 2)), configuration));
+    }
+
+    @Test
+    public void testBoxedPrimitiveElements() {
+        ALogConfiguration configuration = ALogConfiguration.builder()
+                .formatter(Number.class, ALogFormatter.create(object -> "Number " + object))
+                .build();
+        assertEquals("java.util.ArrayList(size = 2) [Number 1, Number 2]",
+                Utils.formatArgument(new ArrayList<>(Arrays.asList(1, 2)), configuration));
+        Map<Class<?>, ALogFormatter<?>> formatterMap = new HashMap<>();
+        ALogFormatter<Integer> integerFormatter = ALogFormatter.create(object -> "Integer " + object);
+        formatterMap.put(Integer.class, integerFormatter);
+        ALogFormatterResolver resolver = new ALogFormatterResolver(ALogConfiguration.builder().build(), formatterMap);
+        assertSame(integerFormatter, resolver.resolve(Integer.class));
+    }
+
+    @Test
+    public void testResolve_Cached() {
+        ALogConfiguration configuration = ALogConfiguration.builder().build();
+        ALogFormatterResolver resolver = configuration.mFormatterResolver;
+        assertSame(ALogFormatterResolver.TO_STRING_FORMATTER, resolver.resolve(Figure.class));
+        assertSame(resolver.resolve(ArrayList.class), resolver.resolve(ArrayList.class));
+        assertSame(configuration.mCollectionFormatter, resolver.resolve(ArrayList.class));
+    }
+}
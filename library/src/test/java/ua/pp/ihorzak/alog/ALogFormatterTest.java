@@ -20,6 +20,8 @@ import static org.junit.Assert.assertEquals;
 
 import org.junit.Test;
 
+import java.util.Collections;
+
 import ua.pp.ihorzak.alog.test.BaseTest;
 
 /**
@@ -45,4 +47,42 @@ public class ALogFormatterTest extends BaseTest {
         ALogFormatterDelegate<Object> objectFormatterDelegate = new ObjectALogFormatterDelegate(ALogConfiguration.builder().build());
         assertEquals(loggingString, formatter.format("Some logging message", objectFormatterDelegate));
     }
+
+    @Test
+    public void testCreateAppending() {
+        ALogFormatterAppendingDelegate<int[]> appendingDelegate = (builder, object, objectFormatterAppender) -> {
+            builder.append("Pair(");
+            objectFormatterAppender.appendLoggingString(builder, object[0]);
+            builder.append(", ");
+            objectFormatterAppender.appendLoggingString(builder, object[1]);
+            builder.append(')');
+        };
+        ALogFormatter<int[]> formatter = ALogFormatter.createAppending(appendingDelegate);
+        ALogFormatterDelegate<Object> objectFormatterDelegate = new ObjectALogFormatterDelegate(ALogConfiguration.builder().build());
+        assertEquals("Pair(1, 2)", formatter.format(new int[] {1, 2}, objectFormatterDelegate));
+        objectFormatterDelegate = object -> "<" + object + ">";
+        assertEquals("Pair(<1>, <2>)", formatter.format(new int[] {1, 2}, objectFormatterDelegate));
+    }
+
+    @Test
+    public void testAppendTo_Nested() {
+        ALogConfiguration configuration = ALogConfiguration.builder()
+                .formatter(StringBuilder.class, ALogFormatter.<StringBuilder>createAppending(
+                        (builder, object, objectFormatterAppender) -> builder.append('\'').append(object).append('\'')
+                ))
+                .build();
+        Object argument = new Object[] {
+                Collections.singletonList(new StringBuilder("a")),
+                Collections.singletonMap("key", new int[] {1}),
+                null
+        };
+        StringBuilder builder = new StringBuilder("Value: ");
+        Utils.appendArgument(builder, argument, configuration);
+        assertEquals(
+                "Value: Array(size = 3) [java.util.Collections$SingletonList(size = 1) ['a'], "
+                        + "java.util.Collections$SingletonMap(size = 1) [{key -> Array(size = 1) [1]}], null]",
+                builder.toString()
+        );
+        assertEquals(builder.substring("Value: ".length()), Utils.formatArgument(argument, configuration));
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static ua.pp.ihorzak.alog.test.Utils.assertLogEquals;
+
+import android.util.Log;
+
+import org.junit.Test;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+/**
+ * {@link ALogHexDump} unit tests.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public class ALogHexDumpTest extends BaseTest {
+    private static final String ROW_0 = "00000000  00 01 02 03 04 05 06 07  08 09 0A 0B 0C 0D 0E 0F  |................|";
+    private static final String ROW_1 = "00000010  41 42 43 44 45 46 47 48  49 4A 4B 4C 4D 4E 4F 50  |ABCDEFGHIJKLMNOP|";
+    private static final String ROW_2 = "00000020  7E 7F FF 20                                       |~.. |";
+
+    @Test
+    public void testAppendChunk() {
+        ALogHexDump hexDump = new ALogHexDump(createBytes(), 0);
+        assertTrue(hexDump.isAtStart());
+        StringBuilder builder = new StringBuilder();
+        assertFalse(hexDump.appendChunk(builder));
+        assertFalse(hexDump.isAtStart());
+        assertEquals(ROW_0 + '\n' + ROW_1 + '\n' + ROW_2, builder.toString());
+    }
+
+    @Test
+    public void testAppendChunk_MaxByteCount() {
+        ALogHexDump hexDump = new ALogHexDump(createBytes(), 20);
+        StringBuilder builder = new StringBuilder();
+        assertFalse(hexDump.appendChunk(builder));
+        assertEquals(ROW_0 + '\n'
+                + "00000010  41 42 43 44                                       |ABCD|\n"
+                + "... 16 bytes omitted", builder.toString());
+    }
+
+    @Test
+    public void testAppendChunk_Chunks() {
+        byte[] bytes = new byte[ALogHexDump.BYTES_PER_ROW * ALogHexDump.ROWS_PER_CHUNK * 2 + 1];
+        ALogHexDump hexDump = new ALogHexDump(bytes, 0);
+        StringBuilder builder = new StringBuilder();
+        assertTrue(hexDump.appendChunk(builder));
+        String[] rows = builder.toString().split("\n");
+        assertEquals(ALogHexDump.ROWS_PER_CHUNK, rows.length);
+        assertTrue(rows[ALogHexDump.ROWS_PER_CHUNK - 1].startsWith("000000F0  00"));
+        builder.setLength(0);
+        assertTrue(hexDump.appendChunk(builder));
+        assertTrue(builder.toString().startsWith("00000100  00"));
+        builder.setLength(0);
+        assertFalse(hexDump.appendChunk(builder));
+        assertTrue(builder.toString().startsWith("00000200  00" + "   "));
+    }
+
+    @Test
+    public void testHex_Chunks() {
+        ALog.initialize(
+                ALogConfiguration.builder()
+                        .tag("Test")
+                        .threadPrefixEnabled(false)
+                        .classPrefixEnabled(false)
+                        .methodPrefixEnabled(false)
+                        .lineLocationPrefixEnabled(false)
+                        .hexMaxByteCount(ALogHexDump.BYTES_PER_ROW * (ALogHexDump.ROWS_PER_CHUNK + 1))
+                        .build()
+        );
+        byte[] bytes = new byte[ALogHexDump.BYTES_PER_ROW * (ALogHexDump.ROWS_PER_CHUNK + 2)];
+        ALog.hex(ALogLevel.INFO, bytes);
+        StringBuilder firstChunk = new StringBuilder("Hex:");
+        for (int i = 0; i < ALogHexDump.ROWS_PER_CHUNK; ++i) {
+            firstChunk.append('\n').append(String.format("%08X", i * ALogHexDump.BYTES_PER_ROW))
+                    .append("  00 00 00 00 00 00 00 00  00 00 00 00 00 00 00 00  |................|");
+        }
+        assertLogEquals(Log.INFO, "Test",
+                firstChunk.toString(),
+                "00000100  00 00 00 00 00 00 00 00  00 00 00 00 00 00 00 00  |................|\n"
+                        + "... 16 bytes omitted");
+    }
+
+    private static byte[] createBytes() {
+        byte[] bytes = new byte[36];
+        for (int i = 0; i < 16; ++i) {
+            bytes[i] = (byte) i;
+            bytes[16 + i] = (byte) ('A' + i);
+        }
+        bytes[32] = '~';
+        bytes[33] = 0x7F;
+        bytes[34] = (byte) 0xFF;
+        bytes[35] = ' ';
+        return bytes;
+    }
+}
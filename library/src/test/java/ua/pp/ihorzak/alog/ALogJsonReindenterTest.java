@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.json.JSONException;
+import org.junit.Test;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+/**
+ * {@link ALogJsonReindenter} unit tests.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public class ALogJsonReindenterTest extends BaseTest {
+    @Test
+    public void testAppend_Nested() throws JSONException {
+        String json = "  {\"a\" :[1, -2.5e+3, {\"b\":null}, [], {}],\n\"c\":{\"d\":true,\"e\":false}}  ";
+        String expected = "{\n" +
+                "  \"a\": [\n" +
+                "    1,\n" +
+                "    -2.5e+3,\n" +
+                "    {\n" +
+                "      \"b\": null\n" +
+                "    },\n" +
+                "    [],\n" +
+                "    {}\n" +
+                "  ],\n" +
+                "  \"c\": {\n" +
+                "    \"d\": true,\n" +
+                "    \"e\": false\n" +
+                "  }\n" +
+                "}";
+        assertEquals(expected, append(json, 2, 0));
+        assertEquals("[\n1,\n[\n2\n]\n]", append("[1,[2]]", 0, 0));
+    }
+
+    @Test
+    public void testAppend_Strings() throws JSONException {
+        assertEquals("[\n  \"a\\\"b\\\\c\\/d\\u00e9\\n\",\n  \"\\u0009\"\n]",
+                append("[\"a\\\"b\\\\c\\/d\\u00e9\\n\", \"\t\"]", 2, 0));
+    }
+
+    @Test
+    public void testAppend_DeepNesting() throws JSONException {
+        StringBuilder json = new StringBuilder();
+        for (int i = 0; i < 10000; ++i) {
+            json.append('[');
+        }
+        for (int i = 0; i < 10000; ++i) {
+            json.append(']');
+        }
+        String result = append(json.toString(), 0, 0);
+        assertEquals(2 * 10000 + 2 * 9999, result.length());
+    }
+
+    @Test
+    public void testAppend_MaxLength() throws JSONException {
+        assertEquals("{\n  \"name\": \"Joh" + ALogJsonReindenter.TRUNCATION_MARKER,
+                append("{\"name\": \"John Doe\", \"invalid\"}", 2, 16));
+        assertEquals("[\n  1,\n  2\n]", append("[1, 2]", 2, 12));
+        assertEquals("[\n  1,\n  2\n" + ALogJsonReindenter.TRUNCATION_MARKER,
+                append("[1, 2]", 2, 11));
+    }
+
+    @Test
+    public void testAppend_Lenient() throws JSONException {
+        String json = "{a: 1, 'b c': 'd\"e\\'f', g : h i , j: [TRUE, Null, -0, 01, 1.5E-3, 1., tru], k: [1,,2,],}";
+        String expected = "{\n" +
+                "  \"a\": 1,\n" +
+                "  \"b c\": \"d\\\"e'f\",\n" +
+                "  \"g\": \"h i\",\n" +
+                "  \"j\": [\n" +
+                "    true,\n" +
+                "    null,\n" +
+                "    -0,\n" +
+                "    \"01\",\n" +
+                "    1.5E-3,\n" +
+                "    \"1.\",\n" +
+                "    \"tru\"\n" +
+                "  ],\n" +
+                "  \"k\": [\n" +
+                "    1,\n" +
+                "    null,\n" +
+                "    2\n" +
+                "  ]\n" +
+                "}";
+        assertEquals(expected, append(json, 2, 0));
+    }
+
+    @Test
+    public void testAppend_DuplicateNames() throws JSONException {
+        assertEquals("{\n  \"a\": 1,\n  \"a\": 2\n}", append("{\"a\":1,\"a\":2}", 2, 0));
+    }
+
+    @Test
+    public void testAppend_Invalid() {
+        assertInvalid("{\"a\":1 \"b\":2}", "Unterminated object at character 8 of {\"a\":1 \"b\":2}");
+        assertInvalid("{\"a\" 1}", "Expected ':' after name at character 6 of {\"a\" 1}");
+        assertInvalid("{:1}", "Expected name at character 2 of {:1}");
+        assertInvalid("{\"a\":=1}", "Unexpected character '=' at character 6 of {\"a\":=1}");
+        assertInvalid("{\"a\":1,,\"b\":2}", "Expected name at character 8 of {\"a\":1,,\"b\":2}");
+        assertInvalid("[\"a\\x\"]", "Invalid escape sequence at character 5 of [\"a\\x\"]");
+        assertInvalid("[\"abc", "Unterminated string at character 5 of [\"abc");
+        assertInvalid("[1", "End of input at character 2 of [1");
+        assertInvalid("[1] 2", "Unexpected character after JSON end at character 5 of [1] 2");
+    }
+
+    private static String append(String json, int indentSpaceCount, int maxLength) throws JSONException {
+        StringBuilder builder = new StringBuilder("Prefix");
+        ALogJsonReindenter.append(builder, json, 0, json.length(), indentSpaceCount, maxLength);
+        return builder.substring("Prefix".length()).trim();
+    }
+
+    private static void assertInvalid(String json, String message) {
+        try {
+            ALogJsonReindenter.append(new StringBuilder(), json, 0, json.length(), 2, 0);
+            fail("Exception is expected for " + json);
+        } catch (JSONException e) {
+            assertEquals(message, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static ua.pp.ihorzak.alog.test.Utils.assertLogEquals;
+import static ua.pp.ihorzak.alog.test.Utils.v;
+
+import android.util.Log;
+
+import org.junit.Test;
+import org.robolectric.shadows.ShadowLog;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+/**
+ * {@link ALogLevelOverrides} unit tests.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public class ALogLevelOverridesTest extends BaseTest {
+    @Test
+    public void testCreate_Empty() {
+        Map<String, ALogLevel> empty = Collections.emptyMap();
+        assertNull(ALogLevelOverrides.create(empty, empty));
+        assertNull(ALogConfiguration.builder().build().mLevelOverrides);
+    }
+
+    @Test
+    public void testResolve_Tag() {
+        Map<String, ALogLevel> tagLevels = new HashMap<>();
+        tagLevels.put("Net", ALogLevel.VERBOSE);
+        Map<String, ALogLevel> classLevels = new HashMap<>();
+        classLevels.put("com.example", ALogLevel.ERROR);
+        ALogLevelOverrides overrides = ALogLevelOverrides.create(tagLevels, classLevels);
+        assertEquals(ALogLevel.VERBOSE, overrides.resolve("Net", "com.example.Client"));
+        assertEquals(ALogLevel.ERROR, overrides.resolve("Other", "com.example.Client"));
+        assertNull(overrides.resolve("Other", null));
+        assertEquals(ALogLevel.VERBOSE.mMask | ALogLevel.DEBUG.mMask | ALogLevel.INFO.mMask
+                | ALogLevel.WARNING.mMask | ALogLevel.ERROR.mMask | ALogLevel.WTF.mMask,
+                overrides.mLevelMask);
+    }
+
+    @Test
+    public void testResolve_ClassPrefix() {
+        Map<String, ALogLevel> classLevels = new HashMap<>();
+        classLevels.put("com.example", ALogLevel.ERROR);
+        classLevels.put("com.example.net", ALogLevel.DEBUG);
+        classLevels.put("com.example.db.", ALogLevel.INFO);
+        ALogLevelOverrides overrides = ALogLevelOverrides.create(Collections.emptyMap(), classLevels);
+        assertTrue(overrides.needsCaller("Tag"));
+        assertEquals(ALogLevel.DEBUG, overrides.resolve("Tag", "com.example.net.Client"));
+        assertEquals(ALogLevel.DEBUG, overrides.resolve("Tag", "com.example.net.Client$Callback"));
+        assertEquals(ALogLevel.DEBUG, overrides.resolve("Tag", "com.example.net"));
+        assertEquals(ALogLevel.ERROR, overrides.resolve("Tag", "com.example.network.Client"));
+        assertEquals(ALogLevel.INFO, overrides.resolve("Tag", "com.example.db.Dao"));
+        assertNull(overrides.resolve("Tag", "com.examples.Client"));
+        // Cached result must be the same
+        assertEquals(ALogLevel.DEBUG, overrides.resolve("Tag", "com.example.net.Client"));
+        assertNull(overrides.resolve("Tag", "com.examples.Client"));
+    }
+
+    @Test
+    public void testNeedsCaller() {
+        Map<String, ALogLevel> tagLevels = new HashMap<>();
+        tagLevels.put("Net", ALogLevel.VERBOSE);
+        ALogLevelOverrides overrides = ALogLevelOverrides.create(tagLevels, Collections.emptyMap());
+        assertFalse(overrides.needsCaller("Net"));
+        assertFalse(overrides.needsCaller("Other"));
+        assertTrue(overrides.needsCaller(null));
+    }
+
+    @Test
+    public void testTagMinimalLevel() {
+        ALog.initialize(
+                ALogConfiguration.builder()
+                        .tag("Test")
+                        .minimalLevel(ALogLevel.WARNING)
+                        .tagMinimalLevel("Net", ALogLevel.VERBOSE)
+                        .tagMinimalLevel("Db", ALogLevel.ERROR)
+                        .threadPrefixEnabled(false)
+                        .classPrefixEnabled(false)
+                        .methodPrefixEnabled(false)
+                        .lineLocationPrefixEnabled(false)
+                        .build()
+        );
+        assertFalse(ALog.isLoggable(ALogLevel.VERBOSE));
+        ALogger netLogger = ALog.t("Net");
+        assertTrue(netLogger.isEnabled(ALogLevel.VERBOSE));
+        netLogger.v("Verbose message");
+        assertLogEquals(Log.VERBOSE, "Net", "Verbose message");
+        ALogger dbLogger = ALog.t("Db");
+        assertFalse(dbLogger.isEnabled(ALogLevel.WARNING));
+        int logCount = ShadowLog.getLogs().size();
+        dbLogger.w("Warning message");
+        ALog.d("Debug message");
+        assertEquals(logCount, ShadowLog.getLogs().size());
+        ALog.w("Warning message");
+        assertLogEquals(Log.WARN, "Test", "Warning message");
+    }
+
+    @Test
+    public void testTagMinimalLevel_AutoTag() {
+        ALog.initialize(
+                ALogConfiguration.builder()
+                        .minimalLevel(ALogLevel.INFO)
+                        .tagMinimalLevel("Utils", ALogLevel.VERBOSE)
+                        .threadPrefixEnabled(false)
+                        .classPrefixEnabled(false)
+                        .methodPrefixEnabled(false)
+                        .lineLocationPrefixEnabled(false)
+                        .build()
+        );
+        assertFalse(ALog.isLoggable(ALogLevel.VERBOSE));
+        ALogger autoTagLogger = ALog.t(null);
+        assertFalse(autoTagLogger.isEnabled(ALogLevel.VERBOSE));
+        // Tag of logging messages sent via test utilities is resolved to their class name
+        v(autoTagLogger, null, "Verbose message");
+        assertLogEquals(Log.VERBOSE, "Utils", "[] Verbose message");
+    }
+
+    @Test
+    public void testTagMinimalLevel_RuntimeMinimalLevel() {
+        ALog.initialize(
+                ALogConfiguration.builder()
+                        .tag("Test")
+                        .minimalLevel(ALogLevel.INFO)
+                        .tagMinimalLevel("Net", ALogLevel.VERBOSE)
+                        .threadPrefixEnabled(false)
+                        .classPrefixEnabled(false)
+                        .methodPrefixEnabled(false)
+                        .lineLocationPrefixEnabled(false)
+                        .build()
+        );
+        ALogger netLogger = ALog.t("Net");
+        ALog.setMinimalLevel(ALogLevel.ERROR);
+        assertFalse(netLogger.isEnabled(ALogLevel.VERBOSE));
+        assertFalse(ALog.isLoggable(ALogLevel.WARNING));
+        int logCount = ShadowLog.getLogs().size();
+        netLogger.v("Verbose message");
+        ALog.w("Warning message");
+        assertEquals(logCount, ShadowLog.getLogs().size());
+        netLogger.e("Error message");
+        assertLogEquals(Log.ERROR, "Net", "Error message");
+        ALog.resetRuntimeOverrides();
+        assertTrue(netLogger.isEnabled(ALogLevel.VERBOSE));
+        netLogger.v("Verbose message");
+        assertLogEquals(Log.VERBOSE, "Net", "Verbose message");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTagMinimalLevel_EmptyTag() {
+        ALogConfiguration.builder().tagMinimalLevel("", ALogLevel.DEBUG);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testClassMinimalLevel_NullLevel() {
+        ALogConfiguration.builder().classMinimalLevel("com.example", null);
+    }
+}
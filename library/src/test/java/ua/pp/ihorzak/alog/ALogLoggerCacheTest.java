@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static ua.pp.ihorzak.alog.test.Utils.assertLogEquals;
+
+import android.util.Log;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+/**
+ * {@link ALogLoggerCache} unit tests.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public class ALogLoggerCacheTest extends BaseTest {
+    @Before
+    public void setUp() {
+        ALog.initialize(
+                ALogConfiguration.builder()
+                        .tag("Test")
+                        .threadPrefixEnabled(false)
+                        .methodPrefixEnabled(false)
+                        .lineLocationPrefixEnabled(false)
+                        .build()
+        );
+    }
+
+    @Test
+    public void testDerivedLoggers_Cached() {
+        ALogger tagLogger = ALog.t("Net");
+        assertSame(tagLogger, ALog.t("Net"));
+        assertNotSame(tagLogger, ALog.t("Db"));
+        assertNotSame(tagLogger, ALog.tb("Net"));
+        assertSame(ALog.st(2), ALog.st(2));
+        assertSame(ALog.tst("Net", 2), ALog.tst("Net", 2));
+        assertNotSame(ALog.st(2), ALog.tst("Net", 2));
+        assertSame(ALog.b(), ALog.b());
+        assertSame(ALog.tb("Net"), ALog.tb("Net"));
+        ALogFormatter<String> formatter = ALogFormatter.create((ALogFormatterDelegate<String>) object -> "Formatted");
+        assertSame(ALog.formatter(String.class, formatter), ALog.formatter(String.class, formatter));
+        Map<Class<?>, ALogFormatter<?>> formatterMap = new HashMap<>();
+        formatterMap.put(String.class, formatter);
+        ALogger formattersLogger = ALog.formatters(formatterMap);
+        assertSame(formattersLogger, ALog.formatters(formatterMap));
+        formatterMap.put(StringBuilder.class, formatter);
+        assertNotSame(formattersLogger, ALog.formatters(formatterMap));
+
+        tagLogger.d("Message");
+        assertLogEquals(Log.DEBUG, "Net", "Message");
+        ALog.tb("Db").d("Message");
+        assertLogEquals(Log.DEBUG, "Db", "Message");
+    }
+
+    @Test
+    public void testDerivedLoggers_InvalidatedOnInitialize() {
+        ALogger tagLogger = ALog.t("Net");
+        ALog.initialize(ALogConfiguration.builder().tag("Other").build());
+        assertNotSame(tagLogger, ALog.t("Net"));
+    }
+
+    @Test
+    public void testGet_Bounded() {
+        ALogLoggerCache cache = new ALogLoggerCache();
+        ALogConfiguration configuration = ALogConfiguration.builder().build();
+        for (int i = 0; i < 1000; ++i) {
+            cache.get(configuration, new ALogLoggerCache.Key(ALogLoggerCache.TYPE_TAG, "Tag" + i, 0, null, null));
+        }
+        assertTrue(cache.size() <= 64);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import org.junit.Test;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link ALogMessageBuffer} unit tests.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public class ALogMessageBufferTest extends BaseTest {
+    @Test
+    public void testObtain() {
+        ALogMessageBuffer buffer = ALogMessageBuffer.obtain();
+        ALogMessageBuffer nestedBuffer = ALogMessageBuffer.obtain();
+        assertNotSame(buffer, nestedBuffer);
+        nestedBuffer.recycle();
+        buffer.recycle();
+        assertSame(buffer, ALogMessageBuffer.obtain());
+        buffer.recycle();
+    }
+
+    @Test
+    public void testMessageView() {
+        ALogMessageBuffer buffer = ALogMessageBuffer.obtain();
+        buffer.mMessage.append("Message");
+        CharSequence view = buffer.mMessageView;
+        assertEquals(7, view.length());
+        assertEquals('M', view.charAt(0));
+        assertEquals("ess", view.subSequence(1, 4));
+        assertEquals("Message", view.toString());
+        buffer.recycle();
+        assertEquals(0, view.length());
+    }
+
+    @Test
+    public void testRecycle_HugeMessage() {
+        ALogMessageBuffer buffer = ALogMessageBuffer.obtain();
+        StringBuilder message = buffer.mMessage;
+        for (int i = 0; i <= ALogMessageBuffer.MAX_RETAINED_CAPACITY; ++i) {
+            buffer.mMessage.append('a');
+            buffer.mStackTrace.append('a');
+        }
+        buffer.recycle();
+        assertNotSame(message, buffer.mMessage);
+        assertEquals(0, buffer.mMessage.length());
+        assertEquals(0, buffer.mStackTrace.length());
+        assertTrue(buffer.mMessage.capacity() <= ALogMessageBuffer.MAX_RETAINED_CAPACITY);
+        assertTrue(buffer.mStackTrace.capacity() <= ALogMessageBuffer.MAX_RETAINED_CAPACITY);
+    }
+}
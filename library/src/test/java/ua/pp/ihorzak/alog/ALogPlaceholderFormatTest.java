@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import static ua.pp.ihorzak.alog.test.Utils.assertLogEquals;
+
+import android.util.Log;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+/**
+ * {@link ALogMessageFormat#PLACEHOLDER} logging message format unit tests.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public class ALogPlaceholderFormatTest extends BaseTest {
+    private static final String TAG = "Test";
+
+    @Before
+    public void setUp() {
+        ALogConfiguration configuration = ALogConfiguration.builder()
+                .tag(TAG)
+                .threadPrefixEnabled(false)
+                .methodPrefixEnabled(false)
+                .lineLocationPrefixEnabled(false)
+                .messageFormat(ALogMessageFormat.PLACEHOLDER)
+                .build();
+        ALog.initialize(configuration);
+    }
+
+    @Test
+    public void testArguments() {
+        ALog.d("Loaded {} items from {}", 42, "cache");
+        assertLogEquals(Log.DEBUG, TAG, "Loaded 42 items from cache");
+        ALog.d("Values: {}, {}, {}, {}", 1.5, 'x', true, null);
+        assertLogEquals(Log.DEBUG, TAG, "Values: 1.5, x, true, null");
+        ALog.d("Values: {}, {}", new int[] {1, 2}, 100000L);
+        assertLogEquals(Log.DEBUG, TAG, "Values: Array(size = 2) [1, 2], 100000");
+        ALog.d("Values: %d {}", 7);
+        assertLogEquals(Log.DEBUG, TAG, "Values: %d 7");
+    }
+
+    @Test
+    public void testArgumentsCountMismatch() {
+        ALog.i("Values: {}, {}", 1);
+        assertLogEquals(Log.INFO, TAG, "Values: 1, {}");
+        ALog.i("Value: {}", 1, 2, 3);
+        assertLogEquals(Log.INFO, TAG, "Value: 1");
+        ALog.i("Value: {}");
+        assertLogEquals(Log.INFO, TAG, "Value: {}");
+    }
+
+    @Test
+    public void testEscapedPlaceholder() {
+        ALog.w("Set \\{} contains {}", "a");
+        assertLogEquals(Log.WARN, TAG, "Set {} contains a");
+        ALog.w("Path C:\\\\{}", "dir");
+        assertLogEquals(Log.WARN, TAG, "Path C:\\dir");
+    }
+
+    @Test
+    public void testObject() {
+        ALog.e(new int[] {1, 2, 3});
+        assertLogEquals(Log.ERROR, TAG, "Array(size = 3) [1, 2, 3]");
+        ALog.e("Message with %s and {}");
+        assertLogEquals(Log.ERROR, TAG, "Message with %s and {}");
+    }
+}
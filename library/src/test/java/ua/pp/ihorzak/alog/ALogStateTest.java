@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static ua.pp.ihorzak.alog.test.Utils.assertLogEquals;
+
+import android.util.Log;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.robolectric.shadows.ShadowLog;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+/**
+ * {@link ALogState} and {@link ALog} runtime overrides unit tests.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public class ALogStateTest extends BaseTest {
+    private static final String TAG = "Test";
+
+    @Before
+    public void setUp() {
+        ALog.initialize(
+                ALogConfiguration.builder()
+                        .tag(TAG)
+                        .minimalLevel(ALogLevel.INFO)
+                        .threadPrefixEnabled(false)
+                        .methodPrefixEnabled(false)
+                        .lineLocationPrefixEnabled(false)
+                        .build()
+        );
+    }
+
+    @Test
+    public void testSetMinimalLevel() {
+        ALogger logger = ALog.t("Net");
+        assertFalse(ALog.isLoggable(ALogLevel.DEBUG));
+        assertFalse(logger.isEnabled(ALogLevel.DEBUG));
+        ALog.setMinimalLevel(ALogLevel.VERBOSE);
+        assertTrue(ALog.isLoggable(ALogLevel.VERBOSE));
+        assertTrue(logger.isEnabled(ALogLevel.VERBOSE));
+        logger.v("Verbose message");
+        assertLogEquals(Log.VERBOSE, "Net", "Verbose message");
+        ALog.setMinimalLevel(ALogLevel.ERROR);
+        assertFalse(ALog.isLoggable(ALogLevel.WARNING));
+        assertFalse(logger.isEnabled(ALogLevel.WARNING));
+        ALog.setMinimalLevel(null);
+        assertTrue(ALog.isLoggable(ALogLevel.INFO));
+        assertFalse(ALog.isLoggable(ALogLevel.DEBUG));
+    }
+
+    @Test
+    public void testSetMinimalLevel_Disabled() {
+        ALog.initialize(ALogConfiguration.builder().enabled(false).build());
+        ALog.setMinimalLevel(ALogLevel.VERBOSE);
+        assertFalse(ALog.isLoggable(ALogLevel.ERROR));
+    }
+
+    @Test
+    public void testSetPrefixEnabled() {
+        ALogger logger = ALog.b();
+        ALog.setThreadPrefixEnabled(true);
+        ALog.i("Message");
+        assertLogEquals(Log.INFO, TAG, "[" + Thread.currentThread().getName() + "] Message");
+        logger.i("Message");
+        assertLogEquals(Log.INFO, TAG, "[" + Thread.currentThread().getName() + "] Message");
+        ALog.setThreadPrefixEnabled(false);
+        ALog.i("Message");
+        assertLogEquals(Log.INFO, TAG, "Message");
+        ALog.setThreadPrefixEnabled(true);
+        ALog.resetRuntimeOverrides();
+        ALog.i("Message");
+        assertLogEquals(Log.INFO, TAG, "Message");
+    }
+
+    @Test
+    public void testSetLogcatOutputEnabled() {
+        ALog.setLogcatOutputEnabled(false);
+        int logCount = ShadowLog.getLogs().size();
+        ALog.e("Message");
+        assertEquals(logCount, ShadowLog.getLogs().size());
+        ALog.setLogcatOutputEnabled(true);
+        ALog.e("Message");
+        assertLogEquals(Log.ERROR, TAG, "Message");
+    }
+
+    @Test
+    public void testInitialize_ResetsOverrides() {
+        ALog.setMinimalLevel(ALogLevel.VERBOSE);
+        ALog.setLogcatOutputEnabled(false);
+        setUp();
+        assertFalse(ALog.isLoggable(ALogLevel.DEBUG));
+        ALog.i("Message");
+        assertLogEquals(Log.INFO, TAG, "Message");
+    }
+
+    @Test
+    public void testInitialize_LazyDoesNotOverwriteExplicit() {
+        ALogState explicitState = ALogState.get();
+        // Stale snapshot which lazy initialization could have read before explicit one
+        ALogState staleState = explicitState.withMinimalLevel(null);
+        ALogConfiguration configuration = ALogConfiguration.builder().build();
+        ALogState.initialize(staleState, configuration, new ConfigurationALogger(configuration));
+        assertSame(explicitState, ALogState.get());
+        ALog.i("Message");
+        assertLogEquals(Log.INFO, TAG, "Message");
+    }
+}
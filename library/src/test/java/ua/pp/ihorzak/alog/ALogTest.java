@@ -16,6 +16,8 @@
 
 package ua.pp.ihorzak.alog;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static ua.pp.ihorzak.alog.test.Utils.assertLogEquals;
 import static ua.pp.ihorzak.alog.test.Utils.assertLogStartsWith;
 import static ua.pp.ihorzak.alog.test.Utils.d;
@@ -29,6 +31,7 @@ import android.util.Log;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.robolectric.shadows.ShadowLog;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -60,6 +63,18 @@ public class ALogTest extends BaseTest {
         ALog.initialize(configuration);
     }
 
+    @Test
+    public void testIsLoggable() {
+        ALog.initialize(ALogConfiguration.builder().minimalLevel(ALogLevel.INFO).build());
+        assertTrue(ALog.isLoggable(ALogLevel.INFO));
+        assertFalse(ALog.isLoggable(ALogLevel.DEBUG));
+        assertTrue(ALog.t(TAG).isEnabled(ALogLevel.ERROR));
+        assertFalse(ALog.t(TAG).isEnabled(ALogLevel.VERBOSE));
+        ALog.initialize(ALogConfiguration.builder().enabled(false).build());
+        assertFalse(ALog.isLoggable(ALogLevel.WTF));
+        assertFalse(ALog.t(TAG).isEnabled(ALogLevel.WTF));
+    }
+
     @Test
     public void testV() {
         ALog.v();
@@ -180,6 +195,43 @@ public class ALogTest extends BaseTest {
         assertLogEquals(Log.VERBOSE, TAG, formattedMessage + '\n' + Log.getStackTraceString(throwable));
     }
 
+    @Test
+    public void testV_MessageSupplier() {
+        ALog.v(() -> "Message %s");
+        assertLogEquals(Log.VERBOSE, TAG, "Message %s");
+    }
+
+    @Test
+    public void testV_MessageSupplierThrowable() {
+        Throwable throwable = new RuntimeException();
+        ALog.v(throwable, () -> "Message");
+        assertLogEquals(Log.VERBOSE, TAG, "Message" + '\n' + Log.getStackTraceString(throwable));
+    }
+
+    @Test
+    public void testV_MessageSupplierLevelDisabled() {
+        ALog.initialize(ALogConfiguration.builder().minimalLevel(ALogLevel.DEBUG).build());
+        final boolean[] isCalled = new boolean[1];
+        ALog.v(() -> {
+            isCalled[0] = true;
+            return "Message";
+        });
+        assertFalse(isCalled[0]);
+        assertTrue(ShadowLog.getLogs().isEmpty());
+    }
+
+    @Test
+    public void testV_MessageSupplierLoggingDisabled() {
+        ALog.initialize(ALogConfiguration.builder().enabled(false).build());
+        final boolean[] isCalled = new boolean[1];
+        ALog.v(() -> {
+            isCalled[0] = true;
+            return "Message";
+        });
+        assertFalse(isCalled[0]);
+        assertTrue(ShadowLog.getLogs().isEmpty());
+    }
+
     @SuppressWarnings("SpellCheckingInspection")
     @Test
     public void testV_LongMessage() {
@@ -1139,17 +1191,17 @@ public class ALogTest extends BaseTest {
     public void testHex_SingleByte() {
         byte[] singleByte = {45};
         ALog.hex(singleByte);
-        assertLogEquals(null, null, "Hex:\n2D");
+        assertLogEquals(null, null, "Hex:\n00000000  2D                                                |-|");
         ALog.hex(ALogLevel.WARNING, singleByte);
-        assertLogEquals(Log.WARN, null, "Hex:\n2D");
+        assertLogEquals(Log.WARN, null, "Hex:\n00000000  2D                                                |-|");
     }
 
     @Test
     public void testHex_TenBytes() {
         byte[] tenBytes = {111, 32, 123, -128, 0, -100, 98, 127, 32, 10};
         ALog.hex(tenBytes);
-        assertLogEquals(null, null, "Hex:\n6F 20 7B 80 00 9C 62 7F 20 0A");
+        assertLogEquals(null, null, "Hex:\n00000000  6F 20 7B 80 00 9C 62 7F  20 0A                    |o {...b. .|");
         ALog.hex(ALogLevel.DEBUG, tenBytes);
-        assertLogEquals(Log.DEBUG, null, "Hex:\n6F 20 7B 80 00 9C 62 7F 20 0A");
+        assertLogEquals(Log.DEBUG, null, "Hex:\n00000000  6F 20 7B 80 00 9C 62 7F  20 0A                    |o {...b. .|");
     }
 }
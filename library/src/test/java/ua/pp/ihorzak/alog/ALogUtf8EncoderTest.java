@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * {@link ALogUtf8Encoder} unit tests.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public class ALogUtf8EncoderTest extends BaseTest {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Test
+    public void testEncode() {
+        assertEncoded("Message");
+        assertEncoded("\u041F\u043E\u0432\u0456\u0434\u043E\u043C\u043B\u0435\u043D\u043D\u044F");
+        assertEncoded("\u20AC \u00A9 \uD83D\uDE00 \uFFFF");
+        assertEncoded("\uD83D unpaired \uDE00 surrogates \uD83D");
+    }
+
+    @Test
+    public void testEncode_BufferFull() {
+        String message = "\uD83D\uDE00 \u041F\u043E\u0432\u0456\u0434\u043E\u043C\u043B\u0435\u043D\u043D\u044F";
+        ByteBuffer buffer = ByteBuffer.allocate(ALogUtf8Encoder.MAX_BYTES_PER_CODE_POINT + 1);
+        ByteBuffer result = ByteBuffer.allocate(64);
+        int index = 0;
+        while (index < message.length()) {
+            index = ALogUtf8Encoder.encode(message, index, message.length(), buffer);
+            buffer.flip();
+            result.put(buffer);
+            buffer.clear();
+        }
+        assertEquals(message.length(), index);
+        assertArrayEquals(message.getBytes(UTF_8), toByteArray(result));
+    }
+
+    private static void assertEncoded(String message) {
+        ByteBuffer buffer = ByteBuffer.allocate(message.getBytes(UTF_8).length);
+        assertEquals(message.length(), ALogUtf8Encoder.encode(message, 0, message.length(), buffer));
+        assertEquals(buffer.position(), ALogUtf8Encoder.getEncodedLength(message));
+        assertArrayEquals(message.getBytes(UTF_8), toByteArray(buffer));
+    }
+
+    private static byte[] toByteArray(ByteBuffer buffer) {
+        buffer.flip();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.xmlpull.v1.XmlPullParserException;
+
+import java.io.IOException;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+/**
+ * {@link ALogXmlFormatter} benchmark, which measures per call cost of large XML document
+ * formatting. It is excluded from the default test run and reports timings to the standard
+ * output when run manually. Output is checked by {@link ALogXmlFormatterTest}.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+@Ignore("Benchmark, run manually")
+public class ALogXmlFormatterBenchmarkTest extends BaseTest {
+    private static final int INDENT_SPACE_COUNT = 2;
+    private static final int WARM_UP_ITERATION_COUNT = 5;
+    private static final int ITERATION_COUNT = 20;
+    private static final int BOOK_COUNT = 2000;
+
+    @Test
+    public void testBenchmark() throws XmlPullParserException, IOException {
+        String catalog = createCatalog();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < WARM_UP_ITERATION_COUNT; ++i) {
+            builder.setLength(0);
+            ALogXmlFormatter.append(builder, catalog, INDENT_SPACE_COUNT);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATION_COUNT; ++i) {
+            builder.setLength(0);
+            ALogXmlFormatter.append(builder, catalog, INDENT_SPACE_COUNT);
+        }
+        long micros = (System.nanoTime() - start) / ITERATION_COUNT / 1000;
+        System.out.println("XML formatting of " + catalog.length() + " characters into "
+                + builder.length() + " characters: " + micros + " us per call");
+    }
+
+    private static String createCatalog() {
+        StringBuilder builder = new StringBuilder("<catalog xmlns:bk=\"http://www.example.com/ns/book\">");
+        for (int i = 0; i < BOOK_COUNT; ++i) {
+            builder.append("<bk:book id=\"bk").append(i).append("\" lang='en'>")
+                    .append("<author>Author ").append(i).append("</author>")
+                    .append("<title>Title &quot;").append(i).append("&quot;</title>")
+                    .append("<price>").append(i % 100).append(".95</price>")
+                    .append("<!-- Comment ").append(i).append(" -->")
+                    .append("<description><![CDATA[Description <").append(i).append(">]]></description>")
+                    .append("<empty/>")
+                    .append("</bk:book>");
+        }
+        return builder.append("</catalog>").toString();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import org.junit.Test;
+import org.xmlpull.v1.XmlPullParserException;
+
+import java.io.IOException;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * {@link ALogXmlFormatter} unit tests. Expected output is the output of previously used
+ * formatting, which created new pull parser per call and kept nesting state in stack and sparse
+ * arrays.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public class ALogXmlFormatterTest extends BaseTest {
+    private static final int INDENT_SPACE_COUNT = 2;
+
+    @Test
+    public void testAppend() throws XmlPullParserException, IOException {
+        String xml = "<catalog xmlns:bk=\"http://www.example.com/ns/book\">" +
+                "<bk:book id=\"bk1\" lang='en'>" +
+                "<author>Author</author>" +
+                "<title>Title &quot;1&quot;</title>" +
+                "<!-- Comment -->" +
+                "<description><![CDATA[Description <1>]]></description>" +
+                "<empty/>" +
+                "</bk:book>" +
+                "</catalog>";
+        String formattedXml = "<catalog xmlns:bk=\"http://www.example.com/ns/book\"\n" +
+                ">\n" +
+                "  <bk:book id=\"bk1\"\n" +
+                "           lang=\"en\">\n" +
+                "    <author>Author</author>\n" +
+                "    <title>Title1</title>\n" +
+                "<!-- Comment -->    <description><![CDATA[Description <1>]]></description>\n" +
+                "    <empty/>\n" +
+                "  </bk:book>\n" +
+                "</catalog>\n";
+        assertEquals(formattedXml, format(xml));
+        // Per-thread parser must be reusable
+        assertEquals(formattedXml, format(xml));
+    }
+
+    @Test
+    public void testAppend_NamespaceRedefinition() throws XmlPullParserException, IOException {
+        String xml = "<n0:item xmlns:n0=\"urn:a\" index=\"0\">" +
+                "<n1:item xmlns:n1=\"urn:b\" xmlns:xsi=\"urn:xsi\">" +
+                "<n0:item xmlns:n0=\"urn:c\"/>" +
+                "</n1:item>" +
+                "<n0:item/>" +
+                "</n0:item>";
+        String formattedXml = "<n0:item xmlns:n0=\"urn:a\"\n" +
+                "         index=\"0\">\n" +
+                "  <n1:item xmlns:n1=\"urn:b\"\n" +
+                "           xmlns:xsi=\"urn:xsi\"\n" +
+                ">\n" +
+                "    <n0:item xmlns:n0=\"urn:c\"\n" +
+                "/>\n" +
+                "  </n1:item>\n" +
+                "  <n0:item/>\n" +
+                "</n0:item>\n";
+        assertEquals(formattedXml, format(xml));
+    }
+
+    private static String format(String xml) throws XmlPullParserException, IOException {
+        StringBuilder builder = new StringBuilder();
+        ALogXmlFormatter.append(builder, xml, INDENT_SPACE_COUNT);
+        return builder.toString();
+    }
+}
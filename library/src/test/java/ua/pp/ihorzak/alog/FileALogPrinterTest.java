@@ -0,0 +1,298 @@
+/*
+ * Copyright 2026 Ihor Zakhozhyi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ua.pp.ihorzak.alog;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import ua.pp.ihorzak.alog.test.BaseTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link FileALogPrinter} unit tests.
+ *
+ * @author Ihor Zakhozhyi <ihorzak@gmail.com>
+ */
+public class FileALogPrinterTest extends BaseTest {
+    private static final String TAG = "Tag";
+    private static final long TIMEOUT_MILLIS = 5000L;
+
+    @Test
+    public void testOverflow_Block() throws InterruptedException {
+        StalledFileWriter writer = new StalledFileWriter();
+        FileALogPrinter printer = createStalledPrinter(writer, ALogFileOverflowPolicy.block());
+        Thread producer = startProducer(printer, ALogLevel.DEBUG, "Message 4");
+        awaitBlocked(producer);
+        writer.resume();
+        producer.join(TIMEOUT_MILLIS);
+        assertLines(writer, 5, "D Tag Message 0", "D Tag Message 1", "D Tag Message 2", "D Tag Message 3", "D Tag Message 4");
+    }
+
+    @Test
+    public void testOverflow_DropNewest() {
+        StalledFileWriter writer = new StalledFileWriter();
+        FileALogPrinter printer = createStalledPrinter(writer, ALogFileOverflowPolicy.dropNewest());
+        printer.print(ALogLevel.DEBUG, TAG, "Message 4");
+        printer.print(ALogLevel.DEBUG, TAG, "Message 5");
+        writer.resume();
+        assertLines(writer, 5, "D Tag Message 0", "D Tag Message 1", "D Tag Message 2", "D Tag Message 3", "W ALog 2 messages dropped");
+    }
+
+    @Test
+    public void testOverflow_DropOldest() throws InterruptedException {
+        StalledFileWriter writer = new StalledFileWriter();
+        FileALogPrinter printer = createStalledPrinter(writer, ALogFileOverflowPolicy.dropOldest());
+        // Writer still holds the slot of message 0, so only message 1 is dropped until it is released
+        Thread producer = startProducer(printer, ALogLevel.DEBUG, "Message 4");
+        awaitBlocked(producer);
+        writer.resume();
+        producer.join(TIMEOUT_MILLIS);
+        assertLines(writer, 5, "D Tag Message 0", "D Tag Message 2", "D Tag Message 3", "D Tag Message 4", "W ALog 1 messages dropped");
+    }
+
+    @Test
+    public void testOverflow_Sample() throws InterruptedException {
+        StalledFileWriter writer = new StalledFileWriter();
+        FileALogPrinter printer = createStalledPrinter(writer, ALogFileOverflowPolicy.sample(2, ALogLevel.ERROR));
+        // The first of each 2 overflowed messages is kept and blocks the caller
+        Thread producer = startProducer(printer, ALogLevel.DEBUG, "Message 4");
+        awaitBlocked(producer);
+        printer.print(ALogLevel.DEBUG, TAG, "Message 5");
+        writer.resume();
+        producer.join(TIMEOUT_MILLIS);
+        assertLines(writer, 6, "D Tag Message 0", "D Tag Message 1", "D Tag Message 2", "D Tag Message 3", "D Tag Message 4", "W ALog 1 messages dropped");
+    }
+
+    @Test
+    public void testFlush_NotBatched() {
+        RecordingFileWriter writer = new RecordingFileWriter();
+        FileALogPrinter printer = new FileALogPrinter(new ALogFileConfiguration(writer, 8, ALogFileOverflowPolicy.block(), false, 0L, 0, null));
+        for (int i = 0; i < 3; ++i) {
+            printer.print(ALogLevel.DEBUG, TAG, "Message " + i);
+        }
+        writer.awaitFlushCount(3);
+        assertEquals(3, writer.awaitLines(3).size());
+        assertEquals(3, writer.getFlushCount());
+    }
+
+    @Test
+    public void testFlush_Batch() throws InterruptedException {
+        StalledFileWriter writer = new StalledFileWriter();
+        FileALogPrinter printer = new FileALogPrinter(new ALogFileConfiguration(writer, 8, ALogFileOverflowPolicy.block(), true, 0L, Integer.MAX_VALUE, null));
+        printer.print(ALogLevel.DEBUG, TAG, "Message 0");
+        writer.awaitStalled();
+        for (int i = 1; i < 5; ++i) {
+            printer.print(ALogLevel.DEBUG, TAG, "Message " + i);
+        }
+        writer.resume();
+        // Batch is flushed once the queue is drained
+        writer.awaitFlushCount(1);
+        assertEquals(5, writer.awaitLines(5).size());
+        Thread.sleep(100L);
+        assertEquals(1, writer.getFlushCount());
+    }
+
+    @Test
+    public void testFlush_SizeThreshold() throws InterruptedException {
+        StalledFileWriter writer = new StalledFileWriter();
+        // Each line is 40 chars long, so threshold is exceeded by each 2 lines
+        FileALogPrinter printer = new FileALogPrinter(new ALogFileConfiguration(writer, 8, ALogFileOverflowPolicy.block(), true, TimeUnit.HOURS.toMillis(1L), 80, null));
+        printer.print(ALogLevel.DEBUG, TAG, "Message 0");
+        writer.awaitStalled();
+        for (int i = 1; i < 5; ++i) {
+            printer.print(ALogLevel.DEBUG, TAG, "Message " + i);
+        }
+        writer.resume();
+        writer.awaitFlushCount(2);
+        assertEquals(5, writer.awaitLines(5).size());
+        Thread.sleep(100L);
+        // The last line stays not flushed until flush interval elapses
+        assertEquals(2, writer.getFlushCount());
+    }
+
+    @Test
+    public void testFlush_Interval() {
+        RecordingFileWriter writer = new RecordingFileWriter();
+        long flushInterval = 300L;
+        FileALogPrinter printer = new FileALogPrinter(new ALogFileConfiguration(writer, 8, ALogFileOverflowPolicy.block(), true, flushInterval, Integer.MAX_VALUE, null));
+        long startNanos = System.nanoTime();
+        printer.print(ALogLevel.DEBUG, TAG, "Message 0");
+        writer.awaitLines(1);
+        assertEquals(0, writer.getFlushCount());
+        // Writer thread parks until flush interval elapses
+        writer.awaitFlushCount(1);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) >= flushInterval);
+    }
+
+    @Test
+    public void testFlush_ImmediateLevel() {
+        RecordingFileWriter writer = new RecordingFileWriter();
+        FileALogPrinter printer = new FileALogPrinter(new ALogFileConfiguration(writer, 8, ALogFileOverflowPolicy.block(), true, TimeUnit.HOURS.toMillis(1L), Integer.MAX_VALUE, ALogLevel.ERROR));
+        printer.print(ALogLevel.DEBUG, TAG, "Message 0");
+        writer.awaitLines(1);
+        assertEquals(0, writer.getFlushCount());
+        printer.print(ALogLevel.ERROR, TAG, "Message 1");
+        writer.awaitFlushCount(1);
+        assertEquals(2, writer.awaitLines(2).size());
+    }
+
+    /**
+     * Creates printer with the queue of 4 events and fills it while writer is stalled on the
+     * first message. Writer holds slot of message being written, so messages 1-3 fill the queue.
+     */
+    private static FileALogPrinter createStalledPrinter(StalledFileWriter writer, ALogFileOverflowPolicy overflowPolicy) {
+        FileALogPrinter printer = new FileALogPrinter(new ALogFileConfiguration(writer, 4, overflowPolicy, false, 0L, 0, null));
+        printer.print(ALogLevel.DEBUG, TAG, "Message 0");
+        writer.awaitStalled();
+        for (int i = 1; i < 4; ++i) {
+            printer.print(ALogLevel.DEBUG, TAG, "Message " + i);
+        }
+        return printer;
+    }
+
+    private static Thread startProducer(FileALogPrinter printer, ALogLevel level, String message) {
+        Thread producer = new Thread(() -> printer.print(level, TAG, message));
+        producer.start();
+        return producer;
+    }
+
+    private static void awaitBlocked(Thread producer) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (producer.getState() != Thread.State.TIMED_WAITING) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Producer thread is not blocked");
+            }
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Waits for expected count of written lines and checks them without date prefix. Dropped
+     * messages line can be written before the message of blocked producer, so it is checked
+     * separately from other lines.
+     */
+    private static void assertLines(RecordingFileWriter writer, int count, String... expectedLines) {
+        List<String> lines = writer.awaitLines(count);
+        assertEquals(expectedLines.length, lines.size());
+        List<String> expectedMessageLines = new ArrayList<>();
+        List<String> expectedDroppedLines = new ArrayList<>();
+        for (String expectedLine : expectedLines) {
+            (expectedLine.startsWith("W ALog ") ? expectedDroppedLines : expectedMessageLines).add(expectedLine + "\n");
+        }
+        List<String> messageLines = new ArrayList<>();
+        List<String> droppedLines = new ArrayList<>();
+        for (String line : lines) {
+            // Skip "yyyy-MM-dd HH:mm:ss.SSS " date prefix
+            String content = line.substring(24);
+            (content.startsWith("W ALog ") ? droppedLines : messageLines).add(content);
+        }
+        assertEquals(expectedMessageLines, messageLines);
+        assertEquals(expectedDroppedLines, droppedLines);
+    }
+
+    /**
+     * {@link ALogFileWriter} which records written lines and count of flushes.
+     */
+    private static class RecordingFileWriter implements ALogFileWriter {
+        private final List<String> mLines = new ArrayList<>();
+        private int mFlushCount;
+
+        @Override
+        public synchronized void write(CharSequence message) {
+            mLines.add(message.toString());
+            notifyAll();
+        }
+
+        @Override
+        public synchronized void flush() {
+            ++mFlushCount;
+            notifyAll();
+        }
+
+        synchronized List<String> awaitLines(int count) {
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (mLines.size() < count) {
+                long timeout = deadline - System.currentTimeMillis();
+                assertTrue("Lines are not written in time", timeout > 0L);
+                try {
+                    wait(timeout);
+                } catch (InterruptedException exception) {
+                    throw new AssertionError(exception);
+                }
+            }
+            return new ArrayList<>(mLines);
+        }
+
+        synchronized void awaitFlushCount(int flushCount) {
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (mFlushCount < flushCount) {
+                long timeout = deadline - System.currentTimeMillis();
+                assertTrue("Lines are not flushed in time", timeout > 0L);
+                try {
+                    wait(timeout);
+                } catch (InterruptedException exception) {
+                    throw new AssertionError(exception);
+                }
+            }
+        }
+
+        synchronized int getFlushCount() {
+            return mFlushCount;
+        }
+    }
+
+    /**
+     * {@link RecordingFileWriter} which stalls writing of the first line until
+     * {@link #resume()} call.
+     */
+    private static final class StalledFileWriter extends RecordingFileWriter {
+        private final CountDownLatch mStalledLatch = new CountDownLatch(1);
+        private final CountDownLatch mResumedLatch = new CountDownLatch(1);
+
+        @Override
+        public void write(CharSequence message) {
+            if (mStalledLatch.getCount() > 0L) {
+                mStalledLatch.countDown();
+                try {
+                    assertTrue(mResumedLatch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+                } catch (InterruptedException exception) {
+                    throw new AssertionError(exception);
+                }
+            }
+            super.write(message);
+        }
+
+        void awaitStalled() {
+            try {
+                assertTrue("Writer is not stalled in time", mStalledLatch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            } catch (InterruptedException exception) {
+                throw new AssertionError(exception);
+            }
+        }
+
+        void resume() {
+            mResumedLatch.countDown();
+        }
+    }
+}